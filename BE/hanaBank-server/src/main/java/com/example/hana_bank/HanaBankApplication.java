@@ -6,6 +6,7 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
@@ -15,6 +16,7 @@ import java.util.Map;
 @Slf4j
 @SpringBootApplication
 @ComponentScan(basePackages = "com.example.hana_bank")
+@EnableScheduling
 public class HanaBankApplication implements CommandLineRunner {
 
 	@Autowired
@@ -4,6 +4,7 @@ import com.example.hana_bank.dto.AccountCreateDto;
 import com.example.hana_bank.dto.ApiResponseDto;
 import com.example.hana_bank.dto.AccountDto;
 import com.example.hana_bank.dto.AccountsResponseDto;
+import com.example.hana_bank.dto.TransactionPageDto;
 import com.example.hana_bank.entity.Account;
 import com.example.hana_bank.entity.AccountTransaction;
 import com.example.hana_bank.service.AccountService;
@@ -293,12 +294,37 @@ public class AccountController {
         }
     }
 
+    @GetMapping("/{accountNumber}/transactions/cursor")
+    @Operation(summary = "거래내역 커서 조회", description = "커서(nextCursor) 기반으로 거래내역을 조회합니다. 기간/거래타입/카테고리 조건은 선택입니다.")
+    public ResponseEntity<ApiResponseDto<TransactionPageDto>> getTransactionsByCursor(
+            @Parameter(description = "계좌번호") @PathVariable String accountNumber,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "시작일 (YYYY-MM-DD HH:MM:SS)") @RequestParam(required = false) String startDate,
+            @Parameter(description = "종료일 (YYYY-MM-DD HH:MM:SS)") @RequestParam(required = false) String endDate,
+            @Parameter(description = "거래타입 (DEPOSIT, WITHDRAWAL, TRANSFER_OUT, TRANSFER_IN)") @RequestParam(required = false) String transactionType,
+            @Parameter(description = "카테고리 (RENT, MANAGEMENT_FEE, GENERAL)") @RequestParam(required = false) String category,
+            @Parameter(description = "조회 건수 (기본값: 20, 최대: 100)") @RequestParam(required = false, defaultValue = "20") Integer limit) {
+        try {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+            LocalDateTime start = startDate != null ? LocalDateTime.parse(startDate, formatter) : null;
+            LocalDateTime end = endDate != null ? LocalDateTime.parse(endDate, formatter) : null;
+
+            TransactionPageDto page = accountTransactionService.getTransactionsByCursor(
+                    accountNumber, start, end, transactionType, category, cursor, limit);
+            return ResponseEntity.ok(ApiResponseDto.success("거래내역 조회 성공", page));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponseDto.error("거래내역 조회 실패: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/{accountNumber}/transactions/count")
-    @Operation(summary = "거래내역 개수 조회", description = "계좌의 총 거래내역 개수를 조회합니다.")
+    @Operation(summary = "거래내역 개수 조회", description = "계좌의 총 거래내역 개수를 조회합니다. 카테고리를 지정하면 해당 카테고리 개수만 조회합니다.")
     public ResponseEntity<ApiResponseDto<Long>> getTransactionCount(
-            @Parameter(description = "계좌번호") @PathVariable String accountNumber) {
+            @Parameter(description = "계좌번호") @PathVariable String accountNumber,
+            @Parameter(description = "카테고리 (RENT, MANAGEMENT_FEE, GENERAL)") @RequestParam(required = false) String category) {
         try {
-            long count = accountTransactionService.getTransactionCount(accountNumber);
+            long count = accountTransactionService.getTransactionCount(accountNumber, category);
             return ResponseEntity.ok(ApiResponseDto.success("거래내역 개수 조회 성공", count));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -2,6 +2,8 @@ package com.example.hana_bank.controller;
 
 import com.example.hana_bank.dto.ApiResponseDto;
 import com.example.hana_bank.dto.LoanApplicationListDto;
+import com.example.hana_bank.dto.LoanApplicationPageDto;
+import com.example.hana_bank.dto.LoanApplicationSummaryDto;
 import com.example.hana_bank.dto.LoanReviewRequestDto;
 import com.example.hana_bank.service.LoanAdminService;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +34,35 @@ public class LoanAdminController {
         }
     }
 
+    @GetMapping("/applications/summaries")
+    public ResponseEntity<ApiResponseDto<LoanApplicationPageDto>> getLoanApplicationSummaries(
+            @RequestParam(required = false) String userCi,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String decision,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") Integer limit) {
+        try {
+            LoanApplicationPageDto page = loanAdminService.getLoanApplicationSummaries(
+                    userCi, status, decision, cursor, limit);
+            return ResponseEntity.ok(ApiResponseDto.success(page));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponseDto.error(e.getMessage()));
+        }
+    }
+
+    @GetMapping("/applications/{applicationKey}/summary")
+    public ResponseEntity<ApiResponseDto<LoanApplicationSummaryDto>> getLoanApplicationSummary(
+            @PathVariable String applicationKey) {
+        try {
+            LoanApplicationSummaryDto summary = loanAdminService.getLoanApplicationSummary(applicationKey);
+            return ResponseEntity.ok(ApiResponseDto.success(summary));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponseDto.error(e.getMessage()));
+        }
+    }
+
     @GetMapping("/applications/{id}")
     public ResponseEntity<ApiResponseDto<LoanApplicationListDto>> getLoanApplicationDetail(@PathVariable Long id) {
         try {
@@ -65,6 +65,20 @@ public class LoanContractController {
         }
     }
     
+    @PostMapping("/contracts/by-applications")
+    @Operation(summary = "신청 ID별 대출 계약 일괄 조회", description = "하나원큐리빙 신청 ID 목록에 해당하는 대출 계약을 한 번에 조회합니다.")
+    public ResponseEntity<ApiResponseDto<List<LoanContract>>> getLoanContractsByApplicationIds(
+            @RequestBody List<String> applicationIds) {
+        try {
+            List<LoanContract> contracts = loanContractService.getContractsByApplicationIds(applicationIds);
+            return ResponseEntity.ok(ApiResponseDto.success(contracts));
+        } catch (Exception e) {
+            log.error("신청 ID별 대출 계약 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponseDto.error(e.getMessage()));
+        }
+    }
+    
     @PutMapping("/contracts/{id}/status")
     @Operation(summary = "계약 상태 업데이트", description = "대출 계약의 상태를 업데이트합니다.")
     public ResponseEntity<ApiResponseDto<String>> updateContractStatus(
@@ -0,0 +1,18 @@
+package com.example.hana_bank.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanApplicationPageDto {
+    private List<LoanApplicationSummaryDto> applications;  // 대출 신청 요약 목록 (최신 신청순)
+    private String nextCursor;                              // 다음 페이지 커서 (마지막 페이지면 null)
+    private boolean hasNext;                                // 다음 페이지 존재 여부
+}
@@ -0,0 +1,26 @@
+package com.example.hana_bank.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대출 신청 요약 (승인 정보 조회/목록용 경량 응답)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanApplicationSummaryDto {
+    private Long applicationId;
+    private String applicationNumber;
+    private String userCi;
+    private String selectedLoanProduct; // 선택한 대출 상품명
+    private String status;
+    private String decision;
+    private Long approvedAmount;
+    private Double interestRate;
+    private Integer loanTerm; // 대출 기간 (개월)
+    private LocalDateTime submittedAt;
+}
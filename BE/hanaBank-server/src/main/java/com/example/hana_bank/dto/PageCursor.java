@@ -0,0 +1,49 @@
+package com.example.hana_bank.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Keyset 페이지 커서 (정렬 일시, id) - 클라이언트에는 불투명 토큰으로만 전달
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageCursor {
+    private LocalDateTime timestamp;    // 마지막으로 내려준 행의 정렬 일시
+    private Long id;                    // 마지막으로 내려준 행의 ID (동일 일시 정렬용)
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 정렬 일시 또는 id 가 없으면 decode 할 수 없는 토큰이 되므로 발급 시점에 거부
+     */
+    public String encode() {
+        if (timestamp == null || id == null) {
+            throw new IllegalStateException("정렬 일시와 ID가 없는 행으로는 커서를 만들 수 없습니다.");
+        }
+        String raw = timestamp + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            return new PageCursor(
+                    LocalDateTime.parse(raw.substring(0, idx)),
+                    Long.parseLong(raw.substring(idx + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.hana_bank.dto;
+
+import com.example.hana_bank.entity.AccountTransaction;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionPageDto {
+    private List<AccountTransaction> transactions;  // 거래내역 목록 (최신순)
+    private String nextCursor;                      // 다음 페이지 커서 (마지막 페이지면 null)
+    private boolean hasNext;                        // 다음 페이지 존재 여부
+}
@@ -65,6 +65,21 @@ public interface AccountTransactionMapper {
             @Param("offset") Integer offset
     );
 
+    /**
+     * 계좌 거래내역 커서 기반 조회 (created_at, id 내림차순)
+     * 기간/거래타입/카테고리 조건은 선택적으로 적용
+     */
+    List<AccountTransaction> findByAccountNumberAfterCursor(
+            @Param("accountNumber") String accountNumber,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("transactionType") String transactionType,
+            @Param("category") String category,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            @Param("fetchSize") Integer fetchSize
+    );
+
     /**
      * 계좌번호별 거래내역 개수 조회
      */
@@ -79,6 +94,14 @@ public interface AccountTransactionMapper {
             @Param("endDate") LocalDateTime endDate
     );
 
+    /**
+     * 계좌번호와 카테고리별 거래내역 개수 조회
+     */
+    long countByAccountNumberAndCategory(
+            @Param("accountNumber") String accountNumber,
+            @Param("category") String category
+    );
+
     /**
      * 상대방 계좌와의 거래내역 조회 (이체 내역)
      */
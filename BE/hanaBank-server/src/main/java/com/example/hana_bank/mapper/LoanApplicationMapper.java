@@ -1,10 +1,12 @@
 package com.example.hana_bank.mapper;
 
+import com.example.hana_bank.dto.LoanApplicationSummaryDto;
 import com.example.hana_bank.entity.LoanApplication;
 import com.example.hana_bank.entity.LoanApplicationDocument;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
@@ -22,6 +24,18 @@ public interface LoanApplicationMapper {
     // 대출 신청 상세 조회
     LoanApplication selectLoanApplicationById(@Param("applicationId") Long applicationId);
     
+    // 대출 신청 요약 단건 조회 (신청 ID 또는 신청번호)
+    LoanApplicationSummaryDto selectLoanApplicationSummary(@Param("applicationId") Long applicationId,
+                                                          @Param("applicationNumber") String applicationNumber);
+    
+    // 대출 신청 요약 목록 조회 (조건 필터 + submitted_at, application_id 기준 커서 페이지)
+    List<LoanApplicationSummaryDto> selectLoanApplicationSummaries(@Param("userCi") String userCi,
+                                                                  @Param("status") String status,
+                                                                  @Param("decision") String decision,
+                                                                  @Param("cursorSubmittedAt") LocalDateTime cursorSubmittedAt,
+                                                                  @Param("cursorId") Long cursorId,
+                                                                  @Param("fetchSize") Integer fetchSize);
+    
     // 대출 신청 서류 목록 조회
     List<LoanApplicationDocument> selectDocumentsByApplicationId(@Param("applicationId") Long applicationId);
     
@@ -22,4 +22,6 @@ public interface LoanContractMapper {
     List<LoanContract> findByScheduledDate(String scheduledDate);
     
     LoanContract findByOneQReference(String applicationId);
+    
+    List<LoanContract> findByApplicationReferenceIds(@Param("applicationIds") List<String> applicationIds);
 }
\ No newline at end of file
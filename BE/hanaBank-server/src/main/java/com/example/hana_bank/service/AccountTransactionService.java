@@ -1,5 +1,7 @@
 package com.example.hana_bank.service;
 
+import com.example.hana_bank.dto.PageCursor;
+import com.example.hana_bank.dto.TransactionPageDto;
 import com.example.hana_bank.entity.Account;
 import com.example.hana_bank.entity.AccountTransaction;
 import com.example.hana_bank.mapper.AccountMapper;
@@ -23,6 +25,8 @@ public class AccountTransactionService {
     private final AccountTransactionMapper accountTransactionMapper;
     private final AccountMapper accountMapper;
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     /**
      * 거래내역 생성 (일반적인 거래 기록용)
      */
@@ -204,15 +208,67 @@ public class AccountTransactionService {
         }
     }
 
+    /**
+     * 커서 기반 거래내역 조회 (깊은 페이지에서도 OFFSET 스캔 없이 인덱스 범위 조회)
+     */
+    @Transactional(readOnly = true)
+    public TransactionPageDto getTransactionsByCursor(String accountNumber,
+                                                      LocalDateTime startDate,
+                                                      LocalDateTime endDate,
+                                                      String transactionType,
+                                                      String category,
+                                                      String cursor,
+                                                      Integer limit) {
+        PageCursor after = PageCursor.decode(cursor);
+        int pageSize = (limit == null || limit <= 0) ? 20 : Math.min(limit, MAX_PAGE_SIZE);
+        try {
+            // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+            List<AccountTransaction> rows = accountTransactionMapper.findByAccountNumberAfterCursor(
+                    accountNumber, startDate, endDate, transactionType, category,
+                    after != null ? after.getTimestamp() : null,
+                    after != null ? after.getId() : null,
+                    pageSize + 1);
+
+            boolean hasNext = rows.size() > pageSize;
+            List<AccountTransaction> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+            String nextCursor = null;
+            if (hasNext) {
+                AccountTransaction last = page.get(page.size() - 1);
+                nextCursor = new PageCursor(last.getCreatedAt(), last.getId()).encode();
+            }
+
+            return TransactionPageDto.builder()
+                    .transactions(page)
+                    .nextCursor(nextCursor)
+                    .hasNext(hasNext)
+                    .build();
+        } catch (Exception e) {
+            log.error("커서 기반 거래내역 조회 실패: 계좌={}, 오류={}", accountNumber, e.getMessage(), e);
+            throw new RuntimeException("거래내역 조회에 실패했습니다: " + e.getMessage());
+        }
+    }
+
     /**
      * 거래내역 개수 조회
      */
     @Transactional(readOnly = true)
     public long getTransactionCount(String accountNumber) {
+        return getTransactionCount(accountNumber, null);
+    }
+
+    /**
+     * 거래내역 개수 조회 (카테고리 선택)
+     */
+    @Transactional(readOnly = true)
+    public long getTransactionCount(String accountNumber, String category) {
         try {
+            if (category != null && !category.isBlank()) {
+                return accountTransactionMapper.countByAccountNumberAndCategory(accountNumber, category);
+            }
             return accountTransactionMapper.countByAccountNumber(accountNumber);
         } catch (Exception e) {
-            log.error("거래내역 개수 조회 실패: 계좌={}, 오류={}", accountNumber, e.getMessage(), e);
+            log.error("거래내역 개수 조회 실패: 계좌={}, 카테고리={}, 오류={}", accountNumber, category, e.getMessage(), e);
             return 0;
         }
     }
@@ -10,11 +10,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.UUID;
 
 @Service
 public class GcpStorageService {
 
+    // 업로드 버퍼 크기 (GCS 재개 가능 업로드 청크 단위 256KiB)
+    private static final int UPLOAD_BUFFER_SIZE = 256 * 1024;
+
     @Autowired
     private Storage storage;
 
@@ -33,7 +37,11 @@ public class GcpStorageService {
                 .setContentType(file.getContentType())
                 .build();
         
-        Blob blob = storage.create(blobInfo, file.getBytes());
+        // 파일 전체를 메모리에 올리지 않고 고정 크기 버퍼로 스트리밍 업로드
+        Blob blob;
+        try (InputStream inputStream = file.getInputStream()) {
+            blob = storage.createFrom(blobInfo, inputStream, UPLOAD_BUFFER_SIZE);
+        }
         
         // 파일 URL 반환
         return blob.getMediaLink();
@@ -1,6 +1,9 @@
 package com.example.hana_bank.service;
 
 import com.example.hana_bank.dto.LoanApplicationListDto;
+import com.example.hana_bank.dto.LoanApplicationPageDto;
+import com.example.hana_bank.dto.LoanApplicationSummaryDto;
+import com.example.hana_bank.dto.PageCursor;
 import com.example.hana_bank.dto.LoanReviewRequestDto;
 import com.example.hana_bank.entity.LoanApplication;
 import com.example.hana_bank.entity.LoanContract;
@@ -32,6 +35,8 @@ public class LoanAdminService {
     private final LoanPaymentMapper loanPaymentMapper;
     private final AccountTransactionMapper accountTransactionMapper;
     private final UserMapper userMapper;
+
+    private static final int MAX_PAGE_SIZE = 100;
     
     public List<LoanApplicationListDto> getLoanApplicationList() {
         try {
@@ -69,6 +74,61 @@ public class LoanAdminService {
         }
     }
     
+    /**
+     * 대출 신청 요약 단건 조회 (신청 ID 또는 신청번호 LOAN-XXXXXXXX)
+     */
+    public LoanApplicationSummaryDto getLoanApplicationSummary(String applicationKey) {
+        Long applicationId = null;
+        String applicationNumber = null;
+        if (applicationKey.chars().allMatch(Character::isDigit)) {
+            applicationId = Long.valueOf(applicationKey);
+        } else {
+            applicationNumber = applicationKey;
+        }
+
+        LoanApplicationSummaryDto summary =
+                loanApplicationMapper.selectLoanApplicationSummary(applicationId, applicationNumber);
+        if (summary == null) {
+            throw new RuntimeException("대출 신청 정보를 찾을 수 없습니다. ID: " + applicationKey);
+        }
+        return summary;
+    }
+
+    /**
+     * 대출 신청 요약 목록 조회 (사용자/상태/결정 필터 + 커서 페이지)
+     */
+    public LoanApplicationPageDto getLoanApplicationSummaries(String userCi, String status, String decision,
+                                                             String cursor, Integer limit) {
+        PageCursor after = PageCursor.decode(cursor);
+        int pageSize = (limit == null || limit <= 0) ? 20 : Math.min(limit, MAX_PAGE_SIZE);
+        try {
+            // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+            List<LoanApplicationSummaryDto> rows = loanApplicationMapper.selectLoanApplicationSummaries(
+                    userCi, status, decision,
+                    after != null ? after.getTimestamp() : null,
+                    after != null ? after.getId() : null,
+                    pageSize + 1);
+
+            boolean hasNext = rows.size() > pageSize;
+            List<LoanApplicationSummaryDto> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+            String nextCursor = null;
+            if (hasNext) {
+                LoanApplicationSummaryDto last = page.get(page.size() - 1);
+                nextCursor = new PageCursor(last.getSubmittedAt(), last.getApplicationId()).encode();
+            }
+
+            return LoanApplicationPageDto.builder()
+                    .applications(page)
+                    .nextCursor(nextCursor)
+                    .hasNext(hasNext)
+                    .build();
+        } catch (Exception e) {
+            log.error("대출 신청 요약 목록 조회 중 오류 발생:", e);
+            throw new RuntimeException("대출 신청 목록 조회 중 오류가 발생했습니다.", e);
+        }
+    }
+    
     private LoanApplicationListDto convertToDto(LoanApplication application) {
         // 사용자 이름 조회 (UserMapper 사용)
         String userName = "N/A";
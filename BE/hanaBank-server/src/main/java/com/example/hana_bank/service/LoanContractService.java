@@ -14,6 +14,8 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 
 @Slf4j
 @Service
@@ -21,6 +23,8 @@ import java.util.ArrayList;
 public class LoanContractService {
     
     private final LoanContractMapper loanContractMapper;
+
+    private static final int IN_CLAUSE_BATCH_SIZE = 1000;
     
     /**
      * 하나원큐리빙에서 전송된 간단한 계약 정보 처리 (새로운 방식)
@@ -76,6 +80,23 @@ public class LoanContractService {
         return loanContractMapper.findAllLoanContracts();
     }
     
+    /**
+     * 신청 ID 목록에 해당하는 대출 계약 일괄 조회 (Oracle IN 절 1000개 제한으로 분할 조회)
+     */
+    public List<LoanContract> getContractsByApplicationIds(Collection<String> applicationIds) {
+        List<LoanContract> contracts = new ArrayList<>();
+        if (applicationIds == null || applicationIds.isEmpty()) {
+            return contracts;
+        }
+
+        List<String> ids = new ArrayList<>(new LinkedHashSet<>(applicationIds));
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_BATCH_SIZE) {
+            int to = Math.min(from + IN_CLAUSE_BATCH_SIZE, ids.size());
+            contracts.addAll(loanContractMapper.findByApplicationReferenceIds(ids.subList(from, to)));
+        }
+        return contracts;
+    }
+    
     /**
      * 계약 상태 업데이트
      */
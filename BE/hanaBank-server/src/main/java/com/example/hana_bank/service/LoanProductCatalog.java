@@ -0,0 +1,61 @@
+package com.example.hana_bank.service;
+
+import com.example.hana_bank.entity.LoanProduct;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 대출 상품 카탈로그 스냅샷 (불변)
+ * 상품 변경 시 새 인스턴스로 통째로 교체되며, 조회 측은 락 없이 참조만 한다.
+ * LoanProduct 는 가변 객체이므로 적재 시와 조회 시 모두 복사본을 사용해 스냅샷이 변경되지 않도록 한다.
+ */
+public final class LoanProductCatalog {
+
+    @Getter
+    private final long version;                         // 적재 순번 (재적재마다 증가)
+    @Getter
+    private final LocalDateTime loadedAt;               // 적재 시각
+    private final List<LoanProduct> activeProducts;     // ACTIVE 상품 (DB 조회 순서 유지)
+    private final Map<Long, LoanProduct> productsById;  // 전체 상품 (ID 기준)
+
+    LoanProductCatalog(long version, List<LoanProduct> allProducts) {
+        Map<Long, LoanProduct> byId = new LinkedHashMap<>();
+        for (LoanProduct product : allProducts) {
+            byId.put(product.getProductId(), copyOf(product));
+        }
+        this.version = version;
+        this.loadedAt = LocalDateTime.now();
+        this.productsById = Map.copyOf(byId);
+        this.activeProducts = byId.values().stream()
+                .filter(product -> "ACTIVE".equals(product.getStatus()))
+                .toList();
+    }
+
+    static LoanProductCatalog empty() {
+        return new LoanProductCatalog(0L, List.of());
+    }
+
+    /**
+     * ACTIVE 상품 복사본 목록 (DB 조회 순서 유지)
+     */
+    public List<LoanProduct> getActiveProducts() {
+        return activeProducts.stream().map(LoanProductCatalog::copyOf).toList();
+    }
+
+    public Optional<LoanProduct> findById(Long productId) {
+        return productId == null ? Optional.empty() : Optional.ofNullable(productsById.get(productId)).map(LoanProductCatalog::copyOf);
+    }
+
+    public int size() {
+        return productsById.size();
+    }
+
+    private static LoanProduct copyOf(LoanProduct product) {
+        return product.toBuilder().build();
+    }
+}
@@ -3,15 +3,21 @@ package com.example.hana_bank.service;
 import com.example.hana_bank.dto.LoanProductCreateDto;
 import com.example.hana_bank.entity.LoanProduct;
 import com.example.hana_bank.mapper.LoanProductMapper;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 @RequiredArgsConstructor
@@ -20,10 +26,45 @@ import java.util.Optional;
 public class LoanProductService {
     
     private final LoanProductMapper loanProductMapper;
+
+    // 상품 파라미터는 거의 변경되지 않으므로 메모리 카탈로그로 조회하고, 변경 시에만 재적재
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile LoanProductCatalog catalog = LoanProductCatalog.empty();
+
+    @PostConstruct
+    public void init() {
+        reloadCatalog();
+    }
+
+    /**
+     * 전체 상품을 한 번에 읽어 카탈로그를 원자적으로 교체
+     * - 재적재끼리 겹치면 먼저 읽은 스냅샷이 나중에 게시될 수 있으므로 직렬화 (조회 측은 락 없음)
+     * - DB 조회를 락 안에서 수행하므로 가상 스레드 고정(pinning)을 피하도록 synchronized 대신 ReentrantLock 사용
+     */
+    public void reloadCatalog() {
+        reloadLock.lock();
+        try {
+            List<LoanProduct> products = loanProductMapper.findAll();
+            LoanProductCatalog reloaded = new LoanProductCatalog(catalogVersion.incrementAndGet(), products);
+            catalog = reloaded;
+            log.info("대출 상품 카탈로그 적재 완료: version={}, 상품수={}",
+                    reloaded.getVersion(), reloaded.size());
+        } catch (Exception e) {
+            log.error("대출 상품 카탈로그 적재 실패: {}", e.getMessage(), e);
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    public LoanProductCatalog getCatalog() {
+        return catalog;
+    }
     
     public LoanProduct createLoanProduct(LoanProduct loanProduct) {
         loanProduct.setStatus("ACTIVE");
         loanProductMapper.insertLoanProduct(loanProduct);
+        reloadCatalogAfterCommit();
         return loanProduct;
     }
     
@@ -41,6 +82,7 @@ public class LoanProductService {
                 .build();
 
         loanProductMapper.insertLoanProduct(loanProduct);
+        reloadCatalogAfterCommit();
 
         return loanProduct;
     }
@@ -50,22 +92,24 @@ public class LoanProductService {
         return loanProductMapper.findAll();
     }
     
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<LoanProduct> getActiveLoanProducts() {
-        return loanProductMapper.findByStatus("ACTIVE");
+        return catalog.getActiveProducts();
     }
     
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Optional<LoanProduct> getLoanProductById(Long productId) {
-        return loanProductMapper.findById(productId);
+        return catalog.findById(productId);
     }
     
     public void updateLoanProduct(LoanProduct loanProduct) {
         loanProductMapper.updateLoanProduct(loanProduct);
+        reloadCatalogAfterCommit();
     }
     
     public void deleteLoanProduct(Long productId) {
         loanProductMapper.deleteLoanProduct(productId);
+        reloadCatalogAfterCommit();
     }
     
     public void deactivateLoanProduct(Long productId) {
@@ -74,6 +118,21 @@ public class LoanProductService {
             LoanProduct product = loanProduct.get();
             product.setStatus("INACTIVE");
             loanProductMapper.updateLoanProduct(product);
+            reloadCatalogAfterCommit();
+        }
+    }
+
+    // 커밋 이후에 재적재해야 롤백된 변경이 카탈로그에 반영되지 않음
+    private void reloadCatalogAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reloadCatalog();
+                }
+            });
+        } else {
+            reloadCatalog();
         }
     }
 }
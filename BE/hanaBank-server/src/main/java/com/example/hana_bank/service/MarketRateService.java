@@ -2,26 +2,63 @@ package com.example.hana_bank.service;
 
 import com.example.hana_bank.entity.MarketRate;
 import com.example.hana_bank.mapper.MarketRateMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+@Slf4j
 @Service
 public class MarketRateService {
 
     @Autowired
     private MarketRateMapper marketRateMapper;
 
+    // 금리 타입별 최신 활성 금리 스냅샷 (읽기는 락 없이 참조만, 갱신 시 통째로 교체)
+    private volatile Map<String, MarketRate> rateSnapshot = Collections.emptyMap();
+
+    @PostConstruct
+    public void init() {
+        refreshRates();
+    }
+
+    // 주기적 스냅샷 갱신 (기본 5분)
+    @Scheduled(fixedDelayString = "${market-rate.refresh-interval-ms:300000}",
+               initialDelayString = "${market-rate.refresh-interval-ms:300000}")
+    public void scheduledRefresh() {
+        refreshRates();
+    }
+
+    // 전체 활성 금리를 한 번의 쿼리로 읽어 스냅샷 교체
+    public void refreshRates() {
+        try {
+            Map<String, MarketRate> latest = new HashMap<>();
+            // EFFECTIVE_DATE DESC 정렬이므로 타입별 첫 행이 최신 금리
+            for (MarketRate rate : marketRateMapper.findAllActiveRates()) {
+                latest.putIfAbsent(rate.getRateType(), rate);
+            }
+            rateSnapshot = Map.copyOf(latest);
+        } catch (Exception e) {
+            // 갱신 실패 시 기존 스냅샷(또는 기본값) 유지
+            log.error("시장 금리 스냅샷 갱신 실패: {}", e.getMessage(), e);
+        }
+    }
+
     // 모든 활성 금리 조회
     public List<MarketRate> getAllActiveRates() {
         return marketRateMapper.findAllActiveRates();
     }
 
-    // 특정 금리 타입의 최신 활성 금리 조회
+    // 특정 금리 타입의 최신 활성 금리 조회 (스냅샷)
     public MarketRate getCurrentRate(String rateType) {
-        return marketRateMapper.findByRateType(rateType);
+        return rateSnapshot.get(rateType);
     }
 
     // COFIX 6개월 금리 조회
@@ -45,16 +82,19 @@ public class MarketRateService {
     // 금리 정보 입력
     public void insertRate(MarketRate marketRate) {
         marketRateMapper.insert(marketRate);
+        refreshRates();
     }
 
     // 금리 정보 수정
     public void updateRate(MarketRate marketRate) {
         marketRateMapper.update(marketRate);
+        refreshRates();
     }
 
     // 금리 상태 변경
     public void updateRateStatus(Long rateId, String status) {
         marketRateMapper.updateStatus(rateId, status);
+        refreshRates();
     }
 
     // 편의 메서드: 퍼센트 형태의 문자열로 반환
@@ -69,4 +109,4 @@ public class MarketRateService {
     public String getBaseRateAsString() {
         return String.format("%.2f%%", getBaseRate() * 100);
     }
-}
\ No newline at end of file
+}
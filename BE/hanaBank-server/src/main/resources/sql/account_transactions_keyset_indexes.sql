@@ -0,0 +1,16 @@
+-- ========================================
+-- 계좌 거래내역 커서(Keyset) 페이지네이션용 복합 인덱스
+-- 정렬키: (created_at DESC, id DESC)
+-- ========================================
+
+-- 기본 / 기간별 / 최근 거래내역
+CREATE INDEX IDX_ACCT_TXN_ACCT_CREATED
+    ON account_transactions (account_number, created_at DESC, id DESC);
+
+-- 거래타입별 거래내역
+CREATE INDEX IDX_ACCT_TXN_ACCT_TYPE_CREATED
+    ON account_transactions (account_number, transaction_type, created_at DESC, id DESC);
+
+-- 카테고리별 거래내역
+CREATE INDEX IDX_ACCT_TXN_ACCT_CAT_CREATED
+    ON account_transactions (account_number, category, created_at DESC, id DESC);
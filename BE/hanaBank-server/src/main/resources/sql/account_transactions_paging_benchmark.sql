@@ -0,0 +1,49 @@
+-- ========================================
+-- 거래내역 깊은 페이지 조회 비교 (OFFSET vs Keyset)
+-- 사용법: SET SERVEROUTPUT ON 후 p_account_number 를 거래가 많은 계좌로 바꿔 실행
+-- ========================================
+
+DECLARE
+    p_account_number  VARCHAR2(50) := '&account_number';
+    p_page_size       NUMBER := 20;
+    p_depth           NUMBER := 500;        -- 비교할 페이지 깊이
+    v_start           NUMBER;
+    v_offset_cs       NUMBER;
+    v_keyset_cs       NUMBER;
+    v_cursor_created  DATE;
+    v_cursor_id       NUMBER;
+    v_dummy           NUMBER;
+BEGIN
+    -- 1) OFFSET 방식: p_depth 번째 페이지 1회 조회
+    v_start := DBMS_UTILITY.GET_TIME;
+    SELECT COUNT(*) INTO v_dummy FROM (
+        SELECT id FROM account_transactions
+        WHERE account_number = p_account_number
+        ORDER BY created_at DESC, id DESC
+        OFFSET (p_depth - 1) * p_page_size ROWS FETCH NEXT p_page_size ROWS ONLY
+    );
+    v_offset_cs := DBMS_UTILITY.GET_TIME - v_start;
+
+    -- 2) Keyset 방식: 직전 페이지 마지막 행을 커서로 잡고 다음 페이지 1회 조회
+    SELECT created_at, id INTO v_cursor_created, v_cursor_id FROM (
+        SELECT created_at, id FROM account_transactions
+        WHERE account_number = p_account_number
+        ORDER BY created_at DESC, id DESC
+        OFFSET (p_depth - 1) * p_page_size - 1 ROWS FETCH NEXT 1 ROWS ONLY
+    );
+
+    v_start := DBMS_UTILITY.GET_TIME;
+    SELECT COUNT(*) INTO v_dummy FROM (
+        SELECT id FROM account_transactions
+        WHERE account_number = p_account_number
+          AND (created_at < v_cursor_created
+               OR (created_at = v_cursor_created AND id < v_cursor_id))
+        ORDER BY created_at DESC, id DESC
+        FETCH FIRST p_page_size ROWS ONLY
+    );
+    v_keyset_cs := DBMS_UTILITY.GET_TIME - v_start;
+
+    DBMS_OUTPUT.PUT_LINE('page ' || p_depth || ' OFFSET : ' || v_offset_cs * 10 || ' ms');
+    DBMS_OUTPUT.PUT_LINE('page ' || p_depth || ' KEYSET : ' || v_keyset_cs * 10 || ' ms');
+END;
+/
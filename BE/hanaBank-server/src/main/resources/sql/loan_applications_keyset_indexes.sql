@@ -0,0 +1,16 @@
+-- ========================================
+-- 대출 신청 요약 목록 커서(Keyset) 페이지네이션용 인덱스
+-- 정렬키: (submitted_at DESC, application_id DESC)
+-- ========================================
+
+-- 전체 목록 / 상태 필터
+CREATE INDEX IDX_LOAN_APP_SUBMITTED
+    ON loan_applications (submitted_at DESC, application_id DESC);
+
+-- 사용자별 목록
+CREATE INDEX IDX_LOAN_APP_USER_SUBMITTED
+    ON loan_applications (user_ci, submitted_at DESC, application_id DESC);
+
+-- 신청번호 단건 조회
+CREATE UNIQUE INDEX IDX_LOAN_APP_NUMBER
+    ON loan_applications (application_number);
@@ -0,0 +1,43 @@
+package com.example.hana_bank.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 발급한 커서가 그대로 다시 해석되는지, 해석할 수 없는 커서는 발급하지 않는지 검증
+ */
+class PageCursorTest {
+
+    @Test
+    void encode_roundTripsThroughDecode() {
+        PageCursor cursor = new PageCursor(LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_000_000), 42L);
+
+        assertEquals(cursor, PageCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void encode_roundTripsTimestampWithoutSeconds() {
+        // LocalDateTime.toString 은 초가 0이면 초를 생략하므로 그 형식도 다시 해석되어야 함
+        PageCursor cursor = new PageCursor(LocalDateTime.of(2024, 3, 1, 9, 30), 7L);
+
+        assertEquals(cursor, PageCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void encode_rejectsMissingTimestampOrId() {
+        assertThrows(IllegalStateException.class, () -> new PageCursor(null, 1L).encode());
+        assertThrows(IllegalStateException.class, () -> new PageCursor(LocalDateTime.now(), null).encode());
+    }
+
+    @Test
+    void decode_treatsBlankAsFirstPageAndRejectsGarbage() {
+        assertNull(PageCursor.decode(null));
+        assertNull(PageCursor.decode(" "));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("not-a-cursor"));
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.hana_bank.service;
+
+import com.example.hana_bank.entity.LoanProduct;
+import com.example.hana_bank.mapper.LoanProductMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 대출 상품 카탈로그 조회 비용 측정 (단위 테스트 아님, 기본 실행 제외)
+ * - 단건/ACTIVE 목록 조회의 호출당 시간 (복사본 생성 비용 포함)
+ * - 재적재가 계속 일어나는 중에도 조회 측 처리량이 유지되는지
+ * - 판정 없이 측정값만 로그로 출력
+ * 실행: ./gradlew benchmark --tests '*LoanProductCatalogBenchmark'
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class LoanProductCatalogBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(LoanProductCatalogBenchmark.class);
+
+    private static final int PRODUCTS = 50;
+    private static final int WARMUP_OPS = 200_000;
+    private static final int MEASURE_OPS = 2_000_000;
+    private static final int READERS = 8;
+    private static final long CONTENDED_MS = 3000;
+
+    @Test
+    void measureCatalogLookups() throws Exception {
+        LoanProductMapper mapper = mock(LoanProductMapper.class);
+        when(mapper.findAll()).thenReturn(products());
+        LoanProductService service = new LoanProductService(mapper);
+        service.init();
+
+        long sink = 0;
+        for (int i = 0; i < WARMUP_OPS; i++) {
+            sink += lookup(service, i);
+            sink += service.getActiveLoanProducts().size();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_OPS; i++) {
+            sink += lookup(service, i);
+        }
+        double findByIdNs = (System.nanoTime() - start) / (double) MEASURE_OPS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < MEASURE_OPS / 10; i++) {
+            sink += service.getActiveLoanProducts().size();
+        }
+        double activeListNs = (System.nanoTime() - start) / (double) (MEASURE_OPS / 10);
+
+        log.info("상품 {}개 - findById: {} ns/op, getActiveLoanProducts: {} ns/op (sink={})",
+                PRODUCTS, String.format("%.1f", findByIdNs), String.format("%.1f", activeListNs), sink);
+
+        double quiet = contendedThroughput(service, false);
+        double reloading = contendedThroughput(service, true);
+        log.info("조회 스레드 {}개 - 재적재 없음: {} ops/s, 재적재 반복 중: {} ops/s",
+                READERS, Math.round(quiet), Math.round(reloading));
+    }
+
+    private double contendedThroughput(LoanProductService service, boolean reloadContinuously) throws Exception {
+        ExecutorService threads = Executors.newFixedThreadPool(READERS + 1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder lookups = new LongAdder();
+        CountDownLatch done = new CountDownLatch(READERS);
+        try {
+            if (reloadContinuously) {
+                threads.submit(() -> {
+                    while (running.get()) {
+                        service.reloadCatalog();
+                    }
+                });
+            }
+            for (int r = 0; r < READERS; r++) {
+                threads.submit(() -> {
+                    int i = 0;
+                    while (running.get()) {
+                        lookup(service, i++);
+                        lookups.increment();
+                    }
+                    done.countDown();
+                });
+            }
+            TimeUnit.MILLISECONDS.sleep(CONTENDED_MS);
+            running.set(false);
+            done.await(10, TimeUnit.SECONDS);
+            return lookups.sum() / (CONTENDED_MS / 1000.0);
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    private static long lookup(LoanProductService service, int i) {
+        return service.getLoanProductById((long) (i % PRODUCTS) + 1)
+                .map(LoanProduct::getMaxLoanPeriod)
+                .orElse(0);
+    }
+
+    private static List<LoanProduct> products() {
+        List<LoanProduct> products = new ArrayList<>(PRODUCTS);
+        for (long id = 1; id <= PRODUCTS; id++) {
+            products.add(LoanProduct.builder()
+                    .productId(id)
+                    .productName("상품" + id)
+                    .interestRate(BigDecimal.valueOf(3.5))
+                    .maxLoanAmount(BigDecimal.valueOf(100_000_000))
+                    .maxLoanPeriod(360)
+                    .status(id % 5 == 0 ? "INACTIVE" : "ACTIVE")
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+        }
+        return products;
+    }
+}
@@ -1,6 +1,7 @@
 package com.hana.securities.client;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hana.securities.util.RateLimitedLogger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.java_websocket.client.WebSocketClient;
@@ -18,6 +19,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 
 @Component
@@ -25,6 +28,9 @@ import java.util.function.Consumer;
 @RequiredArgsConstructor
 public class KisWebSocketClient {
 
+    // 틱마다 발생하는 로그는 종목별 10초에 한 번만 출력
+    private static final RateLimitedLogger tickLog = new RateLimitedLogger(log, 10, TimeUnit.SECONDS);
+
     private final ObjectMapper objectMapper;
     private final com.hana.securities.service.KisWebSocketAuthService authService;
 
@@ -37,13 +43,13 @@ public class KisWebSocketClient {
     @Value("${kis.api.app-secret:}")
     private String appSecret;
 
-    private WebSocketClient webSocketClient;
-    private boolean isConnected = false;
+    private volatile WebSocketClient webSocketClient;
+    private volatile boolean isConnected = false;
     private String aesKey;
     private String aesIv;
     
-    // 연결 중복 방지를 위한 락
-    private final Object connectionLock = new Object();
+    // 연결 중복 방지를 위한 락 (가상 스레드 고정을 피하기 위해 synchronized 대신 ReentrantLock)
+    private final ReentrantLock connectionLock = new ReentrantLock();
 
     // 구독된 종목들과 콜백 함수들을 저장
     private final Map<String, CopyOnWriteArraySet<Consumer<Map<String, Object>>>> subscribers = new ConcurrentHashMap<>();
@@ -52,7 +58,8 @@ public class KisWebSocketClient {
      * WebSocket 연결 (싱글톤 패턴)
      */
     public void connect() {
-        synchronized (connectionLock) {
+        connectionLock.lock();
+        try {
             if (isConnected && webSocketClient != null && webSocketClient.isOpen()) {
                 return;
             }
@@ -69,7 +76,7 @@ public class KisWebSocketClient {
 
                 @Override
                 public void onMessage(String message) {
-                    KisWebSocketClient.log.info("KIS WebSocket 메시지 수신 - 길이: {}, 내용: {}", message.length(), message);
+                    KisWebSocketClient.log.debug("KIS WebSocket 메시지 수신 - 길이: {}, 내용: {}", message.length(), message);
                     handleKisMessage(message);
                 }
 
@@ -95,6 +102,8 @@ public class KisWebSocketClient {
             } catch (Exception e) {
                 throw new RuntimeException("KIS WebSocket 연결 실패", e);
             }
+        } finally {
+            connectionLock.unlock();
         }
     }
 
@@ -348,18 +357,18 @@ public class KisWebSocketClient {
      */
     private void handleKisMessage(String message) {
         try {
-            log.info("KIS 메시지 처리 시작 - 메시지 타입: {}", message.startsWith("{") ? "JSON" : "실시간 데이터");
+            log.debug("KIS 메시지 처리 시작 - 메시지 타입: {}", message.startsWith("{") ? "JSON" : "실시간 데이터");
 
             // JSON 응답인지 확인 (구독 성공 응답)
             if (message.startsWith("{")) {
-                log.info("JSON 구독 응답 처리 중");
+                log.debug("JSON 구독 응답 처리 중");
                 handleSubscriptionResponse(message);
                 return;
             }
 
             // 실시간 데이터 형식: 0|H0STCNT0|001|005930^123929^73100^...
             String[] parts = message.split("\\|", 4);
-            log.info("실시간 데이터 파싱 - 파트 수: {}", parts.length);
+            log.debug("실시간 데이터 파싱 - 파트 수: {}", parts.length);
             if (parts.length < 4) {
                 log.warn("실시간 데이터 파트 수 부족 - 예상: 4, 실제: {}", parts.length);
                 return;
@@ -370,22 +379,22 @@ public class KisWebSocketClient {
             String dataCount = parts[2];
             String data = parts[3];
             
-            log.info("실시간 데이터 분석 - 암호화: {}, TR_ID: {}, 데이터 수: {}, 데이터 길이: {}", 
+            log.debug("실시간 데이터 분석 - 암호화: {}, TR_ID: {}, 데이터 수: {}, 데이터 길이: {}", 
                     encryptionFlag, trId, dataCount, data.length());
 
             // 암호화된 데이터 복호화
             if ("1".equals(encryptionFlag) && aesKey != null && aesIv != null) {
-                log.info("데이터 복호화 시작");
+                log.debug("데이터 복호화 시작");
                 data = decryptAes(data);
-                log.info("데이터 복호화 완료 - 길이: {}", data.length());
+                log.debug("데이터 복호화 완료 - 길이: {}", data.length());
             }
 
             // 데이터 파싱 및 콜백 호출
             if ("H0STCNT0".equals(trId)) {
-                log.info("주식 체결 데이터 파싱 시작");
+                log.debug("주식 체결 데이터 파싱 시작");
                 parseAndNotifyStockData(data);
             } else if ("H0STASP0".equals(trId)) {
-                log.info("주식 호가 데이터 파싱 시작");
+                log.debug("주식 호가 데이터 파싱 시작");
                 parseAndNotifyQuoteData(data);
             } else {
                 log.warn("알 수 없는 TR_ID: {}", trId);
@@ -469,7 +478,7 @@ public class KisWebSocketClient {
             // 구독자들에게 데이터 전송
             CopyOnWriteArraySet<Consumer<Map<String, Object>>> stockSubscribers = subscribers.get(stockCode);
             if (stockSubscribers != null) {
-                log.info("📊 KIS WebSocket 데이터 전송 - 종목: {}, 현재가: {}, 변동: {}, 변동률: {}%, 등락: {}, 구독자 수: {}", 
+                tickLog.info(stockCode, "📊 KIS WebSocket 데이터 전송 - 종목: {}, 현재가: {}, 변동: {}, 변동률: {}%, 등락: {}, 구독자 수: {}", 
                     stockCode, currentPrice, priceChange, priceChangeRate, convertPriceChangeSign(priceChangeSign), stockSubscribers.size());
                 for (Consumer<Map<String, Object>> callback : stockSubscribers) {
                     try {
@@ -0,0 +1,40 @@
+package com.hana.securities.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 버려진 로그 이벤트 수를 집계하는 AsyncAppender
+ * - 큐가 discardingThreshold 이하로 남으면 TRACE/DEBUG/INFO 이벤트는 버려짐
+ * - neverBlock=true 에서 큐가 가득 차면 레벨과 무관하게 버려짐
+ */
+public class DropCountingAsyncAppender extends AsyncAppender {
+
+    private static final AtomicLong DROPPED_EVENTS = new AtomicLong();
+
+    public static long getDroppedEventCount() {
+        return DROPPED_EVENTS.get();
+    }
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        // 큐 여유가 임계치 아래일 때만 호출됨
+        boolean discardable = super.isDiscardable(event);
+        if (discardable) {
+            DROPPED_EVENTS.incrementAndGet();
+        }
+        return discardable;
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (isNeverBlock() && getRemainingCapacity() == 0
+                && (getDiscardingThreshold() == 0 || !super.isDiscardable(event))) {
+            // 큐가 가득 찬 상태에서 offer 실패로 버려지는 이벤트 (임계치 규칙으로 버려진 건은 위에서 집계)
+            DROPPED_EVENTS.incrementAndGet();
+        }
+        super.append(event);
+    }
+}
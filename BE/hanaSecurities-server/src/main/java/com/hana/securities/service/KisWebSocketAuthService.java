@@ -13,6 +13,7 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 @Slf4j
@@ -33,7 +34,10 @@ public class KisWebSocketAuthService {
 
     // 현재 유효한 접속키를 저장
     private final AtomicReference<String> currentApprovalKey = new AtomicReference<>();
-    private LocalDateTime lastKeyIssueTime;
+    private volatile LocalDateTime lastKeyIssueTime;
+
+    // 접속키 발급 직렬화 (발급 API 호출 동안 가상 스레드가 고정되지 않도록 synchronized 대신 ReentrantLock)
+    private final ReentrantLock issueLock = new ReentrantLock();
 
     /**
      * WebSocket 접속키 발급
@@ -48,14 +52,23 @@ public class KisWebSocketAuthService {
             }
         }
 
-        // 새로운 접속키 발급
-        return issueNewApprovalKey();
+        // 새로운 접속키 발급 (대기 중 다른 스레드가 발급했으면 그 키 사용)
+        issueLock.lock();
+        try {
+            String issuedKey = currentApprovalKey.get();
+            if (issuedKey != null && !issuedKey.equals(existingKey)) {
+                return issuedKey;
+            }
+            return issueNewApprovalKey();
+        } finally {
+            issueLock.unlock();
+        }
     }
 
     /**
      * 새로운 WebSocket 접속키 발급
      */
-    private synchronized String issueNewApprovalKey() {
+    private String issueNewApprovalKey() {
         try {
 
             if (appKey == null || appKey.isEmpty() || appSecret == null || appSecret.isEmpty()) {
@@ -122,7 +135,12 @@ public class KisWebSocketAuthService {
         try {
             if (lastKeyIssueTime != null) {
                 // 키 갱신 시도
-                issueNewApprovalKey();
+                issueLock.lock();
+                try {
+                    issueNewApprovalKey();
+                } finally {
+                    issueLock.unlock();
+                }
             }
         } catch (Exception e) {
             // 자동 갱신 실패
@@ -3,6 +3,7 @@ package com.hana.securities.service;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hana.securities.util.AESCryptoUtil;
+import com.hana.securities.util.BoundedExecutors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.java_websocket.client.WebSocketClient;
@@ -18,7 +19,6 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
@@ -32,14 +32,16 @@ public class KisWebSocketService {
     private final KisOAuthService kisOAuthService;
     private final ObjectMapper objectMapper = new ObjectMapper();
     
-    public KisWebSocketService(AESCryptoUtil aesCryptoUtil, KisOAuthService kisOAuthService) {
+    public KisWebSocketService(AESCryptoUtil aesCryptoUtil, KisOAuthService kisOAuthService,
+                               @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
         this.aesCryptoUtil = aesCryptoUtil;
         this.kisOAuthService = kisOAuthService;
+        this.scheduler = BoundedExecutors.newScheduler("kis-ws-scheduler", 2, virtualThreads);
     }
     
     private WebSocketClient webSocketClient;
     private final Map<String, Consumer<Map<String, Object>>> stockSubscribers = new ConcurrentHashMap<>();
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+    private final ScheduledExecutorService scheduler;
     
     // KIS WebSocket 연결 정보 (설정에서 주입)
     @Value("${kis.websocket.url:ws://ops.koreainvestment.com:31000}")
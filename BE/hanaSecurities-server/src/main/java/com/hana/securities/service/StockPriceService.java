@@ -2,6 +2,7 @@ package com.hana.securities.service;
 
 import com.hana.securities.client.KisWebSocketClient;
 import com.hana.securities.service.KisOAuthService;
+import com.hana.securities.util.RateLimitedLogger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -19,12 +20,16 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class StockPriceService {
 
+    // 틱/조회마다 발생하는 로그는 종목별 10초에 한 번만 출력
+    private static final RateLimitedLogger tickLog = new RateLimitedLogger(log, 10, TimeUnit.SECONDS);
+
     private final KisWebSocketClient kisWebSocketClient;
     private final KisOAuthService kisOAuthService;
     private final RestTemplate restTemplate;
@@ -49,11 +54,11 @@ public class StockPriceService {
      */
     public Map<String, Object> getRealtimeStockPrice(String stockCode) {
         try {
-            log.info("=== 실시간 주식 가격 조회 시작 - 종목: {} ===", stockCode);
+            log.debug("=== 실시간 주식 가격 조회 시작 - 종목: {} ===", stockCode);
             
             // 캐시에서 최신 데이터 확인
             Map<String, Object> cachedData = priceCache.get(stockCode);
-            log.info("캐시 데이터 존재 여부 - 종목: {}, 캐시 있음: {}", stockCode, cachedData != null);
+            log.debug("캐시 데이터 존재 여부 - 종목: {}, 캐시 있음: {}", stockCode, cachedData != null);
             
             if (cachedData == null) {
                 // 캐시된 데이터가 없으면 즉시 구독 시작 (연결도 함께 처리)
@@ -94,7 +99,7 @@ public class StockPriceService {
             }
             
             // 캐시된 실시간 데이터 반환
-            log.info("💾 캐시된 실시간 데이터 반환 - 종목: {}, 현재가: {}, 전일대비: {}, 전일대비율: {}%, 등락: {}", 
+            log.debug("💾 캐시된 실시간 데이터 반환 - 종목: {}, 현재가: {}, 전일대비: {}, 전일대비율: {}%, 등락: {}", 
                     stockCode, cachedData.get("currentPrice"), 
                     cachedData.get("priceChange"), cachedData.get("priceChangeRate"),
                     cachedData.get("priceChangeSign"));
@@ -109,7 +114,7 @@ public class StockPriceService {
             response.put("timestamp", cachedData.get("timestamp"));
             response.put("status", "REALTIME");
             
-            log.info("📤 HanaSecurities 응답 생성 - 종목: {}, changePrice: {}, changeRate: {}, changeSign: {}", 
+            log.debug("📤 HanaSecurities 응답 생성 - 종목: {}, changePrice: {}, changeRate: {}, changeSign: {}", 
                     stockCode, response.get("changePrice"), response.get("changeRate"), response.get("changeSign"));
             
             return response;
@@ -152,10 +157,9 @@ public class StockPriceService {
                 Map<String, Object> processedData = processRealtimeData(stockCode, quoteData);
                 // 실시간 데이터를 캐시에 저장
                 priceCache.put(stockCode, processedData);
-                log.info("🔄 실시간 데이터 캐시 업데이트 - 종목: {}, 현재가: {}, 변동: {}, 변동률: {}%, 시간: {}",
+                tickLog.info(stockCode, "🔄 실시간 데이터 캐시 업데이트 - 종목: {}, 현재가: {}, 변동: {}, 변동률: {}%",
                     stockCode, processedData.get("currentPrice"), processedData.get("priceChange"),
-                    processedData.get("priceChangeRate"), processedData.get("changeSign"),
-                    new java.util.Date());
+                    processedData.get("priceChangeRate"));
             });
             
             
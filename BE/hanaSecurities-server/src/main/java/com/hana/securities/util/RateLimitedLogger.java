@@ -0,0 +1,54 @@
+package com.hana.securities.util;
+
+import org.slf4j.Logger;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 틱/조회마다 발생하는 핫패스 로그용 래퍼
+ * - 키(종목코드 등)별로 지정 간격에 한 번만 출력
+ * - 그 사이 생략된 건수는 다음 출력에 함께 기록
+ */
+public class RateLimitedLogger {
+
+    private final Logger logger;
+    private final long intervalNanos;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    public RateLimitedLogger(Logger logger, long interval, TimeUnit unit) {
+        this.logger = logger;
+        this.intervalNanos = unit.toNanos(interval);
+    }
+
+    public void info(String key, String format, Object... args) {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+
+        Window window = windows.computeIfAbsent(key, k -> new Window());
+        long now = System.nanoTime();
+        long last = window.lastLoggedAt.get();
+        if ((last != 0 && now - last < intervalNanos) || !window.lastLoggedAt.compareAndSet(last, now)) {
+            window.suppressed.incrementAndGet();
+            return;
+        }
+
+        long suppressed = window.suppressed.getAndSet(0);
+        if (suppressed > 0) {
+            Object[] withSuppressed = Arrays.copyOf(args, args.length + 1);
+            withSuppressed[args.length] = suppressed;
+            logger.info(format + " (생략 {}건)", withSuppressed);
+        } else {
+            logger.info(format, args);
+        }
+    }
+
+    private static class Window {
+        private final AtomicLong lastLoggedAt = new AtomicLong();
+        private final AtomicLong suppressed = new AtomicLong();
+    }
+}
@@ -0,0 +1,268 @@
+package com.living.hana.aspect;
+
+import com.living.hana.util.SensitiveDataMasker;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Logging 어노테이션 파라미터/결과 문자열 변환
+ * - 깊이/요소 수/문자열 길이/전체 길이 제한
+ * - 민감 필드는 타입별로 한 번만 계산해 둔 마스크로 "***" 처리
+ * - 문자열/toString 결과는 미리 컴파일한 패턴으로 key=value, 이메일, 카드번호 마스킹 (해당 문자가 있을 때만 적용)
+ * - 바이트 배열 등 원시 배열은 길이만 출력
+ */
+final class LogArgumentRenderer {
+
+    private static final int MAX_DEPTH = 3;
+    private static final int MAX_ELEMENTS = 10;
+    private static final int MAX_STRING_LENGTH = 200;
+    private static final int MAX_TOTAL_LENGTH = 2000;
+
+    // 필드명(소문자)이 이 단어로 끝나면 민감 필드로 간주 (password, accountPassword, accessToken 등)
+    private static final String[] SENSITIVE_NAME_SUFFIXES = {"password", "pwd", "secret", "token", "key", "authorization"};
+
+    private static final String APP_PACKAGE = "com.living.hana.";
+
+    // 외부 타입 toString 등에 섞인 password=..., accessToken=... 조각
+    private static final Pattern SENSITIVE_KEY_VALUE =
+            Pattern.compile("(?i)\\b(\\w*(?:password|pwd|secret|token|key|authorization))=[^,)\\]\\s]*");
+    // 이메일 (로컬 파트는 유지, 도메인은 최상위 도메인만 남김)
+    private static final Pattern EMAIL =
+            Pattern.compile("([\\w.%+-]+)@[\\w-]+(?:\\.[\\w-]+)*(\\.[a-zA-Z]{2,})\\b");
+
+    // 타입별 필드/마스크 정보 캐시
+    private static final ClassValue<TypeMask> TYPE_MASKS = new ClassValue<>() {
+        @Override
+        protected TypeMask computeValue(Class<?> type) {
+            return TypeMask.of(type);
+        }
+    };
+
+    private LogArgumentRenderer() {
+        // Utility class - private constructor
+    }
+
+    static String render(Object[] args, boolean maskSensitive) {
+        StringBuilder sb = new StringBuilder(64);
+        sb.append('[');
+        if (args != null) {
+            for (int i = 0; i < args.length; i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                append(sb, args[i], 0, maskSensitive);
+            }
+        }
+        return sb.append(']').toString();
+    }
+
+    static String render(Object value, boolean maskSensitive) {
+        StringBuilder sb = new StringBuilder(64);
+        append(sb, value, 0, maskSensitive);
+        return sb.toString();
+    }
+
+    private static void append(StringBuilder sb, Object value, int depth, boolean mask) {
+        if (sb.length() >= MAX_TOTAL_LENGTH) {
+            sb.append("...");
+            return;
+        }
+        if (value == null) {
+            sb.append("null");
+            return;
+        }
+
+        Class<?> type = value.getClass();
+
+        if (value instanceof CharSequence text) {
+            appendString(sb, text.toString(), mask);
+        } else if (value instanceof Number || value instanceof Boolean || value instanceof Character
+                || value instanceof Enum<?> || value instanceof TemporalAccessor || value instanceof UUID) {
+            sb.append(value);
+        } else if (type.isArray()) {
+            appendArray(sb, value, type, depth, mask);
+        } else if (depth >= MAX_DEPTH) {
+            sb.append(type.getSimpleName()).append("{...}");
+        } else if (value instanceof Collection<?> collection) {
+            appendElements(sb, collection.iterator(), collection.size(), depth, mask);
+        } else if (value instanceof Map<?, ?> map) {
+            appendMap(sb, map, depth, mask);
+        } else if (type.getName().startsWith(APP_PACKAGE)) {
+            appendFields(sb, value, TYPE_MASKS.get(type), depth, mask);
+        } else {
+            appendString(sb, String.valueOf(value), mask);
+        }
+    }
+
+    private static void appendString(StringBuilder sb, String text, boolean mask) {
+        String limited = text.length() > MAX_STRING_LENGTH ? text.substring(0, MAX_STRING_LENGTH) + "..." : text;
+        sb.append(mask ? maskValue(limited) : limited);
+    }
+
+    private static void appendArray(StringBuilder sb, Object array, Class<?> type, int depth, boolean mask) {
+        int length = Array.getLength(array);
+        if (type.getComponentType().isPrimitive()) {
+            // byte[] 파일 내용 등은 길이만 출력
+            sb.append(type.getComponentType().getName()).append('[').append(length).append(']');
+        } else if (depth >= MAX_DEPTH) {
+            sb.append(type.getComponentType().getSimpleName()).append('[').append(length).append(']');
+        } else {
+            appendElements(sb, new ArrayIterator(array, length), length, depth, mask);
+        }
+    }
+
+    private static void appendElements(StringBuilder sb, Iterator<?> iterator, int size, int depth, boolean mask) {
+        sb.append('[');
+        int count = 0;
+        while (iterator.hasNext() && count < MAX_ELEMENTS) {
+            if (count > 0) {
+                sb.append(", ");
+            }
+            append(sb, iterator.next(), depth + 1, mask);
+            count++;
+        }
+        if (size > count) {
+            sb.append(", ... (").append(size).append(" total)");
+        }
+        sb.append(']');
+    }
+
+    private static void appendMap(StringBuilder sb, Map<?, ?> map, int depth, boolean mask) {
+        sb.append('{');
+        int count = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (count >= MAX_ELEMENTS) {
+                sb.append(", ... (").append(map.size()).append(" total)");
+                break;
+            }
+            if (count > 0) {
+                sb.append(", ");
+            }
+            String key = String.valueOf(entry.getKey());
+            sb.append(key).append('=');
+            if (mask && isSensitiveName(key)) {
+                sb.append("***");
+            } else {
+                append(sb, entry.getValue(), depth + 1, mask);
+            }
+            count++;
+        }
+        sb.append('}');
+    }
+
+    private static void appendFields(StringBuilder sb, Object value, TypeMask typeMask, int depth, boolean mask) {
+        sb.append(typeMask.simpleName).append('(');
+        for (int i = 0; i < typeMask.fields.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            Field field = typeMask.fields[i];
+            sb.append(field.getName()).append('=');
+            if (mask && typeMask.sensitive[i]) {
+                sb.append("***");
+                continue;
+            }
+            try {
+                append(sb, field.get(value), depth + 1, mask);
+            } catch (IllegalAccessException e) {
+                sb.append('?');
+            }
+        }
+        sb.append(')');
+    }
+
+    /**
+     * 문자열 값 마스킹 (민감 key=value 조각, 이메일, 16자리 카드번호 - 문자열 내 모든 위치)
+     */
+    static String maskValue(String text) {
+        String masked = text;
+        if (masked.indexOf('=') >= 0) {
+            masked = SENSITIVE_KEY_VALUE.matcher(masked).replaceAll("$1=***");
+        }
+        if (masked.indexOf('@') >= 0) {
+            masked = EMAIL.matcher(masked).replaceAll("$1***@***$2");
+        }
+        return SensitiveDataMasker.maskCardNumbers(masked);
+    }
+
+    private static boolean isSensitiveName(String name) {
+        String lower = name.toLowerCase(Locale.ROOT);
+        for (String suffix : SENSITIVE_NAME_SUFFIXES) {
+            if (lower.endsWith(suffix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 타입별 출력 대상 필드와 민감 여부 (최초 1회 계산)
+     */
+    private static final class TypeMask {
+        private final String simpleName;
+        private final Field[] fields;
+        private final boolean[] sensitive;
+
+        private TypeMask(String simpleName, Field[] fields, boolean[] sensitive) {
+            this.simpleName = simpleName;
+            this.fields = fields;
+            this.sensitive = sensitive;
+        }
+
+        private static TypeMask of(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                        continue;
+                    }
+                    try {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    } catch (RuntimeException e) {
+                        // 접근 불가 필드는 출력에서 제외
+                    }
+                }
+            }
+
+            Field[] fieldArray = fields.toArray(new Field[0]);
+            boolean[] sensitive = new boolean[fieldArray.length];
+            for (int i = 0; i < fieldArray.length; i++) {
+                sensitive[i] = isSensitiveName(fieldArray[i].getName());
+            }
+            return new TypeMask(type.getSimpleName(), fieldArray, sensitive);
+        }
+    }
+
+    private static final class ArrayIterator implements Iterator<Object> {
+        private final Object array;
+        private final int length;
+        private int index;
+
+        private ArrayIterator(Object array, int length) {
+            this.array = array;
+            this.length = length;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < length;
+        }
+
+        @Override
+        public Object next() {
+            return Array.get(array, index++);
+        }
+    }
+}
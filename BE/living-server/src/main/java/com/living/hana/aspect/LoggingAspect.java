@@ -8,8 +8,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
-import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Aspect
 @Component
@@ -18,40 +17,59 @@ public class LoggingAspect {
     @Around("@annotation(logging)")
     public Object logMethodExecution(ProceedingJoinPoint joinPoint, Logging logging) throws Throwable {
         Logger logger = LoggerFactory.getLogger(joinPoint.getTarget().getClass());
+        long startTime = System.currentTimeMillis();
 
-        String traceId = UUID.randomUUID().toString().substring(0, 8);
-        String methodName = joinPoint.getSignature().getName();
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        String operation = logging.operation().isEmpty() ? methodName : logging.operation();
+        // 해당 레벨이 꺼져 있으면 메시지/파라미터 문자열을 만들지 않음 (에러만 로깅)
+        if (!isEnabled(logging.level(), logger)) {
+            try {
+                return joinPoint.proceed();
+            } catch (Exception e) {
+                if (logger.isErrorEnabled()) {
+                    logMethodError(e, resolveOperation(joinPoint, logging), startTime, generateTraceId(), logger);
+                }
+                throw e;
+            }
+        }
 
-        long startTime = System.currentTimeMillis();
+        String traceId = generateTraceId();
+        String operation = resolveOperation(joinPoint, logging);
 
         try {
-            logMethodStart(joinPoint, logging, operation, traceId, className, logger);
+            logMethodStart(joinPoint, logging, operation, traceId, logger);
             Object result = joinPoint.proceed();
-            logMethodSuccess(result, logging, operation, startTime, traceId, className, logger);
+            logMethodSuccess(result, logging, operation, startTime, traceId, logger);
             return result;
         } catch (Exception e) {
-            logMethodError(e, operation, startTime, traceId, className, logger);
+            logMethodError(e, operation, startTime, traceId, logger);
             throw e;
         }
     }
 
-    private void logMethodStart(ProceedingJoinPoint joinPoint, Logging logging, String operation, String traceId, String className, Logger logger) {
+    private String resolveOperation(ProceedingJoinPoint joinPoint, Logging logging) {
+        return logging.operation().isEmpty() ? joinPoint.getSignature().getName() : logging.operation();
+    }
+
+    private String generateTraceId() {
+        // UUID(SecureRandom) 대신 8자리 16진수
+        String hex = Integer.toHexString(ThreadLocalRandom.current().nextInt());
+        return "0".repeat(8 - hex.length()) + hex;
+    }
+
+    private void logMethodStart(ProceedingJoinPoint joinPoint, Logging logging, String operation, String traceId, Logger logger) {
         StringBuilder logMessage = new StringBuilder();
         logMessage.append("[START] [").append(traceId).append("] ")
                  .append("[").append(logging.category()).append("] ")
                  .append(operation).append(" 시작");
 
         if (logging.includeParams()) {
-            String params = maskSensitiveData(Arrays.toString(joinPoint.getArgs()), logging.maskSensitive());
+            String params = LogArgumentRenderer.render(joinPoint.getArgs(), logging.maskSensitive());
             logMessage.append(" | params=").append(params);
         }
 
         logWithLevel(logging.level(), logger, logMessage.toString());
     }
 
-    private void logMethodSuccess(Object result, Logging logging, String operation, long startTime, String traceId, String className, Logger logger) {
+    private void logMethodSuccess(Object result, Logging logging, String operation, long startTime, String traceId, Logger logger) {
         long duration = System.currentTimeMillis() - startTime;
 
         StringBuilder logMessage = new StringBuilder();
@@ -64,31 +82,32 @@ public class LoggingAspect {
         }
 
         if (logging.includeResult() && result != null) {
-            String resultStr = maskSensitiveData(result.toString(), logging.maskSensitive());
+            String resultStr = LogArgumentRenderer.render(result, logging.maskSensitive());
             logMessage.append(" | result=").append(resultStr);
         }
 
         logWithLevel(logging.level(), logger, logMessage.toString());
     }
 
-    private void logMethodError(Exception e, String operation, long startTime, String traceId, String className, Logger logger) {
+    private void logMethodError(Exception e, String operation, long startTime, String traceId, Logger logger) {
         long duration = System.currentTimeMillis() - startTime;
 
-        String logMessage = String.format("[ERROR] [%s] [ERROR] %s 실패 | duration=%dms | error=%s | message=%s",
+        logger.error("[ERROR] [{}] [ERROR] {} 실패 | duration={}ms | error={} | message={}",
                 traceId, operation, duration, e.getClass().getSimpleName(), e.getMessage());
-
-        logger.error(logMessage);
     }
 
-    private String maskSensitiveData(String data, boolean maskSensitive) {
-        if (!maskSensitive || data == null) {
-            return data;
+    private boolean isEnabled(String level, Logger logger) {
+        switch (level.toUpperCase()) {
+            case "DEBUG":
+                return logger.isDebugEnabled();
+            case "WARN":
+                return logger.isWarnEnabled();
+            case "ERROR":
+                return logger.isErrorEnabled();
+            case "INFO":
+            default:
+                return logger.isInfoEnabled();
         }
-
-        return data
-                .replaceAll("(password|pwd|secret|token|key|authorization)=[^,\\]\\s]*", "$1=***")
-                .replaceAll("(\\d{4})(\\d{4})(\\d{4})(\\d{4})", "$1-****-****-$4")
-                .replaceAll("([\\w._%+-]+)@([\\w.-]+\\.[a-zA-Z]{2,})", "$1***@***.$2");
     }
 
     private void logWithLevel(String level, Logger logger, String message) {
@@ -0,0 +1,98 @@
+package com.living.hana.client;
+
+import com.living.hana.dto.HanaBankAccountDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 하나은행 계좌 잔액 단기 캐시
+ * - ttl-ms 이내 값은 그대로 재사용 (하나은행 재조회 생략)
+ * - stale-ttl-ms 이내 값은 조회 지연/실패 시 "최근 값"으로만 사용
+ * - 해당 계좌가 출금/입금 계좌인 즉시 이체가 성공하면 바로 제거
+ * - 조회 시작 전에 version() 을 받아 두고 put 에 넘기면, 조회 도중 제거된 계좌의 이전 잔액은 저장하지 않음
+ */
+@Component
+public class HanaBankBalanceCache {
+
+    @Value("${hanabank.balance-cache.ttl-ms:10000}")
+    private long ttlMillis;
+
+    @Value("${hanabank.balance-cache.stale-ttl-ms:300000}")
+    private long staleTtlMillis;
+
+    @Value("${hanabank.balance-cache.max-size:10000}")
+    private int maxSize;
+
+    private final Map<String, CachedBalance> cache = new ConcurrentHashMap<>();
+
+    private final AtomicLong versions = new AtomicLong();
+
+    // 전체 비우기로 제거 기록이 사라진 시점 (이보다 먼저 시작한 조회는 저장하지 않음)
+    private volatile long clearedVersion;
+
+    /**
+     * TTL 이내의 계좌 정보 (없으면 null)
+     */
+    public HanaBankAccountDto getFresh(String accountNumber) {
+        CachedBalance cached = cache.get(accountNumber);
+        return cached != null && System.currentTimeMillis() - cached.cachedAtMillis() < ttlMillis
+                ? cached.account() : null;
+    }
+
+    /**
+     * 최근에 조회된 계좌 정보 (stale-ttl 이 지났으면 null)
+     */
+    public HanaBankAccountDto getLastKnown(String accountNumber) {
+        CachedBalance cached = cache.get(accountNumber);
+        return cached != null && System.currentTimeMillis() - cached.cachedAtMillis() < staleTtlMillis
+                ? cached.account() : null;
+    }
+
+    /**
+     * 하나은행 조회 시작 시점의 버전 (조회 결과를 put 할 때 그대로 전달)
+     */
+    public long version() {
+        return versions.get();
+    }
+
+    /**
+     * 조회 결과 저장
+     * - fetchVersion 이후에 해당 계좌가 제거(이체)되었으면 이전 잔액이므로 무시
+     */
+    public void put(HanaBankAccountDto account, long fetchVersion) {
+        if (account == null || account.getAccountNumber() == null || fetchVersion < clearedVersion) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (cache.size() >= maxSize) {
+            cache.values().removeIf(entry -> now - entry.cachedAtMillis() >= staleTtlMillis);
+            if (cache.size() >= maxSize) {
+                clearedVersion = versions.get();
+                cache.clear();
+            }
+        }
+        cache.compute(account.getAccountNumber(), (accountNumber, existing) -> {
+            long evictedVersion = existing != null ? existing.evictedVersion() : 0L;
+            return fetchVersion < evictedVersion ? existing : new CachedBalance(account, now, evictedVersion);
+        });
+    }
+
+    /**
+     * 이체로 잔액이 바뀐 계좌 제거
+     * - 값 대신 제거 버전만 남겨 진행 중이던 조회의 put 을 거름
+     */
+    public void evict(String... accountNumbers) {
+        for (String accountNumber : accountNumbers) {
+            if (accountNumber != null) {
+                cache.put(accountNumber, new CachedBalance(null, System.currentTimeMillis(), versions.incrementAndGet()));
+            }
+        }
+    }
+
+    private record CachedBalance(HanaBankAccountDto account, long cachedAtMillis, long evictedVersion) {
+    }
+}
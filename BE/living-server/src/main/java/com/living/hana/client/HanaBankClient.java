@@ -4,9 +4,19 @@ import com.living.hana.dto.HanaBankAccountDto;
 import com.living.hana.dto.AutoTransferRequest;
 import com.living.hana.dto.AutoTransferResponse;
 import com.living.hana.dto.AutoTransferContractInfo;
+import com.living.hana.util.BoundedExecutors;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -14,124 +24,219 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class HanaBankClient {
     
+    private static final ParameterizedTypeReference<ApiResponse<AccountPayload>> ACCOUNT_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<AccountsPayload>> ACCOUNTS_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<TransferPayload>> TRANSFER_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+
     private final RestTemplate restTemplate;
+    private final HanaBankBalanceCache balanceCache;
+    private final TimeLimiterRegistry timeLimiterRegistry;
     
     @Value("${hanabank.api.base-url:http://localhost:8090}")
     private String hanaBankUrl;
+
+    // 비동기/일괄 호출 동시 실행 수 (커넥션 풀의 hanabank 최대 커넥션 이하로 유지)
+    @Value("${hanabank.api.async-parallelism:8}")
+    private int asyncParallelism;
+
+    // 비동기 계좌 조회 제한 시간 (resilience4j.timelimiter.instances.hanabank 설정이 있으면 그 설정 사용)
+    @Value("${hanabank.api.lookup-timeout-ms:5000}")
+    private long lookupTimeoutMs;
+
+    // Java 21 + 가상 스레드 모드에서는 작업당 가상 스레드 (동시 실행 수는 async-parallelism 유지)
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private ExecutorService clientExecutor;
+    private ScheduledExecutorService timeoutScheduler;
+    private TimeLimiter lookupTimeLimiter;
+
+    @PostConstruct
+    public void init() {
+        clientExecutor = BoundedExecutors.newExecutor("hanabank-client", asyncParallelism, virtualThreads);
+        timeoutScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hanabank-client-timeout");
+            thread.setDaemon(true);
+            return thread;
+        });
+        lookupTimeLimiter = timeLimiterRegistry.find("hanabank").orElseGet(() -> timeLimiterRegistry.timeLimiter("hanabank",
+                TimeLimiterConfig.custom().timeoutDuration(Duration.ofMillis(lookupTimeoutMs)).build()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        clientExecutor.shutdown();
+        timeoutScheduler.shutdown();
+    }
     
     /**
      * 하나은행에서 특정 계좌 정보 조회
      */
     public HanaBankAccountDto getAccountInfo(String accountNumber) {
         try {
-            String url = hanaBankUrl + "/customer/accounts/info/" + accountNumber;
-            log.info("하나은행 계좌 정보 조회 요청: {}", url);
-            
-            ResponseEntity<Map> response = restTemplate.getForEntity(url, Map.class);
-            Map<String, Object> responseBody = response.getBody();
-            log.info("하나은행 응답: {}", responseBody);
-            
-            if (responseBody != null && responseBody.get("data") != null) {
-                Map<String, Object> accountData = (Map<String, Object>) responseBody.get("data");
-                
-                // BigDecimal balance를 Long으로 변환
-                Object balanceObj = accountData.get("balance");
-                Long balance = 0L;
-                if (balanceObj != null) {
-                    if (balanceObj instanceof Number) {
-                        balance = ((Number) balanceObj).longValue();
-                    } else {
-                        balance = Long.valueOf(balanceObj.toString().split("\\.")[0]); // 소수점 제거
-                    }
-                }
-
-                return HanaBankAccountDto.builder()
-                        .accountNumber((String) accountData.get("accountNumber"))
-                        .accountName((String) accountData.get("accountName"))
-                        .accountType((String) accountData.get("accountType"))
-                        .balance(balance)
-                        .bankCode("088")
-                        .bankName("하나은행")
-                        .currency("KRW")
-                        .status((String) accountData.get("status"))
-                        .build();
-            }
-            
-            return null;
-            
+            return fetchAccountInfo(accountNumber);
         } catch (Exception e) {
             log.error("하나은행 계좌 정보 조회 실패: {}", e.getMessage());
             return null;
         }
     }
-    
+
     /**
      * 하나은행에서 사용자의 모든 계좌 목록 조회 (연동 검증용)
      */
-    @SuppressWarnings("unchecked")
     public List<HanaBankAccountDto> getAllAccountsByUserCi(String userCi) {
         try {
             // 하나은행 API는 고정된 userCi를 사용하므로 파라미터 없이 호출
             String url = hanaBankUrl + "/customer/accounts/v1";
             log.info("하나은행 전체 계좌 목록 조회 요청: {}", url);
-            
-            ResponseEntity<Map> response = restTemplate.getForEntity(url, Map.class);
-            Map<String, Object> responseBody = response.getBody();
-            log.info("하나은행 전체 계좌 응답: {}", responseBody);
-            
-            if (responseBody != null && responseBody.get("data") != null) {
-                // ApiResponseDto.data가 AccountsResponseDto 형태
-                Map<String, Object> accountsResponse = (Map<String, Object>) responseBody.get("data");
-                List<Map<String, Object>> accounts = (List<Map<String, Object>>) accountsResponse.get("accounts");
-                
-                return accounts.stream()
-                        .map(accountData -> {
-                            // BigDecimal balance를 Long으로 변환
-                            Object balanceObj = accountData.get("balance");
-                            Long balance = 0L;
-                            if (balanceObj != null) {
-                                if (balanceObj instanceof Number) {
-                                    balance = ((Number) balanceObj).longValue();
-                                } else {
-                                    balance = Long.valueOf(balanceObj.toString().split("\\.")[0]); // 소수점 제거
-                                }
-                            }
-                            
-                            return HanaBankAccountDto.builder()
-                                .accountNumber((String) accountData.get("accountNumber"))
-                                .accountName((String) accountData.get("accountName"))
-                                .accountType((String) accountData.get("accountType"))
-                                .balance(balance)
-                                .bankCode("088")
-                                .bankName("하나은행")
-                                .currency("KRW")
-                                .status((String) accountData.get("status"))
-                                .build();
-                        })
+
+            ApiResponse<AccountsPayload> body = restTemplate.exchange(
+                    url, HttpMethod.GET, null, ACCOUNTS_RESPONSE).getBody();
+
+            if (body != null && body.data() != null && body.data().accounts() != null) {
+                return body.data().accounts().stream()
+                        .map(this::toAccountDto)
                         .collect(Collectors.toList());
             }
-            
+
             return Collections.emptyList();
-            
+
         } catch (Exception e) {
             log.error("하나은행 계좌 목록 조회 실패: {}", e.getMessage());
             return Collections.emptyList();
         }
     }
-    
+
+    // === 비동기/일괄 호출 ===
+
+    /**
+     * 계좌 정보 비동기 조회 (조회 실패/제한 시간 초과 시 예외로 완료)
+     */
+    public CompletableFuture<HanaBankAccountDto> getAccountInfoAsync(String accountNumber) {
+        return lookupTimeLimiter.executeCompletionStage(timeoutScheduler,
+                () -> CompletableFuture.supplyAsync(() -> fetchAccountInfo(accountNumber), clientExecutor))
+                .toCompletableFuture();
+    }
+
+    /**
+     * 여러 계좌 정보 동시 조회
+     * - 결과는 요청 순서 유지, 조회 실패/미존재 계좌는 제외
+     */
+    public CompletableFuture<List<HanaBankAccountDto>> getAccountInfos(List<String> accountNumbers) {
+        List<CompletableFuture<HanaBankAccountDto>> futures = accountNumbers.stream()
+                .map(accountNumber -> getAccountInfoAsync(accountNumber)
+                        .exceptionally(e -> {
+                            log.error("계좌 정보 조회 실패: {}, {}", accountNumber, e.getMessage());
+                            return null;
+                        }))
+                .collect(Collectors.toList());
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> futures.stream()
+                        .map(CompletableFuture::join)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList()));
+    }
+
+    /**
+     * 즉시 이체 비동기 실행 (호출 실패/이체 실패 응답 시 예외로 완료)
+     * - 제한 시간을 두지 않음: 응답 전에 포기하면 은행에서는 처리된 이체를 실패로 기록할 수 있음
+     */
+    public CompletableFuture<AutoTransferResponse> executeImmediateTransferAsync(AutoTransferRequest request, String userCi) {
+        return CompletableFuture.supplyAsync(() -> requestImmediateTransfer(request, userCi), clientExecutor);
+    }
+
+    /**
+     * 여러 건의 즉시 이체 실행
+     * - 요청 순서대로 건별 Future 반환 (한 건의 실패가 다른 건에 영향 없음)
+     * - 출금/입금 계좌가 겹치는 이체는 앞 건이 끝난 뒤 요청 순서대로 실행
+     *   (하나은행은 잔액을 읽은 뒤 절대값으로 갱신하므로 같은 계좌 동시 이체 시 입금액이 유실됨)
+     * - 계좌가 겹치지 않는 이체끼리만 동시에 실행
+     */
+    public List<CompletableFuture<AutoTransferResponse>> executeImmediateTransfers(List<ImmediateTransfer> transfers) {
+        Map<String, CompletableFuture<?>> lastTransferByAccount = new HashMap<>();
+        List<CompletableFuture<AutoTransferResponse>> futures = new ArrayList<>(transfers.size());
+
+        for (ImmediateTransfer transfer : transfers) {
+            AutoTransferRequest request = transfer.request();
+            List<String> accounts = Stream.of(request.getFromAccount(), request.getToAccount())
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+
+            CompletableFuture<?>[] previousTransfers = accounts.stream()
+                    .map(lastTransferByAccount::get)
+                    .filter(Objects::nonNull)
+                    .toArray(CompletableFuture[]::new);
+
+            // 앞 건의 성공/실패와 관계없이 완료된 뒤 실행
+            CompletableFuture<AutoTransferResponse> future = CompletableFuture.allOf(previousTransfers)
+                    .handle((ignored, failure) -> null)
+                    .thenApplyAsync(ignored -> requestImmediateTransfer(request, transfer.userCi()), clientExecutor);
+
+            accounts.forEach(account -> lastTransferByAccount.put(account, future));
+            futures.add(future);
+        }
+        return futures;
+    }
+
+    private HanaBankAccountDto fetchAccountInfo(String accountNumber) {
+        String url = hanaBankUrl + "/customer/accounts/info/" + accountNumber;
+        log.debug("하나은행 계좌 정보 조회 요청: {}", url);
+
+        ApiResponse<AccountPayload> body = restTemplate.exchange(
+                url, HttpMethod.GET, null, ACCOUNT_RESPONSE).getBody();
+
+        return body != null && body.data() != null ? toAccountDto(body.data()) : null;
+    }
+
+    private AutoTransferResponse requestImmediateTransfer(AutoTransferRequest request, String userCi) {
+        String url = hanaBankUrl + "/api/auto-payments/immediate-transfer";
+        log.info("즉시 이체 실행 요청: {}", url);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Content-Type", "application/json");
+        headers.set("X-User-CI", userCi);
+
+        ApiResponse<TransferPayload> body = restTemplate.exchange(
+                url, HttpMethod.POST, new HttpEntity<>(request, headers), TRANSFER_RESPONSE).getBody();
+
+        if (body == null || !body.success() || body.data() == null) {
+            throw new RuntimeException("즉시 이체 실패: " + (body != null ? body.message() : "응답 없음"));
+        }
+        log.info("즉시 이체 실행 응답: success={}, transactionId={}", body.data().success(), body.data().transactionId());
+
+        // 출금/입금 계좌 잔액이 바뀌었으므로 잔액 캐시 제거
+        balanceCache.evict(request.getFromAccount(), request.getToAccount());
+        return toAutoTransferResponse(body.data());
+    }
+
     /**
      * 계좌 유효성 검증 (계좌번호와 사용자 CI 매칭 확인)
      */
@@ -159,15 +264,13 @@ public class HanaBankClient {
             headers.set("Content-Type", "application/json");
             headers.set("X-User-CI", userCi);
             
-            HttpEntity<AutoTransferRequest> entity = new HttpEntity<>(request, headers);
-            ResponseEntity<Map> response = restTemplate.postForEntity(url, entity, Map.class);
-            Map<String, Object> responseBody = response.getBody();
+            ApiResponse<TransferPayload> body = restTemplate.exchange(
+                    url, HttpMethod.POST, new HttpEntity<>(request, headers), TRANSFER_RESPONSE).getBody();
             
-            log.info("자동이체 등록 응답: {}", responseBody);
+            log.info("자동이체 등록 응답: {}", body);
             
-            if (responseBody != null && Boolean.TRUE.equals(responseBody.get("success"))) {
-                Map<String, Object> data = (Map<String, Object>) responseBody.get("data");
-                return convertToAutoTransferResponse(data);
+            if (body != null && body.success() && body.data() != null) {
+                return toAutoTransferResponse(body.data());
             }
             
             return null;
@@ -321,26 +424,11 @@ public class HanaBankClient {
      */
     public AutoTransferResponse executeImmediateTransfer(AutoTransferRequest request, String userCi) {
         try {
-            String url = hanaBankUrl + "/api/auto-payments/immediate-transfer";
-            log.info("즉시 이체 실행 요청: {}", url);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Content-Type", "application/json");
-            headers.set("X-User-CI", userCi);
-
-            HttpEntity<AutoTransferRequest> entity = new HttpEntity<>(request, headers);
-            ResponseEntity<Map> response = restTemplate.postForEntity(url, entity, Map.class);
-            Map<String, Object> responseBody = response.getBody();
-
-            log.info("즉시 이체 실행 응답: {}", responseBody);
-
-            if (responseBody != null && Boolean.TRUE.equals(responseBody.get("success"))) {
-                Map<String, Object> data = (Map<String, Object>) responseBody.get("data");
-                return convertToAutoTransferResponse(data);
-            }
-
+            return requestImmediateTransfer(request, userCi);
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            // 하나은행으로 요청이 나가지 않았으므로 이체는 실행되지 않음 (재실행 가능)
+            log.warn("하나은행 호출 차단으로 즉시 이체 미실행: {}", e.getMessage());
             return null;
-
         } catch (Exception e) {
             log.error("즉시 이체 실행 실패: {}", e.getMessage());
             return null;
@@ -374,21 +462,34 @@ public class HanaBankClient {
     }
     
     // === 변환 헬퍼 메소드들 ===
-    
-    private AutoTransferResponse convertToAutoTransferResponse(Map<String, Object> data) {
+
+    private HanaBankAccountDto toAccountDto(AccountPayload account) {
+        return HanaBankAccountDto.builder()
+                .accountNumber(account.accountNumber())
+                .accountName(account.accountName())
+                .accountType(account.accountType())
+                .balance(account.balance() != null ? account.balance().longValue() : 0L) // 소수점 제거
+                .bankCode("088")
+                .bankName("하나은행")
+                .currency("KRW")
+                .status(account.status())
+                .build();
+    }
+
+    private AutoTransferResponse toAutoTransferResponse(TransferPayload data) {
         return AutoTransferResponse.builder()
-                .contractId(data.get("contractId") != null ? ((Number) data.get("contractId")).longValue() : null)
-                .fromAccount((String) data.get("fromAccount"))
-                .toAccount((String) data.get("toAccount"))
-                .toBankCode((String) data.get("toBankCode"))
-                .toBankName((String) data.get("toBankName"))
-                .amount(data.get("amount") != null ? new java.math.BigDecimal(data.get("amount").toString()) : null)
-                .transferDay((Integer) data.get("transferDay"))
-                .beneficiaryName((String) data.get("beneficiaryName"))
-                .memo((String) data.get("memo"))
-                .status((String) data.get("status"))
-                .transactionId((String) data.get("transactionId"))
-                .success((Boolean) data.get("success"))
+                .contractId(data.contractId())
+                .fromAccount(data.fromAccount())
+                .toAccount(data.toAccount())
+                .toBankCode(data.toBankCode())
+                .toBankName(data.toBankName())
+                .amount(data.amount())
+                .transferDay(data.transferDay())
+                .beneficiaryName(data.beneficiaryName())
+                .memo(data.memo())
+                .status(data.status())
+                .transactionId(data.transactionId())
+                .success(data.success())
                 .build();
     }
     
@@ -549,4 +650,31 @@ public class HanaBankClient {
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 일괄 즉시 이체 요청 단위
+     */
+    public record ImmediateTransfer(AutoTransferRequest request, String userCi) {
+    }
+
+    // === 하나은행 응답 형식 (ApiResponseDto) ===
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record ApiResponse<T>(boolean success, String message, T data) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record AccountPayload(String accountNumber, String accountName, String accountType,
+                          BigDecimal balance, String status) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record AccountsPayload(List<AccountPayload> accounts) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record TransferPayload(Long contractId, String fromAccount, String toAccount, String toBankCode,
+                           String toBankName, BigDecimal amount, Integer transferDay, String beneficiaryName,
+                           String memo, String status, String transactionId, Boolean success) {
+    }
+}
@@ -20,7 +20,7 @@ import java.util.Map;
 @Slf4j
 public class KsdClient {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
 
     @Value("${external.ksd.base-url:http://localhost:8095}")
     private String baseUrl;
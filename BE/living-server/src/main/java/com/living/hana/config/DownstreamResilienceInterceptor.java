@@ -0,0 +1,125 @@
+package com.living.hana.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 대상 서비스(downstream)별 Bulkhead + CircuitBreaker 적용 인터셉터
+ * - Bulkhead: 한 서비스가 동시에 점유할 수 있는 요청 스레드 수 제한 (초과 시 대기 없이 BulkheadFullException)
+ * - CircuitBreaker: 연결 실패/타임아웃/5xx 비율이 높거나 느린 호출이 많으면 일정 시간 즉시 실패 (CallNotPermittedException)
+ * - Bulkhead 허가는 RestTemplate 이 응답 본문을 다 읽고 응답을 닫을 때 반환 (본문 수신 중에도 커넥션을 점유하므로)
+ * - 등록되지 않은 호스트는 그대로 통과
+ */
+class DownstreamResilienceInterceptor implements ClientHttpRequestInterceptor {
+
+    private final Map<String, Guard> guards;
+
+    DownstreamResilienceInterceptor(Map<String, Guard> guards) {
+        this.guards = guards;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        Guard guard = guards.get(RestTemplateConfig.routeKey(request.getURI()));
+        if (guard == null) {
+            return execution.execute(request, body);
+        }
+
+        CircuitBreaker circuitBreaker = guard.circuitBreaker();
+        Bulkhead bulkhead = guard.bulkhead();
+
+        circuitBreaker.acquirePermission();
+        if (!bulkhead.tryAcquirePermission()) {
+            circuitBreaker.releasePermission();
+            throw BulkheadFullException.createBulkheadFullException(bulkhead);
+        }
+
+        long start = circuitBreaker.getCurrentTimestamp();
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException | RuntimeException e) {
+            circuitBreaker.onError(circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit(), e);
+            bulkhead.onComplete();
+            throw e;
+        }
+
+        try {
+            long duration = circuitBreaker.getCurrentTimestamp() - start;
+            if (response.getStatusCode().is5xxServerError()) {
+                circuitBreaker.onError(duration, circuitBreaker.getTimestampUnit(),
+                        new HttpServerErrorException(response.getStatusCode()));
+            } else {
+                circuitBreaker.onSuccess(duration, circuitBreaker.getTimestampUnit());
+            }
+        } catch (IOException | RuntimeException e) {
+            circuitBreaker.onError(circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit(), e);
+            response.close();
+            bulkhead.onComplete();
+            throw e;
+        }
+        return new PermitReleasingResponse(response, bulkhead);
+    }
+
+    /**
+     * 응답을 닫을 때 Bulkhead 허가를 한 번만 반환하는 래퍼
+     */
+    private static final class PermitReleasingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final Bulkhead bulkhead;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PermitReleasingResponse(ClientHttpResponse delegate, Bulkhead bulkhead) {
+            this.delegate = delegate;
+            this.bulkhead = bulkhead;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    bulkhead.onComplete();
+                }
+            }
+        }
+    }
+
+    record Guard(CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+    }
+}
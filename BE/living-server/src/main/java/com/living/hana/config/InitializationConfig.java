@@ -3,29 +3,36 @@ package com.living.hana.config;
 import com.living.hana.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import java.util.concurrent.CompletableFuture;
 
 @Configuration
 @RequiredArgsConstructor
 @Slf4j
-public class InitializationConfig implements CommandLineRunner {
+public class InitializationConfig {
 
     private final UserService userService;
 
-    @Override
-    public void run(String... args) {
-        try {
-            log.info("Starting application initialization");
-            
-            // 기존 사용자들의 userCi 업데이트 (누락된 것 + 잘못된 것)
-            userService.updateMissingUserCi();
-            userService.fixInvalidUserCi();  // 새 메서드 추가
-            
-            log.info("Application initialization completed successfully");
-        } catch (Exception e) {
-            log.error("Error during application initialization: {}", e.getMessage(), e);
-            // 초기화 실패가 애플리케이션 시작을 방해하지 않도록 예외를 먹음
-        }
+    /**
+     * 기동 완료 후 백그라운드에서 데이터 보정 (기동/준비 상태가 테이블 크기에 영향받지 않도록)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void run() {
+        CompletableFuture.runAsync(() -> {
+            try {
+                log.info("Starting application initialization");
+
+                // 기존 사용자들의 userCi 보정 (누락된 것 + 잘못된 것)
+                userService.repairUserCi();
+
+                log.info("Application initialization completed successfully");
+            } catch (Exception e) {
+                log.error("Error during application initialization: {}", e.getMessage(), e);
+                // 초기화 실패가 애플리케이션 동작을 방해하지 않도록 예외를 먹음
+            }
+        });
     }
-}
\ No newline at end of file
+}
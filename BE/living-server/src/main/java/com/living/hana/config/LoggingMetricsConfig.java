@@ -0,0 +1,22 @@
+package com.living.hana.config;
+
+import com.living.hana.logging.DropCountingAsyncAppender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class LoggingMetricsConfig {
+
+    /**
+     * 비동기 로그 큐 포화로 버려진 이벤트 수 (logging.async.dropped)
+     */
+    @Bean
+    public FunctionCounter asyncLogDroppedEventsCounter(MeterRegistry meterRegistry) {
+        return FunctionCounter.builder("logging.async.dropped", DropCountingAsyncAppender.class,
+                        type -> DropCountingAsyncAppender.getDroppedEventCount())
+                .description("Log events dropped by the async appender under back-pressure")
+                .register(meterRegistry);
+    }
+}
@@ -1,19 +1,327 @@
 package com.living.hana.config;
 
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서비스 간 호출용 RestTemplate (Apache HttpClient 5 커넥션 풀)
+ * - keep-alive 커넥션 재사용, 유휴 커넥션 정리
+ * - 대상 서비스(downstream)별 최대 커넥션 수와 connect/read/acquire 타임아웃 분리
+ *   (http.client.downstream.{name}.max-connections / connect-timeout-ms / read-timeout-ms / acquire-timeout-ms)
+ * - 대상 서비스별 Bulkhead/CircuitBreaker 적용 (DownstreamResilienceInterceptor)
+ * - 등록되지 않은 호스트는 http.client.* 기본값 사용
+ */
+@Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class RestTemplateConfig {
-    
+
+    private static final String DOWNSTREAM_PREFIX = "http.client.downstream.";
+
+    // 대상 서비스 목록: 이름, base-url 프로퍼티, 기본 URL, 기본 read 타임아웃(, 기존 타임아웃 프로퍼티)
+    private static final List<Downstream> DOWNSTREAMS = List.of(
+            new Downstream("hanabank", "hanabank.api.base-url", "http://localhost:8090", 30000),
+            new Downstream("main-service", "main.service.url", "http://localhost:8091", 10000),
+            new Downstream("securities", "hana.securities.api.base-url", "http://localhost:8093", 10000),
+            new Downstream("ksd", "external.ksd.base-url", "http://localhost:8095", 10000),
+            new Downstream("ai-orchestrator", "ai.orchestrator.url", null, 30000, "ai.orchestrator.timeout"),
+            new Downstream("kis", "kis.api.base-url", "https://openapi.koreainvestment.com:9443", 10000)
+    );
+
+    @Value("${http.client.max-total:200}")
+    private int maxTotal;
+
+    @Value("${http.client.default-max-per-route:20}")
+    private int defaultMaxPerRoute;
+
+    @Value("${http.client.connect-timeout-ms:2000}")
+    private long defaultConnectTimeoutMs;
+
+    @Value("${http.client.read-timeout-ms:30000}")
+    private long defaultReadTimeoutMs;
+
+    @Value("${http.client.acquire-timeout-ms:1000}")
+    private long defaultAcquireTimeoutMs;
+
+    // 서버가 Keep-Alive 헤더를 주지 않을 때 커넥션 유지 시간
+    @Value("${http.client.keep-alive-ms:30000}")
+    private long keepAliveMs;
+
+    @Value("${http.client.validate-after-inactivity-ms:2000}")
+    private long validateAfterInactivityMs;
+
+    // 서킷브레이커 기본값 (resilience4j.circuitbreaker.instances.{name} 설정이 있으면 그 설정 사용)
+    @Value("${http.client.circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${http.client.circuit-breaker.slow-call-ms:5000}")
+    private long slowCallMs;
+
+    @Value("${http.client.circuit-breaker.open-state-ms:10000}")
+    private long openStateMs;
+
+    // Bulkhead 대기 시간 (기본 0: 동시 호출 한도 초과 시 즉시 거절)
+    @Value("${http.client.bulkhead.max-wait-ms:0}")
+    private long bulkheadMaxWaitMs;
+
+    private final Environment environment;
+
+    private List<DownstreamRoute> downstreamRoutes = List.of();
+
+    @PostConstruct
+    public void initDownstreamRoutes() {
+        Map<HttpRoute, DownstreamRoute> routes = new LinkedHashMap<>();
+        for (Downstream downstream : DOWNSTREAMS) {
+            String baseUrl = environment.getProperty(downstream.baseUrlProperty(), downstream.defaultBaseUrl());
+            if (baseUrl == null || baseUrl.isBlank()) {
+                continue;
+            }
+
+            HttpRoute route;
+            try {
+                route = toRoute(URI.create(baseUrl.trim()));
+            } catch (IllegalArgumentException e) {
+                log.warn("HTTP 클라이언트 라우트 설정 제외 - {}: {}", downstream.name(), baseUrl);
+                continue;
+            }
+
+            String prefix = DOWNSTREAM_PREFIX + downstream.name() + ".";
+            long readTimeoutMs = downstream.readTimeoutProperty() != null
+                    ? environment.getProperty(downstream.readTimeoutProperty(), Long.class, (long) downstream.defaultReadTimeoutMs())
+                    : downstream.defaultReadTimeoutMs();
+            DownstreamRoute downstreamRoute = new DownstreamRoute(
+                    downstream.name(),
+                    route,
+                    environment.getProperty(prefix + "max-connections", Integer.class, defaultMaxPerRoute),
+                    environment.getProperty(prefix + "connect-timeout-ms", Long.class, defaultConnectTimeoutMs),
+                    environment.getProperty(prefix + "read-timeout-ms", Long.class, readTimeoutMs),
+                    environment.getProperty(prefix + "acquire-timeout-ms", Long.class, defaultAcquireTimeoutMs));
+
+            // 같은 호스트를 쓰는 서비스는 먼저 등록된 설정 사용
+            routes.putIfAbsent(route, downstreamRoute);
+        }
+        downstreamRoutes = List.copyOf(routes.values());
+    }
+
+    @Bean
+    public PoolingHttpClientConnectionManager httpClientConnectionManager() {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(defaultMaxPerRoute);
+
+        Map<HttpRoute, ConnectionConfig> connectionConfigs = new LinkedHashMap<>();
+        for (DownstreamRoute downstreamRoute : downstreamRoutes) {
+            connectionManager.setMaxPerRoute(downstreamRoute.route(), downstreamRoute.maxConnections());
+            connectionConfigs.put(downstreamRoute.route(),
+                    connectionConfig(downstreamRoute.connectTimeoutMs(), downstreamRoute.readTimeoutMs()));
+        }
+
+        ConnectionConfig defaultConnectionConfig = connectionConfig(defaultConnectTimeoutMs, defaultReadTimeoutMs);
+        connectionManager.setConnectionConfigResolver(route -> connectionConfigs.getOrDefault(route, defaultConnectionConfig));
+        return connectionManager;
+    }
+
+    @Bean
+    public CloseableHttpClient interServiceHttpClient(PoolingHttpClientConnectionManager httpClientConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(httpClientConnectionManager)
+                .setDefaultRequestConfig(requestConfig(defaultReadTimeoutMs, defaultAcquireTimeoutMs))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(keepAliveMs))
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(5000);   // 5초 (외부 API 연결)
-        factory.setReadTimeout(60000);     // 60초 (외부 API 응답) - 시뮬레이션 대응
+    public RestTemplate restTemplate(CloseableHttpClient interServiceHttpClient,
+                                     CircuitBreakerRegistry circuitBreakerRegistry,
+                                     BulkheadRegistry bulkheadRegistry) {
+        Map<String, RequestConfig> requestConfigs = new LinkedHashMap<>();
+        Map<String, DownstreamResilienceInterceptor.Guard> guards = new LinkedHashMap<>();
+        for (DownstreamRoute downstreamRoute : downstreamRoutes) {
+            String key = routeKey(downstreamRoute.route().getTargetHost());
+            requestConfigs.put(key, requestConfig(downstreamRoute.readTimeoutMs(), downstreamRoute.acquireTimeoutMs()));
+            guards.put(key, new DownstreamResilienceInterceptor.Guard(
+                    circuitBreaker(circuitBreakerRegistry, downstreamRoute),
+                    bulkhead(bulkheadRegistry, downstreamRoute)));
+        }
+
+        RestTemplate restTemplate = new RestTemplate(new DownstreamAwareRequestFactory(interServiceHttpClient, requestConfigs));
+        restTemplate.getInterceptors().add(new DownstreamResilienceInterceptor(guards));
+        return restTemplate;
+    }
+
+    /**
+     * 대상 서비스별 서킷브레이커 (이름 = downstream 이름)
+     */
+    private CircuitBreaker circuitBreaker(CircuitBreakerRegistry registry, DownstreamRoute downstreamRoute) {
+        return registry.find(downstreamRoute.name()).orElseGet(() -> registry.circuitBreaker(downstreamRoute.name(),
+                CircuitBreakerConfig.custom()
+                        .slidingWindowSize(20)
+                        .minimumNumberOfCalls(10)
+                        .failureRateThreshold(failureRateThreshold)
+                        .slowCallDurationThreshold(Duration.ofMillis(Math.min(slowCallMs, downstreamRoute.readTimeoutMs())))
+                        .slowCallRateThreshold(80)
+                        .waitDurationInOpenState(Duration.ofMillis(openStateMs))
+                        .permittedNumberOfCallsInHalfOpenState(3)
+                        .build()));
+    }
+
+    /**
+     * 대상 서비스별 Bulkhead (동시 호출 한도 = 해당 서비스 최대 커넥션 수)
+     */
+    private Bulkhead bulkhead(BulkheadRegistry registry, DownstreamRoute downstreamRoute) {
+        return registry.find(downstreamRoute.name()).orElseGet(() -> registry.bulkhead(downstreamRoute.name(),
+                BulkheadConfig.custom()
+                        .maxConcurrentCalls(downstreamRoute.maxConnections())
+                        .maxWaitDuration(Duration.ofMillis(bulkheadMaxWaitMs))
+                        .build()));
+    }
+
+    /**
+     * 커넥션 풀 메트릭
+     * - 전체: httpcomponents.httpclient.pool.* (name=inter-service)
+     * - 대상 서비스별: http.client.pool.route.leased / available / pending / max (downstream 태그)
+     */
+    @Bean
+    public MeterBinder httpClientPoolMetrics(PoolingHttpClientConnectionManager httpClientConnectionManager) {
+        return registry -> {
+            new PoolingHttpClientConnectionManagerMetricsBinder(httpClientConnectionManager, "inter-service").bindTo(registry);
+            for (DownstreamRoute downstreamRoute : downstreamRoutes) {
+                bindRouteGauges(registry, httpClientConnectionManager, downstreamRoute);
+            }
+        };
+    }
+
+    private void bindRouteGauges(MeterRegistry registry, PoolingHttpClientConnectionManager connectionManager,
+                                 DownstreamRoute downstreamRoute) {
+        HttpRoute route = downstreamRoute.route();
+        Gauge.builder("http.client.pool.route.leased", connectionManager, cm -> cm.getStats(route).getLeased())
+                .tag("downstream", downstreamRoute.name())
+                .description("Connections currently leased for the downstream")
+                .register(registry);
+        Gauge.builder("http.client.pool.route.available", connectionManager, cm -> cm.getStats(route).getAvailable())
+                .tag("downstream", downstreamRoute.name())
+                .description("Idle keep-alive connections for the downstream")
+                .register(registry);
+        Gauge.builder("http.client.pool.route.pending", connectionManager, cm -> cm.getStats(route).getPending())
+                .tag("downstream", downstreamRoute.name())
+                .description("Requests waiting to acquire a connection for the downstream")
+                .register(registry);
+        Gauge.builder("http.client.pool.route.max", connectionManager, cm -> cm.getMaxPerRoute(route))
+                .tag("downstream", downstreamRoute.name())
+                .description("Connection limit for the downstream")
+                .register(registry);
+    }
+
+    private ConnectionConfig connectionConfig(long connectTimeoutMs, long readTimeoutMs) {
+        return ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .setValidateAfterInactivity(TimeValue.ofMilliseconds(validateAfterInactivityMs))
+                .build();
+    }
+
+    private RequestConfig requestConfig(long readTimeoutMs, long acquireTimeoutMs) {
+        return RequestConfig.custom()
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(acquireTimeoutMs))
+                .setConnectionKeepAlive(TimeValue.ofMilliseconds(keepAliveMs))
+                .build();
+    }
+
+    private static HttpRoute toRoute(URI uri) {
+        String scheme = uri.getScheme() != null ? uri.getScheme().toLowerCase() : "http";
+        if (uri.getHost() == null) {
+            throw new IllegalArgumentException("호스트가 없는 URL: " + uri);
+        }
+        boolean secure = "https".equals(scheme);
+        int port = uri.getPort() > 0 ? uri.getPort() : (secure ? 443 : 80);
+        return new HttpRoute(new HttpHost(scheme, uri.getHost(), port), null, secure);
+    }
+
+    private static String routeKey(HttpHost host) {
+        return host.getSchemeName() + "://" + host.getHostName().toLowerCase() + ":" + host.getPort();
+    }
+
+    /**
+     * 요청 URL의 라우트 키 (호스트가 없으면 null)
+     */
+    static String routeKey(URI uri) {
+        return uri.getHost() != null ? routeKey(toRoute(uri).getTargetHost()) : null;
+    }
+
+    private record Downstream(String name, String baseUrlProperty, String defaultBaseUrl, int defaultReadTimeoutMs,
+                              String readTimeoutProperty) {
+
+        Downstream(String name, String baseUrlProperty, String defaultBaseUrl, int defaultReadTimeoutMs) {
+            this(name, baseUrlProperty, defaultBaseUrl, defaultReadTimeoutMs, null);
+        }
+    }
+
+    /**
+     * 대상 서비스별 커넥션 풀/타임아웃 설정
+     */
+    private record DownstreamRoute(String name, HttpRoute route, int maxConnections,
+                                  long connectTimeoutMs, long readTimeoutMs, long acquireTimeoutMs) {
+    }
+
+    /**
+     * 요청 URL의 호스트에 맞는 read/acquire 타임아웃을 적용하는 RequestFactory
+     */
+    private static class DownstreamAwareRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+        private final Map<String, RequestConfig> requestConfigs;
+
+        DownstreamAwareRequestFactory(CloseableHttpClient httpClient, Map<String, RequestConfig> requestConfigs) {
+            super(httpClient);
+            this.requestConfigs = requestConfigs;
+        }
 
-        return new RestTemplate(factory);
+        @Override
+        protected HttpContext createHttpContext(HttpMethod httpMethod, URI uri) {
+            String key = routeKey(uri);
+            RequestConfig requestConfig = key != null ? requestConfigs.get(key) : null;
+            if (requestConfig == null) {
+                return null;
+            }
+            HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(requestConfig);
+            return context;
+        }
     }
 }
@@ -0,0 +1,83 @@
+package com.living.hana.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 집계 쿼리가 의존하는 수동 마이그레이션 적용 여부를 기동 시 확인
+ * - 적용 순서: sql/date_columns_migration.sql → sql/date_range_indexes.sql → sql/financial_monthly_rollup.sql
+ * - 누락 시 첫 집계 요청에서 ORA-00904 등으로 실패하는 대신 기동 단계에서 원인과 스크립트를 알려주고 중단
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SchemaPrerequisiteCheck {
+
+    private static final String DATE_MIGRATION = "sql/date_columns_migration.sql";
+    private static final String ROLLUP_MIGRATION = "sql/financial_monthly_rollup.sql";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${schema.prerequisite-check.enabled:true}")
+    private boolean enabled;
+
+    @PostConstruct
+    public void verify() {
+        if (!enabled) {
+            log.warn("스키마 선행 조건 확인이 비활성화되어 있습니다 (schema.prerequisite-check.enabled=false)");
+            return;
+        }
+
+        Map<String, String> columnTypes = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT table_name, column_name, data_type FROM user_tab_columns " +
+                "WHERE (table_name, column_name) IN (('PAYMENTS', 'PAID_AT'), ('EXPENSES', 'EXPENSE_DATE'), " +
+                "('RENT_PAYMENT_RECORDS', 'PAYMENT_DATE'), ('FINANCIAL_MONTHLY_ROLLUP', 'ROLLUP_MONTH'), " +
+                "('FINANCIAL_MONTHLY_ROLLUP_LOCK', 'ROLLUP_MONTH'))",
+                rs -> {
+                    columnTypes.put(rs.getString("table_name") + "." + rs.getString("column_name"), rs.getString("data_type"));
+                });
+
+        List<String> problems = findProblems(columnTypes);
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("DB 마이그레이션이 적용되지 않았습니다. " + String.join("; ", problems));
+        }
+        log.info("스키마 선행 조건 확인 완료");
+    }
+
+    /**
+     * user_tab_columns 조회 결과(테이블.컬럼 → 타입)로 누락된 선행 조건 목록 생성
+     */
+    static List<String> findProblems(Map<String, String> columnTypes) {
+        List<String> problems = new ArrayList<>();
+        if (!columnTypes.containsKey("PAYMENTS.PAID_AT")) {
+            problems.add("PAYMENTS.PAID_AT 가상 컬럼이 없습니다 (" + DATE_MIGRATION + ")");
+        }
+        if (!isDateType(columnTypes.get("EXPENSES.EXPENSE_DATE"))) {
+            problems.add("EXPENSES.EXPENSE_DATE 가 DATE 타입이 아닙니다: " + columnTypes.get("EXPENSES.EXPENSE_DATE") + " (" + DATE_MIGRATION + ")");
+        }
+        if (!isDateType(columnTypes.get("RENT_PAYMENT_RECORDS.PAYMENT_DATE"))) {
+            problems.add("RENT_PAYMENT_RECORDS.PAYMENT_DATE 가 DATE 타입이 아닙니다: " + columnTypes.get("RENT_PAYMENT_RECORDS.PAYMENT_DATE") + " (" + DATE_MIGRATION + ")");
+        }
+        if (!columnTypes.containsKey("FINANCIAL_MONTHLY_ROLLUP.ROLLUP_MONTH")) {
+            problems.add("FINANCIAL_MONTHLY_ROLLUP 테이블이 없습니다 (" + ROLLUP_MIGRATION + ", " + DATE_MIGRATION + " 적용 후 실행)");
+        }
+        if (!columnTypes.containsKey("FINANCIAL_MONTHLY_ROLLUP_LOCK.ROLLUP_MONTH")) {
+            problems.add("FINANCIAL_MONTHLY_ROLLUP_LOCK 테이블이 없습니다 (" + ROLLUP_MIGRATION + ")");
+        }
+        return problems;
+    }
+
+    private static boolean isDateType(String dataType) {
+        return dataType != null && (dataType.equals("DATE") || dataType.startsWith("TIMESTAMP"));
+    }
+}
@@ -2,6 +2,7 @@ package com.living.hana.config;
 
 import com.living.hana.security.JwtAuthenticationFilter;
 import com.living.hana.security.JwtTokenProvider;
+import com.living.hana.security.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -30,6 +31,7 @@ public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final ApplicationContext applicationContext;
+    private final PrincipalCache principalCache;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -38,7 +40,7 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtTokenProvider, applicationContext);
+        return new JwtAuthenticationFilter(jwtTokenProvider, applicationContext, principalCache);
     }
 
     @Bean
@@ -22,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RestController
@@ -156,14 +157,13 @@ public class ContractController {
     @GetMapping("/stats")
     public ResponseEntity<ApiResponse<Object>> getContractStats() {
         try {
-            List<Contract> allContracts = contractService.findAll();
-            
-            // 상태별 계약 수 집계
-            long totalContracts = allContracts.size();
-            long activeContracts = allContracts.stream().filter(c -> "ACTIVE".equals(c.getStatus())).count();
-            long pendingContracts = allContracts.stream().filter(c -> "PENDING".equals(c.getStatus())).count();
-            long expiredContracts = allContracts.stream().filter(c -> "EXPIRED".equals(c.getStatus())).count();
-            long terminatedContracts = allContracts.stream().filter(c -> "TERMINATED".equals(c.getStatus())).count();
+            // 상태별 계약 수 집계 (DB에서 COUNT 로 집계)
+            Map<String, Long> counts = contractService.getContractStatusCounts();
+            long totalContracts = counts.get("TOTAL");
+            long activeContracts = counts.get("ACTIVE");
+            long pendingContracts = counts.get("PENDING");
+            long expiredContracts = counts.get("EXPIRED");
+            long terminatedContracts = counts.get("TERMINATED");
             
             // 통계 데이터 구성
             Object stats = new Object() {
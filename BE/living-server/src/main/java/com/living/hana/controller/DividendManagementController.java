@@ -88,8 +88,10 @@ public class DividendManagementController {
                 return ResponseEntity.ok(ApiResponse.error("존재하지 않는 상품입니다."));
             }
 
-            // 배당 가능 금액 계산 (임대수익 기반)
-            BigDecimal availableDividendAmount = dividendCalculationService.calculateAvailableDividendWithPeriod(productCode, period);
+            // 배당 계산 상세 내역 (임대수익 기반 배당 가능 금액 포함)
+            Map<String, Object> calculationDetails = dividendCalculationService.getCalculationDetails(productCode, period);
+            BigDecimal availableDividendAmount = calculationDetails.get("availableDividend") instanceof BigDecimal amount ?
+                amount : BigDecimal.ZERO;
 
             // 총 발행주식수 확인
             Long totalShares = product.getTotalShares();
@@ -102,9 +104,6 @@ public class DividendManagementController {
                 new BigDecimal(totalShares), 2, RoundingMode.HALF_UP
             );
 
-            // 상세 계산 내역도 함께 반환
-            Map<String, Object> calculationDetails = dividendCalculationService.getCalculationDetails(productCode, period);
-
             Map<String, Object> dividendInfo = new HashMap<>();
             dividendInfo.put("productCode", product.getProductCode());
             dividendInfo.put("productName", product.getProductName());
@@ -122,6 +121,27 @@ public class DividendManagementController {
         }
     }
 
+    /**
+     * 전체 상품 배당 계산 상세 내역 일괄 조회 - 분기/연간 배당 일괄 처리용
+     */
+    @GetMapping("/products/calculation-details")
+    public ResponseEntity<ApiResponse<Map<String, Map<String, Object>>>> getAllCalculationDetails(
+            @RequestParam(value = "period", defaultValue = "current_quarter") String period) {
+        try {
+            log.info("전체 상품 배당 계산 상세 내역 조회 요청: {}", period);
+
+            Map<String, Map<String, Object>> details =
+                dividendCalculationService.getCalculationDetailsForAllProducts(period);
+
+            return ResponseEntity.ok(ApiResponse.successWithMessage(details,
+                "전체 상품 배당 계산 내역을 성공적으로 조회했습니다."));
+
+        } catch (Exception e) {
+            log.error("전체 상품 배당 계산 내역 조회 실패: {}", period, e);
+            return ResponseEntity.ok(ApiResponse.error("전체 상품 배당 계산 내역 조회에 실패했습니다."));
+        }
+    }
+
     /**
      * 총 발행주식수 업데이트
      */
@@ -1,8 +1,6 @@
 package com.living.hana.controller;
 
-import com.google.cloud.storage.BlobId;
-import com.google.cloud.storage.BlobInfo;
-import com.google.cloud.storage.Storage;
+import com.living.hana.service.StorageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,10 +8,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/files")
@@ -22,7 +18,7 @@ import java.util.UUID;
 @CrossOrigin(origins = "*")
 public class FileUploadController {
 
-    private final Storage storage;
+    private final StorageService storageService;
 
     @Value("${gcp.storage.bucket-name}")
     private String bucketName;
@@ -38,20 +34,10 @@ public class FileUploadController {
                 return ResponseEntity.badRequest().body(response);
             }
 
-            // 파일명 생성 (UUID + 원본 파일명)
             String originalFilename = file.getOriginalFilename();
-            String extension = originalFilename != null && originalFilename.contains(".")
-                ? originalFilename.substring(originalFilename.lastIndexOf("."))
-                : "";
-            String fileName = "contracts/" + UUID.randomUUID() + extension;
 
-            // GCS에 파일 업로드
-            BlobId blobId = BlobId.of(bucketName, fileName);
-            BlobInfo blobInfo = BlobInfo.newBuilder(blobId)
-                    .setContentType(file.getContentType())
-                    .build();
-
-            storage.create(blobInfo, file.getBytes());
+            // GCS에 파일 업로드 (UUID 파일명, 스트리밍 업로드)
+            String fileName = storageService.uploadFile(file, "contracts");
 
             // 공개 URL 생성
             String fileUrl = String.format("https://storage.googleapis.com/%s/%s", bucketName, fileName);
@@ -68,10 +54,11 @@ public class FileUploadController {
 
             return ResponseEntity.ok(response);
 
-        } catch (IOException e) {
-            log.error("파일 업로드 실패: {}", e.getMessage(), e);
+        } catch (RuntimeException e) {
+            String reason = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+            log.error("파일 업로드 실패: {}", reason, e);
             response.put("success", false);
-            response.put("message", "파일 업로드에 실패했습니다: " + e.getMessage());
+            response.put("message", "파일 업로드에 실패했습니다: " + reason);
             return ResponseEntity.status(500).body(response);
         }
     }
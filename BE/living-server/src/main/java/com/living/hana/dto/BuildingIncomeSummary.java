@@ -0,0 +1,21 @@
+package com.living.hana.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * REIT 상품별 건물 임대수익/운영비용 집계 결과 (배당 계산용)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BuildingIncomeSummary {
+    private String productCode;       // REIT 상품 코드
+    private Long buildingId;          // 건물 ID
+    private String buildingName;      // 건물명
+    private BigDecimal rentalIncome;  // 기간 내 임대수익 합계
+    private BigDecimal expenses;      // 기간 내 건물별 운영비용 합계
+}
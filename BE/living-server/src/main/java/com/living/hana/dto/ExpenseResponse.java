@@ -70,4 +70,17 @@ public class ExpenseResponse {
         private BigDecimal amount;   // 금액
         private Long count;         // 건수
     }
+
+    // 지출 통계 집계 행 (GROUPING SETS 결과)
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class StatisticsRow {
+        private String groupType;    // TOTAL / CATEGORY / MONTH
+        private String groupKey;     // 카테고리 또는 월 (YYYY-MM), TOTAL 은 null
+        private BigDecimal amount;   // 금액
+        private Long count;         // 건수
+        private Double percentage;  // 총액 대비 비율
+    }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.living.hana.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 월별 재무 집계 한 행 (건물 x 월 x 수익/지출 구분 x 카테고리)
+ * FINANCIAL_MONTHLY_ROLLUP 조회 결과와 원천 테이블 실시간 집계 결과가 같은 형태를 사용
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FinancialRollupRow {
+    private Long buildingId;        // 건물 ID (0 = 건물 미지정/공통)
+    private String month;           // 월 (YYYY-MM)
+    private String flowType;        // REVENUE / EXPENSE
+    private String category;        // 수익: PAYMENT_CATEGORY, 지출: CATEGORY
+    private BigDecimal amount;      // 금액 합계
+    private Long count;             // 건수
+}
@@ -111,6 +111,14 @@ public class KisStockPriceDto {
     @JsonProperty("bidp_rsqn10")
     private String bidp_rsqn10;
 
+    // KIS 조회 실패 시 마지막 정상 시세로 대체한 응답인지 여부
+    @JsonProperty("stale")
+    private boolean stale;
+
+    // KIS 에서 시세를 받은 시각 (epoch millis)
+    @JsonProperty("fetchedAt")
+    private Long fetchedAt;
+
     // 생성자
     public KisStockPriceDto() {}
 
@@ -250,4 +258,9 @@ public class KisStockPriceDto {
     public void setBidp_rsqn9(String bidp_rsqn9) { this.bidp_rsqn9 = bidp_rsqn9; }
     public String getBidp_rsqn10() { return bidp_rsqn10; }
     public void setBidp_rsqn10(String bidp_rsqn10) { this.bidp_rsqn10 = bidp_rsqn10; }
+
+    public boolean isStale() { return stale; }
+    public void setStale(boolean stale) { this.stale = stale; }
+    public Long getFetchedAt() { return fetchedAt; }
+    public void setFetchedAt(Long fetchedAt) { this.fetchedAt = fetchedAt; }
 }
\ No newline at end of file
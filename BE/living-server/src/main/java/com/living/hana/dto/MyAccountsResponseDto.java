@@ -29,6 +29,7 @@ public class MyAccountsResponseDto {
         private String bankCode;
         private String currency;
         private String lastTransactionDate;
+        private boolean stale;  // 조회 지연/실패로 최근 캐시 값(또는 잔액 없음)을 대신 반환한 경우
     }
     
     @Data
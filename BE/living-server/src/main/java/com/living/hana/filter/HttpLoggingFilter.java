@@ -1,26 +1,37 @@
 package com.living.hana.filter;
 
+import com.living.hana.util.SensitiveDataMasker;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * 모든 HTTP 요청/응답을 자동으로 로깅하는 Filter
  * - 요청 ID 자동 생성 및 MDC 등록
  * - 요청/응답 시간 측정
  * - 민감정보 자동 마스킹
+ * - 본문은 버퍼링하지 않고 텍스트 응답의 앞부분(최대 MAX_PAYLOAD_LENGTH 바이트)만 캡처
+ * - 경로별 샘플링 (4xx/5xx 응답은 항상 로깅)
  */
 @Slf4j
 @Component
@@ -29,6 +40,36 @@ public class HttpLoggingFilter extends OncePerRequestFilter {
 
     private static final int MAX_PAYLOAD_LENGTH = 1000;
 
+    // 기본 샘플링 비율 (0.0 ~ 1.0)
+    @Value("${logging.http.sample-rate:1.0}")
+    private double defaultSampleRate;
+
+    // 경로 접두사별 샘플링 비율 (예: /api/reits/prices=0.05,/api/investment=0.2)
+    @Value("${logging.http.route-sample-rates:}")
+    private String routeSampleRatesSpec;
+
+    private List<RouteSampleRate> routeSampleRates = List.of();
+
+    @PostConstruct
+    public void initSampleRates() {
+        List<RouteSampleRate> rates = new ArrayList<>();
+        for (String entry : routeSampleRatesSpec.split(",")) {
+            int separator = entry.lastIndexOf('=');
+            if (separator <= 0) {
+                continue;
+            }
+            try {
+                rates.add(new RouteSampleRate(entry.substring(0, separator).trim(),
+                        Double.parseDouble(entry.substring(separator + 1).trim())));
+            } catch (NumberFormatException e) {
+                log.warn("Invalid HTTP log sample rate entry ignored: {}", entry);
+            }
+        }
+        // 가장 긴 접두사가 먼저 매칭되도록 정렬
+        rates.sort(Comparator.comparingInt((RouteSampleRate rate) -> rate.prefix().length()).reversed());
+        routeSampleRates = List.copyOf(rates);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                      HttpServletResponse response,
@@ -41,39 +82,44 @@ public class HttpLoggingFilter extends OncePerRequestFilter {
         }
 
         // 요청 ID 생성 및 MDC 등록
-        String requestId = UUID.randomUUID().toString().substring(0, 8);
+        String requestId = generateRequestId();
         MDC.put("requestId", requestId);
         MDC.put("method", request.getMethod());
         MDC.put("uri", request.getRequestURI());
 
-        // Request/Response Body 캐싱을 위한 Wrapper
-        ContentCachingRequestWrapper cachingRequest = new ContentCachingRequestWrapper(request);
-        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        boolean sampled = isSampled(request.getRequestURI());
+
+        // 응답 본문은 그대로 흘려보내고 앞부분만 캡처
+        BodyPrefixCapturingResponse capturingResponse = new BodyPrefixCapturingResponse(response, MAX_PAYLOAD_LENGTH);
 
         long startTime = System.currentTimeMillis();
 
         try {
             // 요청 로그
-            logRequest(cachingRequest, requestId);
+            if (sampled) {
+                logRequest(request, requestId);
+            }
 
             // 실제 요청 처리
-            filterChain.doFilter(cachingRequest, cachingResponse);
+            filterChain.doFilter(request, capturingResponse);
+
+            // 정상 처리된 경우에만 writer 비우기 (예외 전파 중에 flush 하면 응답이 커밋되어 에러 처리가 응답을 바꿀 수 없음)
+            capturingResponse.flushWriter();
 
         } finally {
             long duration = System.currentTimeMillis() - startTime;
 
-            // 응답 로그
-            logResponse(cachingRequest, cachingResponse, requestId, duration);
-
-            // Response Body를 실제 응답으로 복사 (중요!)
-            cachingResponse.copyBodyToResponse();
+            // 응답 로그 (에러 응답은 샘플링과 무관하게 로깅)
+            if (sampled || capturingResponse.getStatus() >= 400) {
+                logResponse(request, capturingResponse, requestId, duration);
+            }
 
             // MDC 정리
             MDC.clear();
         }
     }
 
-    private void logRequest(ContentCachingRequestWrapper request, String requestId) {
+    private void logRequest(HttpServletRequest request, String requestId) {
         String clientIp = getClientIP(request);
         String queryString = request.getQueryString() != null ? "?" + request.getQueryString() : "";
         String userId = MDC.get("userId");  // UserContextFilter에서 설정한 userId
@@ -84,72 +130,37 @@ public class HttpLoggingFilter extends OncePerRequestFilter {
                 requestId,
                 userId != null ? userId : "anonymous",
                 clientIp);
-
-        // POST/PUT/PATCH 요청인 경우 Body 로깅 (민감정보 마스킹)
-        if (shouldLogRequestBody(request)) {
-            String body = getRequestBody(request);
-        }
     }
 
-    private void logResponse(ContentCachingRequestWrapper request,
-                             ContentCachingResponseWrapper response,
+    private void logResponse(HttpServletRequest request,
+                             BodyPrefixCapturingResponse response,
                              String requestId,
                              long duration) {
 
         int status = response.getStatus();
-        String logLevel = getLogLevel(status);
-
-        String logMessage = String.format("[HTTP_RESPONSE] %s %s | requestId=%s | status=%d | duration=%dms",
-                request.getMethod(),
-                request.getRequestURI(),
-                requestId,
-                status,
-                duration);
 
         // 상태 코드별 로그 레벨 적용
-        switch (logLevel) {
-            case "ERROR":
-                log.error(logMessage);
-                break;
-            case "WARN":
-                log.warn(logMessage);
-                break;
-            default:
-                log.info(logMessage);
+        if (status >= 500) {
+            log.error("[HTTP_RESPONSE] {} {} | requestId={} | status={} | duration={}ms",
+                    request.getMethod(), request.getRequestURI(), requestId, status, duration);
+        } else if (status >= 400) {
+            log.warn("[HTTP_RESPONSE] {} {} | requestId={} | status={} | duration={}ms",
+                    request.getMethod(), request.getRequestURI(), requestId, status, duration);
+        } else {
+            log.info("[HTTP_RESPONSE] {} {} | requestId={} | status={} | duration={}ms",
+                    request.getMethod(), request.getRequestURI(), requestId, status, duration);
         }
 
         // 에러 응답인 경우 Response Body 로깅
         if (status >= 400) {
-            String responseBody = getResponseBody(response);
+            String responseBody = response.getCapturedBody();
             if (responseBody != null && !responseBody.isEmpty()) {
                 log.error("[HTTP_RESPONSE_BODY] requestId={} | status={} | body={}",
-                         requestId, status, maskSensitiveData(responseBody));
+                         requestId, status, SensitiveDataMasker.maskJson(responseBody));
             }
         }
     }
 
-    private String getRequestBody(ContentCachingRequestWrapper request) {
-        byte[] content = request.getContentAsByteArray();
-        if (content.length == 0) {
-            return null;
-        }
-        String body = new String(content, StandardCharsets.UTF_8);
-        return body.length() > MAX_PAYLOAD_LENGTH
-               ? body.substring(0, MAX_PAYLOAD_LENGTH) + "... (truncated)"
-               : body;
-    }
-
-    private String getResponseBody(ContentCachingResponseWrapper response) {
-        byte[] content = response.getContentAsByteArray();
-        if (content.length == 0) {
-            return null;
-        }
-        String body = new String(content, StandardCharsets.UTF_8);
-        return body.length() > MAX_PAYLOAD_LENGTH
-               ? body.substring(0, MAX_PAYLOAD_LENGTH) + "... (truncated)"
-               : body;
-    }
-
     private String getClientIP(HttpServletRequest request) {
         String ip = request.getHeader("X-Forwarded-For");
         if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
@@ -161,26 +172,21 @@ public class HttpLoggingFilter extends OncePerRequestFilter {
         return ip;
     }
 
-    private String maskSensitiveData(String data) {
-        if (data == null) return null;
-
-        return data
-                .replaceAll("(\"password\"\\s*:\\s*\")[^\"]*\"", "$1***\"")
-                .replaceAll("(\"token\"\\s*:\\s*\")[^\"]*\"", "$1***\"")
-                .replaceAll("(\"secret\"\\s*:\\s*\")[^\"]*\"", "$1***\"")
-                .replaceAll("(\"authorization\"\\s*:\\s*\")[^\"]*\"", "$1***\"")
-                .replaceAll("(\\d{4})(\\d{4})(\\d{4})(\\d{4})", "$1-****-****-$4"); // 카드번호
-    }
-
-    private boolean shouldLogRequestBody(HttpServletRequest request) {
-        String method = request.getMethod();
-        return "POST".equals(method) || "PUT".equals(method) || "PATCH".equals(method);
+    private boolean isSampled(String path) {
+        double rate = defaultSampleRate;
+        for (RouteSampleRate routeSampleRate : routeSampleRates) {
+            if (path.startsWith(routeSampleRate.prefix())) {
+                rate = routeSampleRate.rate();
+                break;
+            }
+        }
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
     }
 
-    private String getLogLevel(int status) {
-        if (status >= 500) return "ERROR";
-        if (status >= 400) return "WARN";
-        return "INFO";
+    private String generateRequestId() {
+        // UUID(SecureRandom) 대신 8자리 16진수
+        String hex = Integer.toHexString(ThreadLocalRandom.current().nextInt());
+        return "0".repeat(8 - hex.length()) + hex;
     }
 
     private boolean isExcludedPath(String path) {
@@ -189,4 +195,139 @@ public class HttpLoggingFilter extends OncePerRequestFilter {
             || path.startsWith("/health")
             || path.startsWith("/metrics");
     }
+
+    private record RouteSampleRate(String prefix, double rate) {
+    }
+
+    /**
+     * 응답을 실제 출력으로 바로 전달하면서 텍스트 본문의 앞부분만 보관하는 래퍼
+     * (바이너리/멀티파트 응답은 캡처하지 않음)
+     */
+    private static class BodyPrefixCapturingResponse extends HttpServletResponseWrapper {
+
+        private final int limit;
+        private byte[] prefix;
+        private int prefixLength;
+        private long totalLength;
+        private Boolean capturing;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        BodyPrefixCapturingResponse(HttpServletResponse response, int limit) {
+            super(response);
+            this.limit = limit;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new PrefixCapturingOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            flushWriter();
+            super.flushBuffer();
+        }
+
+        void flushWriter() {
+            if (writer != null) {
+                writer.flush();
+            }
+        }
+
+        String getCapturedBody() {
+            if (prefixLength == 0) {
+                return null;
+            }
+            String body = new String(prefix, 0, prefixLength, StandardCharsets.UTF_8);
+            return totalLength > prefixLength ? body + "... (truncated)" : body;
+        }
+
+        private boolean isCapturing() {
+            if (capturing == null) {
+                String contentType = getContentType();
+                capturing = contentType == null
+                        || contentType.startsWith("text/")
+                        || contentType.contains("json")
+                        || contentType.contains("xml");
+            }
+            return capturing;
+        }
+
+        private void capture(byte[] bytes, int offset, int length) {
+            totalLength += length;
+            if (!isCapturing() || prefixLength >= limit) {
+                return;
+            }
+            if (prefix == null) {
+                prefix = new byte[limit];
+            }
+            int count = Math.min(length, limit - prefixLength);
+            System.arraycopy(bytes, offset, prefix, prefixLength, count);
+            prefixLength += count;
+        }
+
+        private void captureByte(byte b) {
+            totalLength++;
+            if (!isCapturing() || prefixLength >= limit) {
+                return;
+            }
+            if (prefix == null) {
+                prefix = new byte[limit];
+            }
+            prefix[prefixLength++] = b;
+        }
+
+        private class PrefixCapturingOutputStream extends ServletOutputStream {
+
+            private final ServletOutputStream delegate;
+
+            PrefixCapturingOutputStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                delegate.write(b);
+                captureByte((byte) b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                delegate.write(b, off, len);
+                capture(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                delegate.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                delegate.setWriteListener(writeListener);
+            }
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.living.hana.filter;
 
+import com.living.hana.security.JwtClaims;
 import com.living.hana.security.JwtTokenProvider;
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
@@ -12,13 +13,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 
 import java.io.IOException;
 
 /**
  * 모든 요청에 대해 userId를 MDC에 자동 설정하는 필터
- * - JWT 토큰에서 userId 추출
+ * - JWT 클레임에서 userId 추출 (요청당 한 번 검증된 클레임 공유)
  * - MDC에 설정하여 모든 로그에 자동 포함
  * - 요청 완료 후 MDC 정리
  */
@@ -46,17 +46,15 @@ public class UserContextFilter implements Filter {
 
     private String extractUserIdFromRequest(HttpServletRequest request) {
         try {
-            String jwt = getJwtFromRequest(request);
+            // 인증 필터에서 이미 검증한 클레임 재사용 (없으면 여기서 한 번 검증)
+            JwtClaims claims = jwtTokenProvider.resolveClaims(request);
 
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                String userType = jwtTokenProvider.getUserTypeFromToken(jwt);
-
-                if ("USER".equals(userType)) {
-                    Long userId = jwtTokenProvider.getUserIdFromToken(jwt);
+            if (claims != null) {
+                if ("USER".equals(claims.userType())) {
+                    Long userId = claims.userId();
                     return userId != null ? userId.toString() : null;
-                } else if ("ADMIN".equals(userType)) {
-                    String employeeNumber = jwtTokenProvider.getEmployeeNumberFromToken(jwt);
-                    return "admin_" + employeeNumber;
+                } else if ("ADMIN".equals(claims.userType())) {
+                    return "admin_" + claims.subject();
                 }
             }
 
@@ -66,12 +64,4 @@ public class UserContextFilter implements Filter {
             return null;
         }
     }
-
-    private String getJwtFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
-        }
-        return null;
-    }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
+import java.util.Map;
 
 @Mapper
 public interface ContractMapper {
@@ -50,4 +51,7 @@ public interface ContractMapper {
 
     // 계약의 월세 정보 조회
     Contract findContractWithRentInfo(Long contractId);
+
+    // 상태별 계약 수 집계 (TOTAL, ACTIVE, PENDING, EXPIRED, TERMINATED)
+    Map<String, Object> countByStatusSummary();
 }
@@ -1,8 +1,7 @@
 package com.living.hana.mapper;
 
 import com.living.hana.entity.Expense;
-import com.living.hana.dto.ExpenseResponse.CategorySummary;
-import com.living.hana.dto.ExpenseResponse.MonthlySummary;
+import com.living.hana.dto.ExpenseResponse.StatisticsRow;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -55,13 +54,8 @@ public interface ExpenseMapper {
     BigDecimal getTotalAmountByBuildingId(Long buildingId);
 
 
-    // 카테고리별 지출 통계
-    List<CategorySummary> getCategorySummary(@Param("buildingId") Long buildingId,
-                                             @Param("startDate") String startDate,
-                                             @Param("endDate") String endDate);
-
-    // 월별 지출 통계
-    List<MonthlySummary> getMonthlySummary(@Param("buildingId") Long buildingId,
-                                           @Param("startDate") String startDate,
-                                           @Param("endDate") String endDate);
+    // 지출 통계 (총계 / 카테고리별 / 월별 GROUPING SETS)
+    List<StatisticsRow> getExpenseStatisticsRows(@Param("buildingId") Long buildingId,
+                                                 @Param("startDate") String startDate,
+                                                 @Param("endDate") String endDate);
 }
\ No newline at end of file
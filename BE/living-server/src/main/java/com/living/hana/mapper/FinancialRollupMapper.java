@@ -0,0 +1,47 @@
+package com.living.hana.mapper;
+
+import com.living.hana.dto.FinancialRollupRow;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface FinancialRollupMapper {
+
+    // 집계 테이블 조회 (buildingId, 월 범위는 선택)
+    List<FinancialRollupRow> selectRollupRows(@Param("buildingId") Long buildingId,
+                                              @Param("fromMonth") String fromMonth,
+                                              @Param("toMonth") String toMonth);
+
+    // 원천 테이블(PAYMENTS, EXPENSES) 실시간 집계 - 월 경계에 걸친 부분 기간용
+    List<FinancialRollupRow> selectLiveRows(@Param("buildingId") Long buildingId,
+                                            @Param("startDate") String startDate,
+                                            @Param("endDate") String endDate);
+
+    // 셀 잠금 행 생성 (이미 있으면 무시, buildingId 0 = 건물 미지정)
+    int mergeCellLock(@Param("buildingId") Long buildingId,
+                      @Param("month") String month);
+
+    // 셀 잠금 행 SELECT ... FOR UPDATE (같은 셀 재계산 직렬화)
+    Long lockCell(@Param("buildingId") Long buildingId,
+                  @Param("month") String month);
+
+    // 집계 테이블 EXCLUSIVE 잠금 (야간 재구축)
+    void lockAll();
+
+    // 집계 셀 삭제 (buildingId 0 = 건물 미지정)
+    int deleteCell(@Param("buildingId") Long buildingId,
+                   @Param("month") String month);
+
+    // 집계 셀 재계산 (buildingId null = 건물 미지정)
+    int insertCell(@Param("buildingId") Long buildingId,
+                   @Param("startDate") String startDate,
+                   @Param("endDate") String endDate);
+
+    // 전체 삭제 (야간 재구축)
+    int deleteAll();
+
+    // 전체 재계산 (야간 재구축)
+    int insertAll();
+}
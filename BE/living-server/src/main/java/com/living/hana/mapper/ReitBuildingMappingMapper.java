@@ -1,5 +1,6 @@
 package com.living.hana.mapper;
 
+import com.living.hana.dto.ReitBuildingMappingResponse;
 import com.living.hana.entity.ReitBuildingMapping;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -15,6 +16,10 @@ public interface ReitBuildingMappingMapper {
     // 현재 포함된 건물만 조회 (exclusionDate가 null인 것)
     List<ReitBuildingMapping> findActiveByProductCode(@Param("productCode") String productCode);
 
+    // REIT 상품에 포함된 건물 조회 (건물명/주소 JOIN, activeOnly 면 현재 포함된 건물만)
+    List<ReitBuildingMappingResponse> findResponsesByProductCode(@Param("productCode") String productCode,
+                                                                 @Param("activeOnly") boolean activeOnly);
+
     // 특정 건물이 포함된 REIT 상품 조회
     List<ReitBuildingMapping> findByBuildingId(@Param("buildingId") Long buildingId);
 
@@ -1,5 +1,6 @@
 package com.living.hana.mapper;
 
+import com.living.hana.dto.BuildingIncomeSummary;
 import com.living.hana.entity.ReitProduct;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -16,6 +17,9 @@ public interface ReitProductMapper {
     // 상품 코드로 REIT 상품 조회
     ReitProduct findByProductCode(@Param("productCode") String productCode);
 
+    // 건물 목록 중 하나라도 현재 포함하고 있는 REIT 상품 조회 (IN 목록은 1000개 이하)
+    List<ReitProduct> findActiveByBuildingIds(@Param("buildingIds") List<Long> buildingIds);
+
     // 거래소별 REIT 상품 조회
     List<ReitProduct> findByStockExchange(@Param("stockExchange") String stockExchange);
 
@@ -44,6 +48,11 @@ public interface ReitProductMapper {
                                    @Param("startDate") String startDate,
                                    @Param("endDate") String endDate);
 
+    // REIT 상품별 활성 건물의 기간별 임대수익/운영비용/건물정보 일괄 집계 (productCode 가 null 이면 전체 상품)
+    List<BuildingIncomeSummary> getBuildingIncomeSummaries(@Param("productCode") String productCode,
+                                                           @Param("startDate") String startDate,
+                                                           @Param("endDate") String endDate);
+
     // 공통 운영비용 조회
     BigDecimal getCommonExpenses(@Param("startDate") String startDate,
                                  @Param("endDate") String endDate);
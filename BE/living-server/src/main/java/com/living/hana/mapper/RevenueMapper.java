@@ -51,6 +51,15 @@ public interface RevenueMapper {
     // 카테고리별 수익 개수
     long countRevenuesByCategory(String paymentCategory);
 
+    // 기간별 수익 개수
+    long countRevenuesByDateRange(@Param("startDate") String startDate,
+                                  @Param("endDate") String endDate);
+
+    // 건물+기간별 수익 개수
+    long countRevenuesByBuildingIdAndDateRange(@Param("buildingId") Long buildingId,
+                                               @Param("startDate") String startDate,
+                                               @Param("endDate") String endDate);
+
     // 총 수익 금액
     BigDecimal getTotalRevenueAmount();
 
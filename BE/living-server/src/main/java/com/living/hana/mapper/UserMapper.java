@@ -2,6 +2,7 @@ package com.living.hana.mapper;
 
 import com.living.hana.entity.User;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 
@@ -21,4 +22,10 @@ public interface UserMapper {
     int update(User user);
     
     int deleteById(Long id);
+
+    // userCi 가 누락되었거나 잘못된 사용자가 있는지 여부
+    boolean existsUserNeedingCiRepair();
+
+    // userCi 누락/오류 일괄 보정
+    int repairUserCi(@Param("updatedAt") String updatedAt);
 }
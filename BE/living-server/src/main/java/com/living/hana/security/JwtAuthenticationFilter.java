@@ -12,9 +12,9 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
@@ -26,50 +26,37 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final ApplicationContext applicationContext;
+    private final PrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         
         try {
-            String jwt = getJwtFromRequest(request);
+            // 토큰 검증은 요청당 한 번 (결과는 요청 속성으로 다른 필터와 공유)
+            JwtClaims claims = jwtTokenProvider.resolveClaims(request);
 
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                String employeeNumber = jwtTokenProvider.getEmployeeNumberFromToken(jwt);
-                String userType = jwtTokenProvider.getUserTypeFromToken(jwt);
+            if (claims != null) {
+                String employeeNumber = claims.subject();
+                String userType = claims.userType();
                 
                 UserDetails userDetails = null;
                 
-                // 사용자 타입에 따라 적절한 서비스 호출
-                if ("ADMIN".equals(userType)) {
-                    try {
-                        com.living.hana.service.AdminService adminService = 
-                            applicationContext.getBean(com.living.hana.service.AdminService.class);
-                        userDetails = adminService.loadUserByUsername(employeeNumber);
-                    } catch (Exception ex) {
-                        log.error("Could not load admin details for employeeNumber: {}", employeeNumber, ex);
-                    }
-                } else if ("USER".equals(userType)) {
-                    try {
-                        UserService userService = applicationContext.getBean(UserService.class);
-                        userDetails = userService.loadUserByUsername(employeeNumber);
-                    } catch (Exception ex) {
-                        log.error("Could not load user details for username: {}", employeeNumber, ex);
-                    }
-                } else {
-                    // userType이 없는 기존 토큰 처리: 먼저 AdminService로 시도, 실패하면 UserService로 시도
-                    try {
+                // 토큰의 userType 클레임으로 조회 대상을 결정하고, 조회 결과는 단기 캐시
+                try {
+                    if ("ADMIN".equals(userType)) {
                         com.living.hana.service.AdminService adminService =
                             applicationContext.getBean(com.living.hana.service.AdminService.class);
-                        userDetails = adminService.loadUserByUsername(employeeNumber);
-                    } catch (Exception ex) {
-                        try {
-                            UserService userService = applicationContext.getBean(UserService.class);
-                            userDetails = userService.loadUserByUsername(employeeNumber);
-                        } catch (Exception userEx) {
-                            log.error("Both AdminService and UserService failed for employeeNumber: {}", employeeNumber, userEx);
-                        }
+                        userDetails = principalCache.get(userType, employeeNumber,
+                            () -> adminService.loadUserByUsername(employeeNumber));
+                    } else {
+                        // userType이 없는 기존 토큰은 일반 사용자로 처리
+                        UserService userService = applicationContext.getBean(UserService.class);
+                        userDetails = principalCache.get("USER", employeeNumber,
+                            () -> userService.loadUserByUsername(employeeNumber));
                     }
+                } catch (UsernameNotFoundException ex) {
+                    log.error("Could not load {} details for subject: {}", userType, employeeNumber, ex);
                 }
                 
                 if (userDetails != null) {
@@ -96,12 +83,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
-
-    private String getJwtFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
-        }
-        return null;
-    }
-}
+}
\ No newline at end of file
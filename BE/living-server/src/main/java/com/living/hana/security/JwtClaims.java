@@ -0,0 +1,37 @@
+package com.living.hana.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * 검증이 끝난 JWT 클레임 (불변)
+ * - 요청당 한 번만 파싱하여 필터/컨트롤러 간 공유
+ */
+public record JwtClaims(String subject, String userType, Long userId, long expiresAtMillis) {
+
+    // 요청 속성 키 (같은 요청 내 재파싱 방지)
+    public static final String REQUEST_ATTRIBUTE = JwtClaims.class.getName();
+
+    static JwtClaims from(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return new JwtClaims(
+                claims.getSubject(),
+                claims.get("userType", String.class),
+                toLong(claims.get("userId")),
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+
+    private static Long toLong(Object userIdClaim) {
+        if (userIdClaim instanceof Number number) {
+            return number.longValue();
+        } else if (userIdClaim instanceof String value) {
+            return Long.parseLong(value);
+        }
+        return null;
+    }
+}
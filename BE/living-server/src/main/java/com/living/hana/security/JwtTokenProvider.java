@@ -2,8 +2,10 @@ package com.living.hana.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -11,9 +13,14 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import jakarta.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 @Slf4j
@@ -25,7 +32,25 @@ public class JwtTokenProvider {
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
-    private SecretKey getSigningKey() {
+    @Value("${jwt.claims-cache-size:10000}")
+    private int claimsCacheSize;
+
+    // 서명 키/파서는 기동 시 한 번만 생성
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    // 검증된 클레임 캐시 (토큰 SHA-256 해시 -> 클레임, 만료 시각까지만 유효)
+    private final Map<String, JwtClaims> verifiedClaimsCache = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        signingKey = createSigningKey();
+        jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
+    private SecretKey createSigningKey() {
         try {
             byte[] keyBytes = jwtSecret.getBytes();
             if (keyBytes.length >= 64) {
@@ -67,17 +92,13 @@ public class JwtTokenProvider {
                 .setSubject(subject)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), Jwts.SIG.HS512)
+                .signWith(signingKey, Jwts.SIG.HS512)
                 .compact();
     }
 
     public String getEmployeeNumberFromToken(String token) {
-        try {
-            return getClaimFromToken(token, Claims::getSubject);
-        } catch (Exception e) {
-            log.error("Error getting employee number from token: {}", e.getMessage());
-            return null;
-        }
+        JwtClaims claims = parseClaims(token);
+        return claims != null ? claims.subject() : null;
     }
 
     // 기존 메서드는 하위 호환성을 위해 유지
@@ -92,52 +113,85 @@ public class JwtTokenProvider {
     }
 
     private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
-    public Boolean validateToken(String token) {
+    /**
+     * 토큰 검증 후 클레임 반환 (검증 실패 시 null)
+     * - 같은 토큰의 반복 요청은 만료 전까지 캐시된 클레임 재사용
+     */
+    public JwtClaims parseClaims(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        String cacheKey = hashToken(token);
+        JwtClaims cached = verifiedClaimsCache.get(cacheKey);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            verifiedClaimsCache.remove(cacheKey);
+        }
+
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            JwtClaims claims = JwtClaims.from(getAllClaimsFromToken(token));
+            cacheClaims(cacheKey, claims, now);
+            return claims;
         } catch (JwtException | IllegalArgumentException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
-            return false;
+            return null;
         }
     }
 
-    public String getUserTypeFromToken(String token) {
-        try {
-            Claims claims = getAllClaimsFromToken(token);
-            return claims.get("userType", String.class);
-        } catch (Exception e) {
-            log.error("Error getting user type from token: {}", e.getMessage());
-            return null;
+    /**
+     * 요청의 Authorization 헤더 토큰을 한 번만 검증하고 결과를 요청 속성에 보관
+     */
+    public JwtClaims resolveClaims(HttpServletRequest request) {
+        Object attribute = request.getAttribute(JwtClaims.REQUEST_ATTRIBUTE);
+        if (attribute instanceof JwtClaims claims) {
+            return claims;
         }
+
+        JwtClaims claims = parseClaims(resolveToken(request));
+        if (claims != null) {
+            request.setAttribute(JwtClaims.REQUEST_ATTRIBUTE, claims);
+        }
+        return claims;
     }
 
-    public Long getUserIdFromToken(String token) {
-        try {
-            Claims claims = getAllClaimsFromToken(token);
-            Object userIdClaim = claims.get("userId");
-            if (userIdClaim != null) {
-                if (userIdClaim instanceof Number) {
-                    return ((Number) userIdClaim).longValue();
-                } else if (userIdClaim instanceof String) {
-                    return Long.parseLong((String) userIdClaim);
-                }
+    private void cacheClaims(String cacheKey, JwtClaims claims, long now) {
+        if (verifiedClaimsCache.size() >= claimsCacheSize) {
+            verifiedClaimsCache.values().removeIf(entry -> entry.isExpired(now));
+            if (verifiedClaimsCache.size() >= claimsCacheSize) {
+                verifiedClaimsCache.clear();
             }
-            return null;
-        } catch (Exception e) {
-            log.error("Error getting user ID from token: {}", e.getMessage());
-            return null;
         }
+        verifiedClaimsCache.put(cacheKey, claims);
+    }
+
+    private String hashToken(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    public Boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
+    public String getUserTypeFromToken(String token) {
+        JwtClaims claims = parseClaims(token);
+        return claims != null ? claims.userType() : null;
+    }
+
+    public Long getUserIdFromToken(String token) {
+        JwtClaims claims = parseClaims(token);
+        return claims != null ? claims.userId() : null;
     }
 
     // HttpServletRequest에서 토큰 추출
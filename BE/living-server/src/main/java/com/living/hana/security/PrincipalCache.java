@@ -0,0 +1,103 @@
+package com.living.hana.security;
+
+import com.living.hana.entity.Admin;
+import com.living.hana.entity.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 인증 필터용 UserDetails 단기 캐시
+ * - 키: 사용자 타입 + 토큰 subject (USER: userCi, ADMIN: employeeNumber)
+ * - TTL 이 지나면 다시 조회하고, 사용자/관리자 정보 변경 시 제거
+ * - 트랜잭션 안에서 호출된 제거는 커밋 이후에 실행
+ *   (커밋 전에 제거하면 동시 요청이 변경 전 행을 다시 읽어 TTL 동안 캐시할 수 있음)
+ */
+@Component
+@Slf4j
+public class PrincipalCache {
+
+    @Value("${auth.principal-cache.ttl-ms:30000}")
+    private long ttlMillis;
+
+    @Value("${auth.principal-cache.max-size:10000}")
+    private int maxSize;
+
+    private final Map<String, CachedPrincipal> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시에 있으면 반환, 없거나 만료되었으면 loader 로 조회 후 저장
+     */
+    public UserDetails get(String userType, String subject, Supplier<UserDetails> loader) {
+        String key = userType + ":" + subject;
+        long now = System.currentTimeMillis();
+
+        CachedPrincipal cached = cache.get(key);
+        if (cached != null && cached.expiresAtMillis() > now) {
+            return cached.userDetails();
+        }
+
+        UserDetails userDetails = loader.get();
+        if (userDetails != null) {
+            if (cache.size() >= maxSize) {
+                cache.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+                if (cache.size() >= maxSize) {
+                    cache.clear();
+                }
+            }
+            cache.put(key, new CachedPrincipal(userDetails, now + ttlMillis));
+        }
+        return userDetails;
+    }
+
+    /**
+     * 사용자 정보 변경 시 캐시 제거
+     */
+    public void evictUser(Long userId) {
+        if (userId != null) {
+            afterCommit(() -> cache.values().removeIf(
+                    entry -> entry.userDetails() instanceof User user && userId.equals(user.getId())));
+        }
+    }
+
+    /**
+     * 관리자 정보/권한 변경 시 캐시 제거
+     */
+    public void evictAdmin(Long adminId) {
+        if (adminId != null) {
+            afterCommit(() -> cache.values().removeIf(
+                    entry -> entry.userDetails() instanceof Admin admin && adminId.equals(admin.getId())));
+        }
+    }
+
+    /**
+     * 전체 사용자 캐시 제거 (일괄 보정 등)
+     */
+    public void evictAllUsers() {
+        afterCommit(() -> cache.values().removeIf(entry -> entry.userDetails() instanceof User));
+    }
+
+    // 트랜잭션이 없으면 바로 실행, 있으면 커밋 이후 실행 (롤백 시 제거할 필요 없음)
+    private void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+
+    private record CachedPrincipal(UserDetails userDetails, long expiresAtMillis) {
+    }
+}
@@ -6,6 +6,7 @@ import com.living.hana.dto.AdminLoginResponse;
 import com.living.hana.entity.Admin;
 import com.living.hana.mapper.AdminMapper;
 import com.living.hana.security.JwtTokenProvider;
+import com.living.hana.security.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -25,6 +26,7 @@ public class AdminService implements UserDetailsService {
     private final AdminMapper adminMapper;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final PrincipalCache principalCache;
 
     @Override
     public UserDetails loadUserByUsername(String employeeNumber) throws UsernameNotFoundException {
@@ -125,6 +127,8 @@ public class AdminService implements UserDetailsService {
     public Admin updateAdmin(Long id, Admin admin) {
         admin.setId(id);
         adminMapper.update(admin);
+        // 권한/활성 상태 변경이 인증 캐시에 바로 반영되도록 제거
+        principalCache.evictAdmin(id);
         return admin;
     }
 
@@ -135,5 +139,6 @@ public class AdminService implements UserDetailsService {
     @Transactional
     public void deleteAdmin(Long id) {
         adminMapper.deleteById(id);
+        principalCache.evictAdmin(id);
     }
 }
@@ -4,16 +4,16 @@ import com.living.hana.annotation.Logging;
 import com.living.hana.dto.BuildingRequest;
 import com.living.hana.entity.Building;
 import com.living.hana.entity.ReitProduct;
-import com.living.hana.entity.ReitBuildingMapping;
 import com.living.hana.mapper.BuildingMapper;
 import com.living.hana.mapper.ReitProductMapper;
-import com.living.hana.mapper.ReitBuildingMappingMapper;
 import com.living.hana.util.DateTimeUtils;
 import com.living.hana.util.EntityValidator;
 import com.living.hana.util.JsonUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
@@ -33,7 +33,6 @@ public class BuildingService {
     private final TransactionTemplate transactionTemplate;
     private final StorageService storageService;
     private final EntityValidator entityValidator;
-    private final ReitBuildingMappingMapper reitBuildingMappingMapper;
     private final ReitProductMapper reitProductMapper;
 
     public List<Building> findAll() {
@@ -49,38 +48,47 @@ public class BuildingService {
     }
 
     @Logging(operation = "건물 생성", category = "BUILDING", includeParams = true)
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Building createBuilding(BuildingRequest buildingRequest) {
+        // 이미지 업로드는 트랜잭션 밖에서 먼저 수행 (업로드 중 DB 커넥션 점유 방지)
+        List<String> imageUrls = uploadBuildingImages(buildingRequest.getImages());
 
-        return transactionTemplate.execute(status -> {
-            try {
-                // 이미지 업로드 및 빌딩 객체 생성
-                Building building = prepareBuildingForCreation(buildingRequest);
+        try {
+            return transactionTemplate.execute(status -> createBuildingRecord(status, buildingRequest, imageUrls));
+        } catch (RuntimeException e) {
+            storageService.deleteImages(imageUrls);
+            throw e;
+        }
+    }
+
+    /**
+     * 빌딩 레코드 저장 (트랜잭션 내부)
+     */
+    private Building createBuildingRecord(TransactionStatus status, BuildingRequest buildingRequest, List<String> imageUrls) {
+        try {
+            // 빌딩 객체 생성
+            Building building = prepareBuildingForCreation(buildingRequest, imageUrls);
 
-                // 데이터베이스에 저장
-                int insertResult = buildingMapper.insert(building);
+            // 데이터베이스에 저장
+            int insertResult = buildingMapper.insert(building);
 
-                if (insertResult > 0) {
-                    status.flush();
-                    return refetchCreatedBuilding(building.getName());
-                } else {
-                    status.setRollbackOnly();
-                    throw new RuntimeException("건물 생성에 실패했습니다.");
-                }
-            } catch (Exception e) {
+            if (insertResult > 0) {
+                // ID 는 INSERT 시 생성 키로 채워지고 나머지 컬럼은 모두 위에서 설정한 값
+                return building;
+            } else {
                 status.setRollbackOnly();
-                throw e;
+                throw new RuntimeException("건물 생성에 실패했습니다.");
             }
-        });
+        } catch (Exception e) {
+            status.setRollbackOnly();
+            throw e;
+        }
     }
     
     /**
      * 빌딩 생성을 위한 데이터 준비
      */
-    private Building prepareBuildingForCreation(BuildingRequest buildingRequest) {
-        // 이미지 업로드 처리
-        List<String> imageUrls = uploadBuildingImages(buildingRequest.getImages());
-        
+    private Building prepareBuildingForCreation(BuildingRequest buildingRequest, List<String> imageUrls) {
         // Building 객체 생성 및 설정
         Building building = new Building();
         building.setName(buildingRequest.getName());
@@ -139,31 +147,7 @@ public class BuildingService {
         return imageUrls != null ? imageUrls : new ArrayList<>();
     }
     
-    /**
-     * 생성된 빌딩 정보 재조회
-     */
-    private Building refetchCreatedBuilding(String buildingName) {
-        try {
-            // Oracle 트랜잭션 커밋 대기 (임시 해결책)
-            Thread.sleep(100); // 500ms에서 100ms로 단축
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
-        Building createdBuilding = buildingMapper.findByName(buildingName);
-        if (createdBuilding != null) {
-            return createdBuilding;
-        } else {
-            log.warn("Building created but failed to re-fetch: {}", buildingName);
-            // 재조회 실패 시 기본 빌딩 객체 반환 (ID는 0으로 설정)
-            Building fallbackBuilding = new Building();
-            fallbackBuilding.setId(0L);
-            fallbackBuilding.setName(buildingName);
-            return fallbackBuilding;
-        }
-    }
-
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Building updateBuilding(Long id, BuildingRequest buildingRequest) {
         try {
             log.info("Updating building with ID: {}", id);
@@ -204,18 +188,13 @@ public class BuildingService {
                 imagesToKeep.addAll(buildingRequest.getExistingImages());
             }
             
-            // 삭제할 이미지들 (GCP에서도 삭제)
+            // 삭제할 이미지들 (수정 성공 후 GCP에서 삭제)
             List<String> imagesToDelete = new ArrayList<>(existingImages);
             imagesToDelete.removeAll(imagesToKeep);
-            if (!imagesToDelete.isEmpty()) {
-                storageService.deleteImages(imagesToDelete);
-                // 기존 건물 이미지 삭제됨
-            }
             
-            // 새로 업로드할 이미지들
-            List<String> newImageUrls = new ArrayList<>();
-            if (buildingRequest.getImages() != null && !buildingRequest.getImages().isEmpty()) {
-                newImageUrls = storageService.uploadImages(buildingRequest.getImages());
+            // 새로 업로드할 이미지들 (트랜잭션 밖에서 업로드)
+            List<String> newImageUrls = uploadBuildingImages(buildingRequest.getImages());
+            if (!newImageUrls.isEmpty()) {
                 log.info("Uploaded {} new images for building: {}", newImageUrls.size(), existingBuilding.getName());
             }
             
@@ -248,16 +227,25 @@ public class BuildingService {
             building.setImages(imagesJson);
             building.setUpdatedAt(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
             
-            int updateResult = buildingMapper.update(building);
-            log.info("Update result: {} rows affected", updateResult);
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    int updateResult = buildingMapper.update(building);
+                    log.info("Update result: {} rows affected", updateResult);
+                    if (updateResult <= 0) {
+                        log.warn("Update failed: no rows affected for building: {}", building.getName());
+                        throw new RuntimeException("건물 정보 수정에 실패했습니다.");
+                    }
+                });
+            } catch (RuntimeException e) {
+                storageService.deleteImages(newImageUrls);
+                throw e;
+            }
             
-            if (updateResult > 0) {
-                log.info("Building updated successfully: {}", building.getName());
-                return building;
-            } else {
-                log.warn("Update failed: no rows affected for building: {}", building.getName());
-                throw new RuntimeException("건물 정보 수정에 실패했습니다.");
+            if (!imagesToDelete.isEmpty()) {
+                storageService.deleteImages(imagesToDelete);
             }
+            log.info("Building updated successfully: {}", building.getName());
+            return building;
             
         } catch (Exception e) {
             log.error("Error updating building with ID {}: {}", id, e.getMessage(), e);
@@ -318,22 +306,8 @@ public class BuildingService {
         try {
             log.info("Finding REIT products for building ID: {}", buildingId);
 
-            // 1. 해당 오피스텔과 연결된 활성 매핑 조회
-            List<ReitBuildingMapping> mappings = reitBuildingMappingMapper.findActiveByBuildingId(buildingId);
-
-            if (mappings == null || mappings.isEmpty()) {
-                log.info("No REIT products found for building ID: {}", buildingId);
-                return new ArrayList<>();
-            }
-
-            // 2. 각 매핑에서 리츠 상품 조회
-            List<ReitProduct> products = new ArrayList<>();
-            for (ReitBuildingMapping mapping : mappings) {
-                ReitProduct product = reitProductMapper.findByProductCode(mapping.getProductCode());
-                if (product != null) {
-                    products.add(product);
-                }
-            }
+            // 해당 오피스텔을 현재 포함하고 있는 리츠 상품을 한 번에 조회
+            List<ReitProduct> products = reitProductMapper.findActiveByBuildingIds(List.of(buildingId));
 
             log.info("Found {} REIT products for building ID: {}", products.size(), buildingId);
             return products;
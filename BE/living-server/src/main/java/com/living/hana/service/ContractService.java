@@ -10,12 +10,15 @@ import com.living.hana.mapper.ContractMapper;
 import com.living.hana.mapper.UnitMapper;
 import com.living.hana.mapper.UserMapper;
 import com.living.hana.mapper.ReservationMapper;
+import com.living.hana.security.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
@@ -27,11 +30,25 @@ public class ContractService {
     private final UnitMapper unitMapper;
     private final UserMapper userMapper;
     private final ReservationMapper reservationMapper;
+    private final PrincipalCache principalCache;
 
     public List<Contract> findAll() {
         return contractMapper.findAll();
     }
 
+    /**
+     * 상태별 계약 수 (키: TOTAL, ACTIVE, PENDING, EXPIRED, TERMINATED)
+     */
+    public Map<String, Long> getContractStatusCounts() {
+        Map<String, Object> summary = contractMapper.countByStatusSummary();
+        Map<String, Long> counts = new HashMap<>();
+        for (String key : List.of("TOTAL", "ACTIVE", "PENDING", "EXPIRED", "TERMINATED")) {
+            Object value = summary != null ? summary.get(key) : null;
+            counts.put(key, value instanceof Number number ? number.longValue() : 0L);
+        }
+        return counts;
+    }
+
     public Contract findById(Long id) {
         return contractMapper.findById(id);
     }
@@ -83,6 +100,7 @@ public class ContractService {
             if (user != null) {
                 user.setCurrentAddress(currentAddress);
                 userMapper.update(user);
+                principalCache.evictUser(user.getId());
             }
         }
         
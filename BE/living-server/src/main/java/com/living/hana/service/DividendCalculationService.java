@@ -1,12 +1,11 @@
 package com.living.hana.service;
 
 import com.living.hana.client.KsdClient;
+import com.living.hana.dto.BuildingIncomeSummary;
 import com.living.hana.entity.ReitDividend;
 import com.living.hana.entity.ReitProduct;
-import com.living.hana.entity.Building;
 import com.living.hana.mapper.ReitDividendMapper;
 import com.living.hana.mapper.ReitProductMapper;
-import com.living.hana.mapper.BuildingMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,6 +17,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.ArrayList;
 
 @Service
@@ -27,7 +27,6 @@ public class DividendCalculationService {
 
     private final ReitProductMapper reitProductMapper;
     private final ReitDividendMapper reitDividendMapper;
-    private final BuildingMapper buildingMapper;
     private final KsdClient ksdClient;
 
     /**
@@ -121,37 +120,11 @@ public class DividendCalculationService {
         try {
             log.info("임대수익 기반 배당 가능 금액 계산 시작: {}", productCode);
 
-            // 기간에 따른 날짜 계산
-            String[] dateRange = calculateDateRange(period);
-            String startDate = dateRange[0];
-            String endDate = dateRange[1];
-
-            log.info("배당 계산 기간: {} ~ {} (period: {}, 상품: {})", startDate, endDate, period, productCode);
-
-            // 1. 해당 REIT에 포함된 건물들의 임대수익 합계
-            BigDecimal totalRentalIncome = calculateTotalRentalIncomeWithPeriod(productCode, startDate, endDate);
-            log.info("총 임대수익: {} (상품: {})", totalRentalIncome, productCode);
-
-            // 2. 운영비용 차감
-            BigDecimal totalExpenses = calculateTotalExpensesWithPeriod(productCode, startDate, endDate);
-            log.info("총 운영비용: {} (상품: {})", totalExpenses, productCode);
-
-            // 3. 순수익 계산 (임대수익 - 운영비용)
-            BigDecimal netIncome = totalRentalIncome.subtract(totalExpenses);
-            if (netIncome.compareTo(BigDecimal.ZERO) < 0) {
-                log.warn("순수익이 음수입니다. 배당 불가능: {} (상품: {})", netIncome, productCode);
-                return BigDecimal.ZERO;
-            }
-
-            // 4. 법정 90% 배당률 적용 (과세소득 기준)
-            // 과세소득 = 임대수익 - 모든 운영비용 (직원급여, 관리비, 세금 등)
-            // REIT는 과세소득의 90% 이상을 배당해야 법인세 면제
-            BigDecimal dividendRate = new BigDecimal("0.90");
-            BigDecimal availableDividend = netIncome.multiply(dividendRate)
-                .setScale(2, RoundingMode.HALF_UP);
+            Map<String, Object> details = calculateDetails(productCode, period);
+            BigDecimal availableDividend = (BigDecimal) details.get("availableDividend");
 
             log.info("배당 가능 금액 계산 완료: 과세소득 {} × 90% = {} (상품: {})",
-                netIncome, availableDividend, productCode);
+                details.get("taxableIncome"), availableDividend, productCode);
 
             return availableDividend;
 
@@ -207,182 +180,137 @@ public class DividendCalculationService {
     }
 
     /**
-     * 기간별 REIT 상품에 포함된 건물들의 총 임대수익 계산
+     * 배당 계산 상세 내역 조회 (프론트엔드 표시용)
      */
-    private BigDecimal calculateTotalRentalIncomeWithPeriod(String productCode, String startDate, String endDate) {
-        log.info("임대수익 계산 기간: {} ~ {} (상품: {})", startDate, endDate, productCode);
-
+    public Map<String, Object> getCalculationDetails(String productCode, String period) {
         try {
-            // 1. REIT 상품에 포함된 활성 건물 ID들 조회
-            List<Long> activeBuildingIds = reitProductMapper.getActiveBuildingIdsByProductCode(productCode);
-            if (activeBuildingIds == null || activeBuildingIds.isEmpty()) {
-                log.warn("REIT 상품에 포함된 활성 건물이 없습니다: {}", productCode);
-                return BigDecimal.ZERO;
-            }
-
-            log.info("활성 건물 수: {} (상품: {})", activeBuildingIds.size(), productCode);
-
-            // 2. 건물별 임대수익 집계
-            BigDecimal totalIncome = BigDecimal.ZERO;
-            for (Long buildingId : activeBuildingIds) {
-                BigDecimal buildingIncome = calculateBuildingRentalIncome(buildingId, startDate, endDate);
-                totalIncome = totalIncome.add(buildingIncome);
-            }
-
-            return totalIncome;
-
+            return calculateDetails(productCode, period);
         } catch (Exception e) {
-            log.error("총 임대수익 계산 실패: {} - {}", productCode, e.getMessage(), e);
-            throw new RuntimeException("임대수익 계산 실패", e);
+            log.error("배당 계산 상세 내역 조회 실패: {} - {}", productCode, e.getMessage(), e);
+            Map<String, Object> errorDetails = new HashMap<>();
+            errorDetails.put("error", "계산 실패");
+            return errorDetails;
         }
     }
 
     /**
-     * 특정 건물의 임대수익 계산
+     * 전체 REIT 상품의 배당 계산 상세 내역 일괄 조회 (분기/연간 배당 일괄 처리용)
+     * 상품 목록, 건물별 집계, 공통 운영비용 각 1회 조회
      */
-    private BigDecimal calculateBuildingRentalIncome(Long buildingId, String startDate, String endDate) {
-        try {
-            // 해당 건물의 완료된 월세 결제 기록들을 집계
-            return reitProductMapper.getBuildingRentalIncome(buildingId, startDate, endDate);
-        } catch (Exception e) {
-            log.error("건물별 임대수익 계산 실패: {} - {}", buildingId, e.getMessage(), e);
-            return BigDecimal.ZERO; // 개별 건물 오류시 0 반환
+    public Map<String, Map<String, Object>> getCalculationDetailsForAllProducts(String period) {
+        String[] dateRange = calculateDateRange(period);
+        String startDate = dateRange[0];
+        String endDate = dateRange[1];
+
+        log.info("전체 상품 배당 계산 상세 내역 조회 (기간: {} ~ {})", startDate, endDate);
+
+        Map<String, List<BuildingIncomeSummary>> buildingsByProduct = new HashMap<>();
+        for (BuildingIncomeSummary summary : reitProductMapper.getBuildingIncomeSummaries(null, startDate, endDate)) {
+            buildingsByProduct.computeIfAbsent(summary.getProductCode(), code -> new ArrayList<>()).add(summary);
+        }
+
+        BigDecimal commonExpenses = buildingsByProduct.isEmpty() ?
+            BigDecimal.ZERO : reitProductMapper.getCommonExpenses(startDate, endDate);
+
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        for (ReitProduct product : reitProductMapper.findAll()) {
+            String productCode = product.getProductCode();
+            result.put(productCode, buildDetails(productCode, period, startDate, endDate,
+                buildingsByProduct.getOrDefault(productCode, List.of()), commonExpenses));
         }
+        return result;
     }
 
     /**
-     * 기간별 REIT 상품에 포함된 건물들의 총 운영비용 계산
+     * 단일 상품 배당 계산 (건물별 집계 1회 + 공통 운영비용 1회 조회)
      */
-    private BigDecimal calculateTotalExpensesWithPeriod(String productCode, String startDate, String endDate) {
-        log.info("운영비용 계산 기간: {} ~ {} (상품: {})", startDate, endDate, productCode);
+    private Map<String, Object> calculateDetails(String productCode, String period) {
+        // 기간에 따른 날짜 계산
+        String[] dateRange = calculateDateRange(period);
+        String startDate = dateRange[0];
+        String endDate = dateRange[1];
 
-        try {
-            // 1. REIT 상품에 포함된 활성 건물 ID들 조회
-            List<Long> activeBuildingIds = reitProductMapper.getActiveBuildingIdsByProductCode(productCode);
-            if (activeBuildingIds == null || activeBuildingIds.isEmpty()) {
-                return BigDecimal.ZERO;
-            }
-
-            // 2. 건물별 운영비용 집계
-            BigDecimal totalExpenses = BigDecimal.ZERO;
-            for (Long buildingId : activeBuildingIds) {
-                BigDecimal buildingExpense = calculateBuildingExpenses(buildingId, startDate, endDate);
-                totalExpenses = totalExpenses.add(buildingExpense);
-            }
+        log.info("배당 계산 기간: {} ~ {} (period: {}, 상품: {})", startDate, endDate, period, productCode);
 
-            // 3. 공통 운영비용 추가 (한 번만)
-            BigDecimal commonExpenses = reitProductMapper.getCommonExpenses(startDate, endDate);
-            totalExpenses = totalExpenses.add(commonExpenses);
+        // 리츠 상품에 포함된 활성 건물별 임대수익/운영비용/건물명 일괄 집계
+        List<BuildingIncomeSummary> buildings =
+            reitProductMapper.getBuildingIncomeSummaries(productCode, startDate, endDate);
 
-            return totalExpenses;
+        // 공통 운영비용 (REIT 운용사 보수, 본사 운영비 등) - 활성 건물이 없으면 배당 대상 아님
+        BigDecimal commonExpenses = buildings.isEmpty() ?
+            BigDecimal.ZERO : reitProductMapper.getCommonExpenses(startDate, endDate);
 
-        } catch (Exception e) {
-            log.error("총 운영비용 계산 실패: {} - {}", productCode, e.getMessage(), e);
-            throw new RuntimeException("운영비용 계산 실패", e);
-        }
+        return buildDetails(productCode, period, startDate, endDate, buildings, commonExpenses);
     }
 
     /**
-     * 특정 건물의 운영비용 계산
+     * 집계된 건물별 수익/비용으로 배당 계산 상세 내역 구성 (DB 조회 없음)
      */
-    private BigDecimal calculateBuildingExpenses(Long buildingId, String startDate, String endDate) {
-        try {
-            // 해당 건물의 운영비용 기록들을 집계
-            return reitProductMapper.getBuildingExpenses(buildingId, startDate, endDate);
-        } catch (Exception e) {
-            log.error("건물별 운영비용 계산 실패: {} - {}", buildingId, e.getMessage(), e);
-            return BigDecimal.ZERO; // 개별 건물 오류시 0 반환
+    private Map<String, Object> buildDetails(String productCode, String period, String startDate, String endDate,
+                                             List<BuildingIncomeSummary> buildings, BigDecimal commonExpenses) {
+        Map<String, Object> details = new HashMap<>();
+        details.put("period", period);
+        details.put("startDate", startDate);
+        details.put("endDate", endDate);
+        details.put("buildingCount", buildings.size());
+
+        if (buildings.isEmpty()) {
+            log.warn("REIT 상품에 포함된 활성 건물이 없습니다: {}", productCode);
+            details.put("totalRentalIncome", BigDecimal.ZERO);
+            details.put("totalExpenses", BigDecimal.ZERO);
+            details.put("commonExpenses", BigDecimal.ZERO);
+            details.put("taxableIncome", BigDecimal.ZERO);
+            details.put("availableDividend", BigDecimal.ZERO);
+            details.put("buildingDetails", new ArrayList<>());
+            return details;
         }
-    }
 
-    /**
-     * 배당 계산 상세 내역 조회 (프론트엔드 표시용)
-     */
-    public Map<String, Object> getCalculationDetails(String productCode, String period) {
-        try {
-            // 기간에 따른 날짜 계산
-            String[] dateRange = calculateDateRange(period);
-            String startDate = dateRange[0];
-            String endDate = dateRange[1];
-
-            log.info("배당 계산 상세 내역 조회: {} (기간: {} ~ {})", productCode, startDate, endDate);
-
-            // 1. 리츠 상품에 포함된 활성 건물 목록
-            List<Long> activeBuildingIds = reitProductMapper.getActiveBuildingIdsByProductCode(productCode);
-
-            Map<String, Object> details = new HashMap<>();
-            details.put("period", period);
-            details.put("startDate", startDate);
-            details.put("endDate", endDate);
-            details.put("buildingCount", activeBuildingIds != null ? activeBuildingIds.size() : 0);
-
-            if (activeBuildingIds == null || activeBuildingIds.isEmpty()) {
-                details.put("totalRentalIncome", BigDecimal.ZERO);
-                details.put("totalExpenses", BigDecimal.ZERO);
-                details.put("commonExpenses", BigDecimal.ZERO);
-                details.put("taxableIncome", BigDecimal.ZERO);
-                details.put("buildingDetails", new ArrayList<>());
-                return details;
-            }
-
-            // 2. 건물별 상세 내역 수집
-            List<Map<String, Object>> buildingDetails = new ArrayList<>();
-            BigDecimal totalRentalIncome = BigDecimal.ZERO;
-            BigDecimal totalBuildingExpenses = BigDecimal.ZERO;
-
-            for (Long buildingId : activeBuildingIds) {
-                BigDecimal buildingRentalIncome = calculateBuildingRentalIncome(buildingId, startDate, endDate);
-                BigDecimal buildingExpenses = calculateBuildingExpenses(buildingId, startDate, endDate);
-                BigDecimal buildingNetIncome = buildingRentalIncome.subtract(buildingExpenses);
-
-                // 건물 정보 조회
-                Building building = buildingMapper.findById(buildingId);
-                String buildingName = building != null ? building.getName() : "건물 " + buildingId;
-
-                Map<String, Object> buildingDetail = new HashMap<>();
-                buildingDetail.put("buildingId", buildingId);
-                buildingDetail.put("buildingName", buildingName);
-                buildingDetail.put("rentalIncome", buildingRentalIncome);
-                buildingDetail.put("expenses", buildingExpenses);
-                buildingDetail.put("netIncome", buildingNetIncome);
-                buildingDetails.add(buildingDetail);
-
-                totalRentalIncome = totalRentalIncome.add(buildingRentalIncome);
-                totalBuildingExpenses = totalBuildingExpenses.add(buildingExpenses);
-            }
-
-            // 3. 공통 운영비용 (REIT 운용사 보수, 본사 운영비 등)
-            BigDecimal commonExpenses = reitProductMapper.getCommonExpenses(startDate, endDate);
-            BigDecimal totalExpenses = totalBuildingExpenses.add(commonExpenses);
+        // 1. 건물별 상세 내역 수집
+        List<Map<String, Object>> buildingDetails = new ArrayList<>();
+        BigDecimal totalRentalIncome = BigDecimal.ZERO;
+        BigDecimal totalBuildingExpenses = BigDecimal.ZERO;
+
+        for (BuildingIncomeSummary building : buildings) {
+            BigDecimal buildingRentalIncome = building.getRentalIncome();
+            BigDecimal buildingExpenses = building.getExpenses();
+
+            Map<String, Object> buildingDetail = new HashMap<>();
+            buildingDetail.put("buildingId", building.getBuildingId());
+            buildingDetail.put("buildingName", building.getBuildingName());
+            buildingDetail.put("rentalIncome", buildingRentalIncome);
+            buildingDetail.put("expenses", buildingExpenses);
+            buildingDetail.put("netIncome", buildingRentalIncome.subtract(buildingExpenses));
+            buildingDetails.add(buildingDetail);
+
+            totalRentalIncome = totalRentalIncome.add(buildingRentalIncome);
+            totalBuildingExpenses = totalBuildingExpenses.add(buildingExpenses);
+        }
 
-            // 4. 과세소득 (임대수익 - 모든 비용)
-            BigDecimal taxableIncome = totalRentalIncome.subtract(totalExpenses);
+        // 2. 총비용 = 건물별 비용 + 공통 운영비용
+        BigDecimal totalExpenses = totalBuildingExpenses.add(commonExpenses);
 
-            // 5. 배당 가능 금액 (과세소득의 90%)
-            BigDecimal dividendRate = new BigDecimal("0.90");
-            BigDecimal availableDividend = taxableIncome.compareTo(BigDecimal.ZERO) > 0 ?
-                taxableIncome.multiply(dividendRate).setScale(2, RoundingMode.HALF_UP) : BigDecimal.ZERO;
+        // 3. 과세소득 (임대수익 - 모든 비용)
+        BigDecimal taxableIncome = totalRentalIncome.subtract(totalExpenses);
 
-            details.put("totalRentalIncome", totalRentalIncome);
-            details.put("totalBuildingExpenses", totalBuildingExpenses);
-            details.put("commonExpenses", commonExpenses);
-            details.put("totalExpenses", totalExpenses);
-            details.put("taxableIncome", taxableIncome);
-            details.put("dividendRate", dividendRate);
-            details.put("availableDividend", availableDividend);
-            details.put("buildingDetails", buildingDetails);
+        // 4. 법정 90% 배당률 적용 (과세소득 기준)
+        // REIT는 과세소득의 90% 이상을 배당해야 법인세 면제
+        BigDecimal dividendRate = new BigDecimal("0.90");
+        BigDecimal availableDividend = taxableIncome.compareTo(BigDecimal.ZERO) > 0 ?
+            taxableIncome.multiply(dividendRate).setScale(2, RoundingMode.HALF_UP) : BigDecimal.ZERO;
 
-            log.info("배당 계산 상세 내역: 임대수익 {}, 총비용 {}, 과세소득 {}, 배당가능 {} (상품: {})",
-                totalRentalIncome, totalExpenses, taxableIncome, availableDividend, productCode);
+        details.put("totalRentalIncome", totalRentalIncome);
+        details.put("totalBuildingExpenses", totalBuildingExpenses);
+        details.put("commonExpenses", commonExpenses);
+        details.put("totalExpenses", totalExpenses);
+        details.put("taxableIncome", taxableIncome);
+        details.put("dividendRate", dividendRate);
+        details.put("availableDividend", availableDividend);
+        details.put("buildingDetails", buildingDetails);
 
-            return details;
+        log.info("배당 계산 상세 내역: 임대수익 {}, 총비용 {}, 과세소득 {}, 배당가능 {} (상품: {})",
+            totalRentalIncome, totalExpenses, taxableIncome, availableDividend, productCode);
 
-        } catch (Exception e) {
-            log.error("배당 계산 상세 내역 조회 실패: {} - {}", productCode, e.getMessage(), e);
-            Map<String, Object> errorDetails = new HashMap<>();
-            errorDetails.put("error", "계산 실패");
-            return errorDetails;
-        }
+        return details;
     }
 
-}
\ No newline at end of file
+}
@@ -10,9 +10,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -21,6 +21,7 @@ import java.util.List;
 public class ExpenseService {
 
     private final ExpenseMapper expenseMapper;
+    private final FinancialRollupService financialRollupService;
 
     /**
      * 지출 등록
@@ -41,6 +42,7 @@ public class ExpenseService {
                     .build();
 
             expenseMapper.insert(expense);
+            financialRollupService.onExpenseChanged(expense);
             log.info("지출 등록 완료: id={}", expense.getId());
 
             return expense;
@@ -113,6 +115,8 @@ public class ExpenseService {
                     .build();
 
             expenseMapper.update(updatedExpense);
+            financialRollupService.onExpenseChanged(existingExpense);
+            financialRollupService.onExpenseChanged(updatedExpense);
             log.info("지출 수정 완료: id={}", id);
 
             return getExpense(id);
@@ -131,9 +135,10 @@ public class ExpenseService {
 
         try {
             // 지출 존재 여부 확인
-            getExpense(id);
+            Expense expense = getExpense(id);
 
             expenseMapper.deleteById(id);
+            financialRollupService.onExpenseChanged(expense);
             log.info("지출 삭제 완료: id={}", id);
         } catch (Exception e) {
             log.error("지출 삭제 실패: id={}, error={}", id, e.getMessage(), e);
@@ -148,35 +153,33 @@ public class ExpenseService {
         log.info("지출 통계 조회: buildingId={}, {} ~ {}", buildingId, startDate, endDate);
 
         try {
-            // 총 금액 및 건수
-            BigDecimal totalAmount;
-            long totalCount;
-
-            if (buildingId != null) {
-                totalAmount = expenseMapper.getTotalAmountByBuildingId(buildingId);
-                totalCount = expenseMapper.countByBuildingId(buildingId);
-            } else {
-                totalAmount = expenseMapper.getTotalAmount();
-                totalCount = expenseMapper.countAll();
+            // 총계 / 카테고리별 / 월별 통계를 같은 조건으로 한 번에 조회
+            BigDecimal totalAmount = BigDecimal.ZERO;
+            long totalCount = 0;
+            List<ExpenseResponse.CategorySummary> categories = new ArrayList<>();
+            List<ExpenseResponse.MonthlySummary> monthly = new ArrayList<>();
+
+            for (ExpenseResponse.StatisticsRow row : expenseMapper.getExpenseStatisticsRows(buildingId, startDate, endDate)) {
+                switch (row.getGroupType()) {
+                    case "TOTAL" -> {
+                        totalAmount = row.getAmount();
+                        totalCount = row.getCount();
+                    }
+                    case "CATEGORY" -> categories.add(ExpenseResponse.CategorySummary.builder()
+                            .category(row.getGroupKey())
+                            .amount(row.getAmount())
+                            .count(row.getCount())
+                            .percentage(row.getPercentage())
+                            .build());
+                    case "MONTH" -> monthly.add(ExpenseResponse.MonthlySummary.builder()
+                            .month(row.getGroupKey())
+                            .amount(row.getAmount())
+                            .count(row.getCount())
+                            .build());
+                    default -> log.warn("알 수 없는 지출 통계 구분: {}", row.getGroupType());
+                }
             }
 
-            // 카테고리별 통계
-            var categories = expenseMapper.getCategorySummary(buildingId, startDate, endDate);
-
-            // 비율 계산
-            if (totalAmount.compareTo(BigDecimal.ZERO) > 0) {
-                categories.forEach(category -> {
-                    double percentage = category.getAmount()
-                            .divide(totalAmount, 4, RoundingMode.HALF_UP)
-                            .multiply(BigDecimal.valueOf(100))
-                            .doubleValue();
-                    category.setPercentage(percentage);
-                });
-            }
-
-            // 월별 통계
-            var monthly = expenseMapper.getMonthlySummary(buildingId, startDate, endDate);
-
             return ExpenseResponse.ExpenseStatistics.builder()
                     .totalAmount(totalAmount)
                     .totalCount(totalCount)
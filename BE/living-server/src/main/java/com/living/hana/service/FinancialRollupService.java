@@ -0,0 +1,183 @@
+package com.living.hana.service;
+
+import com.living.hana.dto.FinancialRollupRow;
+import com.living.hana.entity.Expense;
+import com.living.hana.entity.Payment;
+import com.living.hana.mapper.FinancialRollupMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 월별 재무 집계(FINANCIAL_MONTHLY_ROLLUP) 관리
+ * - 결제/지출 변경 시 커밋 이후 해당 (건물, 월) 셀만 재계산
+ * - 매일 새벽 전체 재구축으로 누락분 보정
+ * - 대시보드 조회는 완전한 월은 집계 테이블, 월 경계에 걸친 부분 기간만 원천 테이블에서 집계
+ */
+@Slf4j
+@Service
+public class FinancialRollupService {
+
+    private static final String PENDING_CELLS_KEY = FinancialRollupService.class.getName() + ".pendingCells";
+
+    private final FinancialRollupMapper financialRollupMapper;
+    private final TransactionTemplate requiresNewTemplate;
+
+    public FinancialRollupService(FinancialRollupMapper financialRollupMapper,
+                                  PlatformTransactionManager transactionManager) {
+        this.financialRollupMapper = financialRollupMapper;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 기간 집계 조회 (startDate/endDate 가 없으면 전체 기간)
+     */
+    public List<FinancialRollupRow> getRows(Long buildingId, String startDate, String endDate) {
+        if (startDate == null || endDate == null) {
+            return financialRollupMapper.selectRollupRows(buildingId, null, null);
+        }
+
+        LocalDate start = LocalDate.parse(startDate);
+        LocalDate end = LocalDate.parse(endDate);
+        if (start.isAfter(end)) {
+            return new ArrayList<>();
+        }
+
+        YearMonth firstFullMonth = start.getDayOfMonth() == 1 ? YearMonth.from(start) : YearMonth.from(start).plusMonths(1);
+        YearMonth lastFullMonth = end.equals(YearMonth.from(end).atEndOfMonth()) ? YearMonth.from(end) : YearMonth.from(end).minusMonths(1);
+
+        // 완전한 월이 없으면 원천 테이블에서 바로 집계 (최대 두 달 범위)
+        if (firstFullMonth.isAfter(lastFullMonth)) {
+            return financialRollupMapper.selectLiveRows(buildingId, startDate, endDate);
+        }
+
+        List<FinancialRollupRow> rows = new ArrayList<>(
+                financialRollupMapper.selectRollupRows(buildingId, firstFullMonth.toString(), lastFullMonth.toString()));
+
+        LocalDate fullStart = firstFullMonth.atDay(1);
+        if (start.isBefore(fullStart)) {
+            rows.addAll(financialRollupMapper.selectLiveRows(buildingId, startDate, fullStart.minusDays(1).toString()));
+        }
+
+        LocalDate fullEnd = lastFullMonth.atEndOfMonth();
+        if (end.isAfter(fullEnd)) {
+            rows.addAll(financialRollupMapper.selectLiveRows(buildingId, fullEnd.plusDays(1).toString(), endDate));
+        }
+
+        return rows;
+    }
+
+    /**
+     * 결제 변경 반영 (paidDate 가 있는 건만 수익 집계 대상)
+     */
+    public void onPaymentChanged(Payment payment) {
+        if (payment == null || payment.getPaidDate() == null || payment.getPaidDate().length() < 7) {
+            return;
+        }
+        refreshAfterCommit(payment.getBuildingId(), payment.getPaidDate().substring(0, 7));
+    }
+
+    /**
+     * 지출 변경 반영
+     */
+    public void onExpenseChanged(Expense expense) {
+        if (expense == null || expense.getExpenseDate() == null || expense.getExpenseDate().length() < 7) {
+            return;
+        }
+        refreshAfterCommit(expense.getBuildingId(), expense.getExpenseDate().substring(0, 7));
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 이후 셀 재계산 (같은 트랜잭션 내 중복 셀은 한 번만 처리)
+     */
+    @SuppressWarnings("unchecked")
+    public void refreshAfterCommit(Long buildingId, String month) {
+        RollupCell cell = new RollupCell(buildingId, month);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refreshCell(cell);
+            return;
+        }
+
+        Set<RollupCell> pendingCells = (Set<RollupCell>) TransactionSynchronizationManager.getResource(PENDING_CELLS_KEY);
+        if (pendingCells == null) {
+            Set<RollupCell> cells = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(PENDING_CELLS_KEY, cells);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cells.forEach(FinancialRollupService.this::refreshCell);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_CELLS_KEY);
+                }
+            });
+            pendingCells = cells;
+        }
+        pendingCells.add(cell);
+    }
+
+    /**
+     * 전체 재구축 (기본: 매일 03:30)
+     */
+    @Scheduled(cron = "${financial-rollup.rebuild-cron:0 30 3 * * *}")
+    public void rebuildAll() {
+        long startTime = System.currentTimeMillis();
+        try {
+            Integer inserted = requiresNewTemplate.execute(status -> {
+                financialRollupMapper.lockAll();
+                financialRollupMapper.deleteAll();
+                return financialRollupMapper.insertAll();
+            });
+            log.info("월별 재무 집계 전체 재구축 완료: rows={}, elapsed={}ms", inserted, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("월별 재무 집계 전체 재구축 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 셀 재계산 (DELETE + INSERT)
+     * - 같은 셀을 동시에 재계산하면 둘 다 빈 셀에 INSERT 해 PK 위반이 나므로 셀 잠금 행을 FOR UPDATE 로 잡고 수행
+     * - 잠금 행 최초 생성이 겹치면 뒤늦은 쪽은 앞선 트랜잭션 커밋까지 대기 후 중복키로 실패하며, 이미 생긴 행을 잠그면 됨
+     */
+    private void refreshCell(RollupCell cell) {
+        try {
+            YearMonth yearMonth = YearMonth.parse(cell.month());
+            Long lockBuildingId = cell.buildingId() != null ? cell.buildingId() : 0L;
+            requiresNewTemplate.executeWithoutResult(status -> {
+                try {
+                    financialRollupMapper.mergeCellLock(lockBuildingId, cell.month());
+                } catch (DuplicateKeyException e) {
+                    log.debug("집계 셀 잠금 행 동시 생성: buildingId={}, month={}", lockBuildingId, cell.month());
+                }
+                financialRollupMapper.lockCell(lockBuildingId, cell.month());
+                financialRollupMapper.deleteCell(lockBuildingId, cell.month());
+                financialRollupMapper.insertCell(cell.buildingId(),
+                        yearMonth.atDay(1).toString(), yearMonth.atEndOfMonth().toString());
+            });
+        } catch (Exception e) {
+            // 집계 실패가 원 거래에 영향을 주지 않도록 로그만 남기고, 야간 재구축에서 보정
+            log.warn("월별 재무 집계 갱신 실패: buildingId={}, month={}, error={}",
+                    cell.buildingId(), cell.month(), e.getMessage());
+        }
+    }
+
+    private record RollupCell(Long buildingId, String month) {
+    }
+}
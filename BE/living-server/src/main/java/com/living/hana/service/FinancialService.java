@@ -1,8 +1,7 @@
 package com.living.hana.service;
 
 import com.living.hana.dto.FinancialResponse;
-import com.living.hana.dto.RevenueResponse;
-import com.living.hana.dto.ExpenseResponse;
+import com.living.hana.dto.FinancialRollupRow;
 import com.living.hana.entity.Building;
 import com.living.hana.mapper.BuildingMapper;
 import lombok.RequiredArgsConstructor;
@@ -16,7 +15,6 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -25,12 +23,14 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class FinancialService {
 
-    private final RevenueService revenueService;
-    private final ExpenseService expenseService;
+    private static final String FLOW_REVENUE = "REVENUE";
+    private static final Totals EMPTY = new Totals();
+
+    private final FinancialRollupService financialRollupService;
     private final BuildingMapper buildingMapper;
 
     /**
-     * 통합 재무 대시보드 데이터 조회
+     * 통합 재무 대시보드 데이터 조회 (월별 집계 테이블 기준)
      */
     public FinancialResponse.FinancialDashboard getFinancialDashboard(Long buildingId, String startDate, String endDate) {
         log.info("재무 대시보드 조회: buildingId={}, startDate={}, endDate={}",
@@ -39,13 +39,28 @@ public class FinancialService {
             endDate != null ? endDate : "전체기간");
 
         try {
-            // 수익 및 지출 통계 조회
-            var revenueStats = revenueService.getRevenueStatistics(buildingId, startDate, endDate);
-            var expenseStats = expenseService.getExpenseStatistics(buildingId, startDate, endDate);
+            List<FinancialRollupRow> rows = financialRollupService.getRows(buildingId, startDate, endDate);
+
+            Totals revenue = new Totals();
+            Totals expense = new Totals();
+            Map<String, Totals> revenueByMonth = new HashMap<>();
+            Map<String, Totals> expenseByMonth = new HashMap<>();
+            Map<String, Totals> revenueByCategory = new HashMap<>();
+            Map<String, Totals> expenseByCategory = new HashMap<>();
+            Map<Long, Totals> revenueByBuilding = new HashMap<>();
+            Map<Long, Totals> expenseByBuilding = new HashMap<>();
+
+            for (FinancialRollupRow row : rows) {
+                boolean isRevenue = FLOW_REVENUE.equals(row.getFlowType());
+                (isRevenue ? revenue : expense).add(row);
+                (isRevenue ? revenueByMonth : expenseByMonth).computeIfAbsent(row.getMonth(), k -> new Totals()).add(row);
+                (isRevenue ? revenueByCategory : expenseByCategory).computeIfAbsent(row.getCategory(), k -> new Totals()).add(row);
+                (isRevenue ? revenueByBuilding : expenseByBuilding).computeIfAbsent(row.getBuildingId(), k -> new Totals()).add(row);
+            }
 
             // 기본 계산
-            BigDecimal totalRevenue = revenueStats.getTotalAmount();
-            BigDecimal totalExpense = expenseStats.getTotalAmount();
+            BigDecimal totalRevenue = revenue.amount;
+            BigDecimal totalExpense = expense.amount;
             BigDecimal netProfit = totalRevenue.subtract(totalExpense);
 
             // 수익률 계산 (순이익 / 총수익 * 100)
@@ -53,32 +68,22 @@ public class FinancialService {
                     netProfit.divide(totalRevenue, 4, RoundingMode.HALF_UP)
                             .multiply(BigDecimal.valueOf(100)).doubleValue() : 0.0;
 
-            // 월별 데이터 생성
-            List<FinancialResponse.MonthlySummary> monthlyData = generateMonthlySummary(
-                    revenueStats.getMonthly(), expenseStats.getMonthly());
-
             // 건물별 데이터 생성 (전체 조회시에만)
             List<FinancialResponse.BuildingSummary> buildingData = null;
             if (buildingId == null) {
-                buildingData = generateBuildingSummary(startDate, endDate);
+                buildingData = generateBuildingSummary(revenueByBuilding, expenseByBuilding);
             }
 
-            // 카테고리별 데이터 변환
-            List<FinancialResponse.CategorySummary> revenueByCategory =
-                    convertToCategorySummary(revenueStats.getCategories());
-            List<FinancialResponse.CategorySummary> expenseByCategory =
-                    convertToCategorySummary(expenseStats.getCategories());
-
             return FinancialResponse.FinancialDashboard.builder()
                     .totalRevenue(totalRevenue)
                     .totalExpense(totalExpense)
                     .netProfit(netProfit)
                     .profitMargin(profitMargin)
-                    .totalRevenueCount(revenueStats.getTotalCount())
-                    .totalExpenseCount(expenseStats.getTotalCount())
-                    .monthlyData(monthlyData)
-                    .revenueByCategory(revenueByCategory)
-                    .expenseByCategory(expenseByCategory)
+                    .totalRevenueCount(revenue.count)
+                    .totalExpenseCount(expense.count)
+                    .monthlyData(generateMonthlySummary(revenueByMonth, expenseByMonth))
+                    .revenueByCategory(generateCategorySummary(revenueByCategory, totalRevenue))
+                    .expenseByCategory(generateCategorySummary(expenseByCategory, totalExpense))
                     .buildingData(buildingData)
                     .build();
 
@@ -89,27 +94,20 @@ public class FinancialService {
     }
 
     /**
-     * 간단한 재무 요약 정보 조회
+     * 간단한 재무 요약 정보 조회 (월별 집계 테이블 기준)
      */
     public FinancialResponse.FinancialSummary getFinancialSummary(Long buildingId, String startDate, String endDate) {
         log.info("재무 요약 조회: buildingId={}, {} ~ {}", buildingId, startDate, endDate);
 
         try {
-            // 수익 및 지출 총액 조회
-            BigDecimal totalRevenue;
-            BigDecimal totalExpense;
-
-            if (buildingId != null) {
-                totalRevenue = revenueService.getTotalRevenueAmountByBuilding(buildingId);
-                totalExpense = expenseService.getExpenseStatistics(buildingId, startDate, endDate).getTotalAmount();
-            } else if (startDate != null && endDate != null) {
-                totalRevenue = revenueService.getTotalRevenueAmountByDateRange(startDate, endDate);
-                totalExpense = expenseService.getExpenseStatistics(null, startDate, endDate).getTotalAmount();
-            } else {
-                totalRevenue = revenueService.getTotalRevenueAmount();
-                totalExpense = expenseService.getExpenseStatistics(null, null, null).getTotalAmount();
+            Totals revenue = new Totals();
+            Totals expense = new Totals();
+            for (FinancialRollupRow row : financialRollupService.getRows(buildingId, startDate, endDate)) {
+                (FLOW_REVENUE.equals(row.getFlowType()) ? revenue : expense).add(row);
             }
 
+            BigDecimal totalRevenue = revenue.amount;
+            BigDecimal totalExpense = expense.amount;
             BigDecimal netProfit = totalRevenue.subtract(totalExpense);
             Double profitMargin = totalRevenue.compareTo(BigDecimal.ZERO) > 0 ?
                     netProfit.divide(totalRevenue, 4, RoundingMode.HALF_UP)
@@ -132,49 +130,26 @@ public class FinancialService {
      * 월별 손익 요약 생성
      */
     private List<FinancialResponse.MonthlySummary> generateMonthlySummary(
-            List<RevenueResponse.MonthlySummary> revenueMonthly,
-            List<ExpenseResponse.MonthlySummary> expenseMonthly) {
-
-        // 월별 데이터를 Map으로 변환
-        Map<String, BigDecimal> revenueMap = revenueMonthly.stream()
-                .collect(Collectors.toMap(
-                        RevenueResponse.MonthlySummary::getMonth,
-                        RevenueResponse.MonthlySummary::getAmount));
-
-        Map<String, Long> revenueCountMap = revenueMonthly.stream()
-                .collect(Collectors.toMap(
-                        RevenueResponse.MonthlySummary::getMonth,
-                        RevenueResponse.MonthlySummary::getCount));
-
-        Map<String, BigDecimal> expenseMap = expenseMonthly.stream()
-                .collect(Collectors.toMap(
-                        ExpenseResponse.MonthlySummary::getMonth,
-                        ExpenseResponse.MonthlySummary::getAmount));
-
-        Map<String, Long> expenseCountMap = expenseMonthly.stream()
-                .collect(Collectors.toMap(
-                        ExpenseResponse.MonthlySummary::getMonth,
-                        ExpenseResponse.MonthlySummary::getCount));
+            Map<String, Totals> revenueByMonth, Map<String, Totals> expenseByMonth) {
 
         // 전체 월 목록 생성 (수익과 지출 모두 포함)
         Set<String> allMonths = new HashSet<>();
-        allMonths.addAll(revenueMap.keySet());
-        allMonths.addAll(expenseMap.keySet());
+        allMonths.addAll(revenueByMonth.keySet());
+        allMonths.addAll(expenseByMonth.keySet());
 
         return allMonths.stream()
                 .sorted(Collections.reverseOrder()) // 최신 월부터
                 .map(month -> {
-                    BigDecimal revenue = revenueMap.getOrDefault(month, BigDecimal.ZERO);
-                    BigDecimal expense = expenseMap.getOrDefault(month, BigDecimal.ZERO);
-                    BigDecimal profit = revenue.subtract(expense);
+                    Totals revenue = revenueByMonth.getOrDefault(month, EMPTY);
+                    Totals expense = expenseByMonth.getOrDefault(month, EMPTY);
 
                     return FinancialResponse.MonthlySummary.builder()
                             .month(month)
-                            .revenue(revenue)
-                            .expense(expense)
-                            .profit(profit)
-                            .revenueCount(revenueCountMap.getOrDefault(month, 0L))
-                            .expenseCount(expenseCountMap.getOrDefault(month, 0L))
+                            .revenue(revenue.amount)
+                            .expense(expense.amount)
+                            .profit(revenue.amount.subtract(expense.amount))
+                            .revenueCount(revenue.count)
+                            .expenseCount(expense.count)
                             .build();
                 })
                 .collect(Collectors.toList());
@@ -183,29 +158,25 @@ public class FinancialService {
     /**
      * 건물별 손익 요약 생성
      */
-    private List<FinancialResponse.BuildingSummary> generateBuildingSummary(String startDate, String endDate) {
+    private List<FinancialResponse.BuildingSummary> generateBuildingSummary(
+            Map<Long, Totals> revenueByBuilding, Map<Long, Totals> expenseByBuilding) {
         try {
             // 전체 건물 목록 조회
             List<Building> buildings = buildingMapper.findAll();
 
             return buildings.stream()
                     .map(building -> {
-                        // 건물별 수익 및 지출 조회
-                        var revenueStats = revenueService.getRevenueStatistics(building.getId(), startDate, endDate);
-                        var expenseStats = expenseService.getExpenseStatistics(building.getId(), startDate, endDate);
-
-                        BigDecimal revenue = revenueStats.getTotalAmount();
-                        BigDecimal expense = expenseStats.getTotalAmount();
-                        BigDecimal profit = revenue.subtract(expense);
+                        Totals revenue = revenueByBuilding.getOrDefault(building.getId(), EMPTY);
+                        Totals expense = expenseByBuilding.getOrDefault(building.getId(), EMPTY);
 
                         return FinancialResponse.BuildingSummary.builder()
                                 .buildingId(building.getId())
                                 .buildingName(building.getName())
-                                .revenue(revenue)
-                                .expense(expense)
-                                .profit(profit)
-                                .revenueCount(revenueStats.getTotalCount())
-                                .expenseCount(expenseStats.getTotalCount())
+                                .revenue(revenue.amount)
+                                .expense(expense.amount)
+                                .profit(revenue.amount.subtract(expense.amount))
+                                .revenueCount(revenue.count)
+                                .expenseCount(expense.count)
                                 .build();
                     })
                     .sorted((a, b) -> b.getProfit().compareTo(a.getProfit())) // 순이익 순으로 정렬
@@ -218,31 +189,21 @@ public class FinancialService {
     }
 
     /**
-     * 카테고리 요약 변환
+     * 카테고리별 요약 생성 (금액 내림차순)
      */
-    private List<FinancialResponse.CategorySummary> convertToCategorySummary(List<?> categories) {
-        if (categories == null) return Collections.emptyList();
-
-        return categories.stream()
-                .map(category -> {
-                    if (category instanceof RevenueResponse.CategorySummary revCat) {
-                        return FinancialResponse.CategorySummary.builder()
-                                .category(revCat.getCategory())
-                                .amount(revCat.getAmount())
-                                .count(revCat.getCount())
-                                .percentage(revCat.getPercentage())
-                                .build();
-                    } else if (category instanceof ExpenseResponse.CategorySummary expCat) {
-                        return FinancialResponse.CategorySummary.builder()
-                                .category(expCat.getCategory())
-                                .amount(expCat.getAmount())
-                                .count(expCat.getCount())
-                                .percentage(expCat.getPercentage())
-                                .build();
-                    }
-                    return null;
-                })
-                .filter(Objects::nonNull)
+    private List<FinancialResponse.CategorySummary> generateCategorySummary(
+            Map<String, Totals> byCategory, BigDecimal totalAmount) {
+
+        return byCategory.entrySet().stream()
+                .map(entry -> FinancialResponse.CategorySummary.builder()
+                        .category(entry.getKey())
+                        .amount(entry.getValue().amount)
+                        .count(entry.getValue().count)
+                        .percentage(totalAmount.compareTo(BigDecimal.ZERO) > 0 ?
+                                entry.getValue().amount.divide(totalAmount, 4, RoundingMode.HALF_UP)
+                                        .multiply(BigDecimal.valueOf(100)).doubleValue() : null)
+                        .build())
+                .sorted((a, b) -> b.getAmount().compareTo(a.getAmount()))
                 .collect(Collectors.toList());
     }
 
@@ -283,4 +244,21 @@ public class FinancialService {
             throw new RuntimeException("수익률 분석에 실패했습니다: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 금액/건수 누적
+     */
+    private static class Totals {
+        private BigDecimal amount = BigDecimal.ZERO;
+        private long count;
+
+        private void add(FinancialRollupRow row) {
+            if (row.getAmount() != null) {
+                amount = amount.add(row.getAmount());
+            }
+            if (row.getCount() != null) {
+                count += row.getCount();
+            }
+        }
+    }
+}
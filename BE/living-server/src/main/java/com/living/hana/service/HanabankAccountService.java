@@ -26,6 +26,11 @@ public class HanabankAccountService {
     
     // 고정된 유저CI
     private static final String FIXED_USER_CI = "HANA_20990621_M_61f728f7";
+
+    // limit 미지정 시 하나은행 AccountController 가 적용하는 기본 조회 건수
+    static final int HANABANK_DEFAULT_TRANSACTIONS_LIMIT = 20;
+    static final int HANABANK_DEFAULT_RECENT_LIMIT = 10;
+    static final int HANABANK_DEFAULT_CATEGORY_LIMIT = 50;
     
     @Value("${hanabank.dev.base-url}")
     private String hanabankDevUrl;
@@ -82,6 +87,35 @@ public class HanabankAccountService {
         return List.of();
     }
 
+    /**
+     * 페이지 조회의 전체 거래 건수
+     * 마지막 페이지(조회 건수 < 실제 적용된 limit)면 offset + 조회 건수로 확정하고, 그 외에는 하나은행 개수 API 조회
+     * limit 을 보내지 않은 요청은 하나은행 기본 조회 건수가 적용되므로 그 값을 기준으로 판단
+     */
+    int resolveTotalCount(String accountNumber, String category, int pageSize, Integer limit, int defaultLimit, Integer offset) {
+        int pageStart = offset != null ? offset : 0;
+        int effectiveLimit = limit != null ? limit : defaultLimit;
+        if (pageSize < effectiveLimit) {
+            return pageStart + pageSize;
+        }
+
+        try {
+            String url = hanabankDevUrl + "/customer/accounts/" + accountNumber + "/transactions/count";
+            if (category != null) {
+                url += "?category=" + category;
+            }
+
+            ResponseEntity<Map> response = restTemplate.getForEntity(url, Map.class);
+            if (response.getBody() != null && Boolean.TRUE.equals(response.getBody().get("success"))
+                    && response.getBody().get("data") instanceof Number count) {
+                return count.intValue();
+            }
+        } catch (Exception e) {
+            log.warn("하나은행 거래내역 개수 조회 실패: accountNumber={}, error={}", accountNumber, e.getMessage());
+        }
+        return pageStart + pageSize;
+    }
+
     /**
      * Map을 AccountInfo로 변환
      */
@@ -136,7 +170,7 @@ public class HanabankAccountService {
                             .success(true)
                             .message("거래내역을 성공적으로 조회했습니다.")
                             .transactions(transactions)
-                            .totalCount(transactions.size())
+                            .totalCount(resolveTotalCount(accountNumber, null, transactions.size(), limit, HANABANK_DEFAULT_TRANSACTIONS_LIMIT, offset))
                             .build();
                 }
             } else {
@@ -206,7 +240,7 @@ public class HanabankAccountService {
                             .success(true)
                             .message("최근 거래내역을 성공적으로 조회했습니다.")
                             .transactions(transactions)
-                            .totalCount(transactions.size())
+                            .totalCount(resolveTotalCount(accountNumber, null, transactions.size(), limit, HANABANK_DEFAULT_RECENT_LIMIT, 0))
                             .build();
                 }
             } else {
@@ -281,7 +315,7 @@ public class HanabankAccountService {
                             .success(true)
                             .message(category + " 카테고리 거래내역을 성공적으로 조회했습니다.")
                             .transactions(transactions)
-                            .totalCount(transactions.size())
+                            .totalCount(resolveTotalCount(accountNumber, category, transactions.size(), limit, HANABANK_DEFAULT_CATEGORY_LIMIT, offset))
                             .build();
                 }
             } else {
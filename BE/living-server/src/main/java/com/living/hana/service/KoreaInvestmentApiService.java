@@ -8,6 +8,7 @@ import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.crypto.SecretKey;
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -19,6 +20,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.http.*;
 import org.springframework.web.client.RestTemplate;
@@ -51,6 +53,9 @@ public class KoreaInvestmentApiService {
     private String cachedAccessToken = null;
     private long tokenExpirationTime = 0;
 
+    // 종목별 마지막 정상 호가/시세 (KIS 장애, 서킷 오픈, Bulkhead 포화 시 대체 응답)
+    private final Map<String, KisStockPriceDto> lastKnownPrices = new ConcurrentHashMap<>();
+
     private SecretKey getSigningKey() {
         return Keys.hmacShaKeyFor(jwtSecret.getBytes());
     }
@@ -108,8 +113,20 @@ public class KoreaInvestmentApiService {
 
         try {
             // 실제 KIS API에서 호가 데이터 조회 (REITs 체크 제거 - 순환참조 해결)
-            return getStockQuoteWithOrderBookFromKis(stockCode);
+            KisStockPriceDto stockPrice = getStockQuoteWithOrderBookFromKis(stockCode);
+            stockPrice.setFetchedAt(System.currentTimeMillis());
+            lastKnownPrices.put(stockCode, stockPrice);
+            return stockPrice;
         } catch (Exception e) {
+            KisStockPriceDto lastKnown = lastKnownPrices.get(stockCode);
+            if (lastKnown != null) {
+                log.warn("실제 API 호출 실패 - 마지막 시세로 응답: stockCode={}, error={}", stockCode, e.getMessage());
+                // 저장된 시세는 그대로 두고 stale 표시한 복사본 반환 (fetchedAt 으로 시세 시각 확인 가능)
+                KisStockPriceDto stalePrice = new KisStockPriceDto();
+                BeanUtils.copyProperties(lastKnown, stalePrice);
+                stalePrice.setStale(true);
+                return stalePrice;
+            }
             log.error("실제 API 호출 실패: {}", e.getMessage());
             throw e; // Mock 데이터 대신 예외를 그대로 던짐
         }
@@ -73,54 +73,37 @@ public class LoanService {
     @Logging(operation = "승인 정보 조회", category = "LOAN", maskSensitive = false)
     public Map<String, Object> getApprovalDetails(String applicationId) {
         try {
-            // 하나은행의 모든 대출 신청 목록 조회 후 실제 승인된 데이터 찾기
-            String listUrl = hanabankApiUrl + "/api/admin-loan/applications";
-            log.info("[LOAN] 하나은행 대출 신청 목록 API 호출: {}", listUrl);
+            // 하나은행에서 해당 신청 건의 요약 정보만 조회 (applicationId 는 "ID" 또는 "ID:계약번호" 형태)
+            String applicationKey = applicationId.split(":")[0];
+            String summaryUrl = hanabankApiUrl + "/api/admin-loan/applications/" + applicationKey + "/summary";
+            log.info("[LOAN] 하나은행 대출 신청 요약 API 호출: {}", summaryUrl);
             
-            ResponseEntity<Map> listResponse = restTemplate.getForEntity(listUrl, Map.class);
-            log.info("[LOAN] 하나은행 API 응답 본문: {}", listResponse.getBody());
+            ResponseEntity<Map> summaryResponse = restTemplate.getForEntity(summaryUrl, Map.class);
+            log.info("[LOAN] 하나은행 API 응답 본문: {}", summaryResponse.getBody());
             
-            if (listResponse.getBody() == null) {
-                throw new RuntimeException("하나은행 대출 신청 목록 조회 실패: 응답 본문이 null입니다");
+            if (summaryResponse.getBody() == null) {
+                throw new RuntimeException("하나은행 대출 신청 조회 실패: 응답 본문이 null입니다");
             }
             
-            Map<String, Object> listResponseBody = listResponse.getBody();
-            Object successObj = listResponseBody.get("success");
+            Map<String, Object> summaryResponseBody = summaryResponse.getBody();
+            Object successObj = summaryResponseBody.get("success");
 
             if (!Boolean.TRUE.equals(successObj)) {
-                throw new RuntimeException("하나은행 대출 신청 목록 조회 실패: success=" + successObj);
+                throw new RuntimeException("하나은행 대출 신청 조회 실패: success=" + successObj);
             }
-            List<Map<String, Object>> applications = (List<Map<String, Object>>) listResponseBody.get("data");
+            Map<String, Object> targetApplication = (Map<String, Object>) summaryResponseBody.get("data");
             
-            log.info("[LOAN] 하나은행에서 조회된 전체 대출 신청 수: {}", applications != null ? applications.size() : 0);
-            
-            // 실제 승인된 데이터 중에서 application_id로 매칭
-            // applicationId는 LOAN-FDD8290A 형태이므로 실제 DB ID와 매칭 필요
-            Map<String, Object> targetApplication = null;
-            
-            for (Map<String, Object> app : applications) {
-                // 실제 승인된 데이터만 선택
-                if ("APPROVED".equals(app.get("status")) &&
-                    "APPROVED".equals(app.get("decision")) &&
-                    app.get("approvedAmount") != null &&
-                    app.get("interestRate") != null) {
-
-                    targetApplication = app;
-                    log.info("[LOAN] 실제 승인된 대출 신청 발견: ID={}", app.get("applicationId"));
-                    break;
-                }
-            }
-            
-            if (targetApplication == null) {
-                log.error("실제 승인된 대출 신청이 없습니다.");
-                log.error("applicationId: {}", applicationId);
-                log.error("전체 신청 목록:");
-                for (Map<String, Object> app : applications) {
-                    log.error("  - ID: {}, Status: {}, Decision: {}, ApprovedAmount: {}", 
-                        app.get("applicationId"), app.get("status"), app.get("decision"), app.get("approvedAmount"));
-                }
+            // 실제 승인된 데이터인지 확인
+            if (targetApplication == null ||
+                !"APPROVED".equals(targetApplication.get("status")) ||
+                !"APPROVED".equals(targetApplication.get("decision")) ||
+                targetApplication.get("approvedAmount") == null ||
+                targetApplication.get("interestRate") == null) {
+
+                log.error("승인된 대출 신청이 아닙니다. applicationId: {}, 신청 정보: {}", applicationId, targetApplication);
                 throw new RuntimeException("관리자가 승인한 대출 신청이 없습니다. 하나은행에서 먼저 승인 처리를 해주세요.");
             }
+            log.info("[LOAN] 실제 승인된 대출 신청 발견: ID={}", targetApplication.get("applicationId"));
             
             // 실제 승인 데이터 반환
             Map<String, Object> approvalData = new HashMap<>();
@@ -589,6 +572,9 @@ public class LoanService {
 
                 List<HanabankLoanStatusResponse.HanabankLoanApplication> convertedApps = new ArrayList<>();
 
+                // 하나은행 LOAN_CONTRACTS 테이블의 계약 정보를 신청 ID 목록으로 한 번에 조회
+                Map<String, Map<String, Object>> contractsByApplicationId = fetchContractsByApplicationIds(applications);
+
                 for (Map<String, Object> app : applications) {
                     HanabankLoanStatusResponse.HanabankLoanApplication convertedApp =
                         new HanabankLoanStatusResponse.HanabankLoanApplication();
@@ -658,87 +644,57 @@ public class LoanService {
                         }
                     };
 
-                    // 하나은행 LOAN_CONTRACTS 테이블에서 계약 정보가 있는지 확인
-                    try {
-                        String contractCheckUrl = hanabankApiUrl + "/loan/contracts";
-                        log.info("[LOAN] 계약 목록 조회 API 호출: {}", contractCheckUrl);
-
-                        ResponseEntity<Map> contractResponse = restTemplate.getForEntity(contractCheckUrl, Map.class);
-                        log.info("[LOAN] 계약 확인 API 응답: {}", contractResponse.getBody());
-                        
-                        if (contractResponse.getBody() != null &&
-                            Boolean.TRUE.equals(contractResponse.getBody().get("success"))) {
-
-                            List<Map<String, Object>> contractsList = (List<Map<String, Object>>) contractResponse.getBody().get("data");
-                            log.info("[LOAN] 계약 목록: {}", contractsList);
-
-                            // applicationId와 매칭되는 계약 찾기
-                            Map<String, Object> matchingContract = null;
-                            if (contractsList != null) {
-                                for (Map<String, Object> contract : contractsList) {
-                                    String applicationReferenceId = String.valueOf(contract.get("applicationReferenceId"));
-                                    if (applicationId.equals(applicationReferenceId)) {
-                                        matchingContract = contract;
-                                        break;
-                                    }
-                                }
-                            }
+                    // 일괄 조회한 계약 정보에서 applicationId와 매칭되는 계약 찾기
+                    Map<String, Object> matchingContract = contractsByApplicationId.get(applicationId);
+
+                    if (matchingContract != null) {
+                        // 계약서가 생성되었음
+                        String contractNumber = (String) matchingContract.get("contractNumber");
+                        String scheduledDate = (String) matchingContract.get("scheduledDate");
 
-                            if (matchingContract != null) {
-                                // 계약서가 생성되었음
-                                String contractNumber = (String) matchingContract.get("contractNumber");
-                                String scheduledDate = (String) matchingContract.get("scheduledDate");
-
-                                // 계약 예정일과 오늘 날짜 비교
-                                LocalDate today = LocalDate.now();
-                                LocalDate contractDate = null;
-
-                                try {
-                                    if (scheduledDate != null) {
-                                        contractDate = LocalDate.parse(scheduledDate);
-                                    }
-                                } catch (Exception e) {
-                                    log.warn("scheduledDate 파싱 실패: {}", scheduledDate);
-                                }
-
-                                if (contractDate != null && contractDate.equals(today)) {
-                                    finalStatus = "송금가능";
-                                    currentStep = 7; // 송금 단계
-                                    progress = 100;
-                                    log.info("[LOAN] 송금가능 - applicationId {} 계약 예정일이 오늘: {}", applicationId, scheduledDate);
-                                } else if (contractDate != null && contractDate.isBefore(today)) {
-                                    finalStatus = "송금가능";
-                                    currentStep = 7; // 송금 단계 (예정일 지남)
-                                    progress = 100;
-                                    log.info("[LOAN] 송금가능 - applicationId {} 계약 예정일이 지남: {}", applicationId, scheduledDate);
-                                } else {
-                                    finalStatus = "계약생성완료";
-                                    currentStep = 6;
-                                    progress = 90;
-                                    log.info("[LOAN] 계약대기 - applicationId {} 계약 예정일: {}, 오늘: {}", applicationId, scheduledDate, today);
-                                }
-
-                                // 계약번호 설정
-                                if (contractNumber != null) {
-                                    convertedApp.setId(applicationId + ":" + contractNumber); // ID에 계약번호 포함
-                                }
-
-                                // 송금 예정일 설정 (계약의 scheduled_date 사용)
-                                if (scheduledDate != null) {
-                                    convertedApp.setExpectedCompletionDate(scheduledDate);
-                                }
-
-                                log.info("[LOAN] 계약서 생성 확인됨 - applicationId: {}, 계약번호: {}, 상태: {}, 송금일: {}", applicationId, contractNumber, finalStatus, scheduledDate);
-                                log.info("[LOAN] 상태 변경: {} -> {}", originalStatus, finalStatus);
-                            } else {
-                                log.info("[LOAN] applicationId {} - 매칭되는 계약 없음", applicationId);
+                        // 계약 예정일과 오늘 날짜 비교
+                        LocalDate today = LocalDate.now();
+                        LocalDate contractDate = null;
+
+                        try {
+                            if (scheduledDate != null) {
+                                contractDate = LocalDate.parse(scheduledDate);
                             }
+                        } catch (Exception e) {
+                            log.warn("scheduledDate 파싱 실패: {}", scheduledDate);
+                        }
+
+                        if (contractDate != null && contractDate.equals(today)) {
+                            finalStatus = "송금가능";
+                            currentStep = 7; // 송금 단계
+                            progress = 100;
+                            log.info("[LOAN] 송금가능 - applicationId {} 계약 예정일이 오늘: {}", applicationId, scheduledDate);
+                        } else if (contractDate != null && contractDate.isBefore(today)) {
+                            finalStatus = "송금가능";
+                            currentStep = 7; // 송금 단계 (예정일 지남)
+                            progress = 100;
+                            log.info("[LOAN] 송금가능 - applicationId {} 계약 예정일이 지남: {}", applicationId, scheduledDate);
                         } else {
-                            log.info("[LOAN] applicationId {} - API 응답 실패", applicationId);
+                            finalStatus = "계약생성완료";
+                            currentStep = 6;
+                            progress = 90;
+                            log.info("[LOAN] 계약대기 - applicationId {} 계약 예정일: {}, 오늘: {}", applicationId, scheduledDate, today);
+                        }
+
+                        // 계약번호 설정
+                        if (contractNumber != null) {
+                            convertedApp.setId(applicationId + ":" + contractNumber); // ID에 계약번호 포함
                         }
-                    } catch (Exception e) {
-                        log.error("[LOAN] 계약 정보 확인 실패: {}", e.getMessage(), e);
-                        // 계약이 없는 경우는 정상이므로 기본값 유지
+
+                        // 송금 예정일 설정 (계약의 scheduled_date 사용)
+                        if (scheduledDate != null) {
+                            convertedApp.setExpectedCompletionDate(scheduledDate);
+                        }
+
+                        log.info("[LOAN] 계약서 생성 확인됨 - applicationId: {}, 계약번호: {}, 상태: {}, 송금일: {}", applicationId, contractNumber, finalStatus, scheduledDate);
+                        log.info("[LOAN] 상태 변경: {} -> {}", originalStatus, finalStatus);
+                    } else {
+                        log.info("[LOAN] applicationId {} - 매칭되는 계약 없음", applicationId);
                     }
                     
                     convertedApp.setStatus(finalStatus);
@@ -781,6 +737,48 @@ public class LoanService {
     }
 
 
+    /**
+     * 신청 ID 목록에 해당하는 하나은행 대출 계약을 한 번에 조회해 신청 ID 기준 맵으로 반환
+     * 조회 실패 시 빈 맵을 반환하여 계약 없음으로 처리
+     */
+    private Map<String, Map<String, Object>> fetchContractsByApplicationIds(List<Map<String, Object>> applications) {
+        Map<String, Map<String, Object>> contractsByApplicationId = new HashMap<>();
+        if (applications == null || applications.isEmpty()) {
+            return contractsByApplicationId;
+        }
+
+        List<String> applicationIds = applications.stream()
+            .map(app -> String.valueOf(app.get("applicationId")))
+            .toList();
+
+        try {
+            String contractsUrl = hanabankApiUrl + "/loan/contracts/by-applications";
+            log.info("[LOAN] 계약 일괄 조회 API 호출: {}, 신청 수: {}", contractsUrl, applicationIds.size());
+
+            ResponseEntity<Map> contractResponse = restTemplate.postForEntity(contractsUrl, applicationIds, Map.class);
+
+            if (contractResponse.getBody() != null &&
+                Boolean.TRUE.equals(contractResponse.getBody().get("success"))) {
+
+                List<Map<String, Object>> contractsList = (List<Map<String, Object>>) contractResponse.getBody().get("data");
+                if (contractsList != null) {
+                    // 최신 계약 우선 (하나은행 응답이 생성일 내림차순)
+                    for (Map<String, Object> contract : contractsList) {
+                        contractsByApplicationId.putIfAbsent(
+                            String.valueOf(contract.get("applicationReferenceId")), contract);
+                    }
+                }
+                log.info("[LOAN] 계약 일괄 조회 완료: 계약 수 {}", contractsByApplicationId.size());
+            } else {
+                log.info("[LOAN] 계약 일괄 조회 API 응답 실패: {}", contractResponse.getBody());
+            }
+        } catch (Exception e) {
+            log.error("[LOAN] 계약 정보 일괄 확인 실패: {}", e.getMessage(), e);
+            // 계약이 없는 경우는 정상이므로 기본값 유지
+        }
+        return contractsByApplicationId;
+    }
+
     /**
      * 하나은행 심사 신청 요청을 하나은행 요청으로 변환
      */
@@ -876,62 +874,15 @@ public class LoanService {
         if (hanabankResponse.getApplications() != null) {
             for (HanabankLoanStatusResponse.HanabankLoanApplication hanabankApp : hanabankResponse.getApplications()) {
                 
-                // 원본 데이터로 기본 설정
-                String applicationId = hanabankApp.getId();
-                String originalStatus = hanabankApp.getStatus();
-                String finalStatus = originalStatus;
-                int currentStep = hanabankApp.getCurrentStep();
-                int progress = hanabankApp.getProgress();
-                
-                // 하나은행 LOAN_CONTRACTS 테이블에서 계약 정보가 있는지 확인
-                try {
-                    String contractCheckUrl = hanabankApiUrl + "/api/admin-loan/contracts/check/" + applicationId;
-                    log.info("[LOAN] 계약 확인 API 호출: {}", contractCheckUrl);
-
-                    ResponseEntity<Map> contractResponse = restTemplate.getForEntity(contractCheckUrl, Map.class);
-                    log.info("[LOAN] 계약 확인 API 응답: {}", contractResponse.getBody());
-                    
-                    if (contractResponse.getBody() != null && 
-                        Boolean.TRUE.equals(contractResponse.getBody().get("success"))) {
-                        
-                        Object dataObj = contractResponse.getBody().get("data");
-                        log.info("[LOAN] 계약 데이터: {}", dataObj);
-                        
-                        if (dataObj != null) {
-                            // 계약서가 생성되었음
-                            Map<String, Object> contractData = (Map<String, Object>) dataObj;
-                            String contractNumber = (String) contractData.get("contractNumber");
-                            
-                            finalStatus = "계약생성완료";
-                            currentStep = 6;
-                            progress = 100;
-                            
-                            // 계약번호를 ID에 포함
-                            if (contractNumber != null) {
-                                applicationId = applicationId + ":" + contractNumber;
-                            }
-                            
-                            log.info("[LOAN] 계약서 생성 확인됨 - applicationId: {}, 계약번호: {}", hanabankApp.getId(), contractNumber);
-                            log.info("[LOAN] 상태 변경: {} -> {}", originalStatus, finalStatus);
-                        } else {
-                            log.info("[LOAN] applicationId {} - 계약 데이터가 null (계약 없음)", hanabankApp.getId());
-                        }
-                    } else {
-                        log.info("[LOAN] applicationId {} - API 응답 실패", hanabankApp.getId());
-                    }
-                } catch (Exception e) {
-                    log.error("[LOAN] 계약 정보 확인 실패: {}", e.getMessage(), e);
-                    // 계약이 없는 경우는 정상이므로 기본값 유지
-                }
-                
+                // 계약 정보는 callHanabankLoanStatusApi 에서 일괄 조회되어 ID/상태/진행률에 이미 반영됨
                 LoanStatusResponse.LoanApplication app = new LoanStatusResponse.LoanApplication(
-                    applicationId, // 계약번호가 포함된 ID
+                    hanabankApp.getId(), // 계약번호가 포함된 ID
                     hanabankApp.getLoanType(),
                     hanabankApp.getLoanAmount(),
                     hanabankApp.getMaxAmount(),
-                    finalStatus, // 계약 확인 후 업데이트된 상태
-                    progress, // 업데이트된 진행률
-                    currentStep, // 업데이트된 현재 단계
+                    hanabankApp.getStatus(), // 계약 확인 후 업데이트된 상태
+                    hanabankApp.getProgress(), // 업데이트된 진행률
+                    hanabankApp.getCurrentStep(), // 업데이트된 현재 단계
                     hanabankApp.getTotalSteps(),
                     hanabankApp.getSubmittedAt(),
                     hanabankApp.getExpectedCompletionDate(),
@@ -38,6 +38,7 @@ public class ManagementFeeService {
     private final UserMapper userMapper;
     private final UnitMapper unitMapper;
     private final PaymentMapper paymentMapper;
+    private final FinancialRollupService financialRollupService;
     private final HanaBankClient hanaBankClient;
     private final HanabankAccountService hanabankAccountService;
 
@@ -160,6 +161,7 @@ public class ManagementFeeService {
                         .build();
 
                 paymentMapper.insert(payment);
+                financialRollupService.onPaymentChanged(payment);
 
                 // 5. 관리비 청구 상태 업데이트
                 managementFeeChargeMapper.updateManagementFeeChargeStatus(charge.getId(), "PAID");
@@ -9,6 +9,7 @@ import com.living.hana.entity.User;
 import com.living.hana.mapper.LinkedSecuritiesAccountMapper;
 import com.living.hana.mapper.LinkedBankAccountMapper;
 import com.living.hana.mapper.UserMapper;
+import com.living.hana.client.HanaBankBalanceCache;
 import com.living.hana.client.HanaBankClient;
 import com.living.hana.dto.HanaBankAccountDto;
 import lombok.extern.slf4j.Slf4j;
@@ -19,8 +20,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Service
 @Slf4j
@@ -38,12 +45,23 @@ public class MyAccountService {
     @Autowired
     private HanaBankClient hanaBankClient;
     
+    @Autowired
+    private HanaBankBalanceCache balanceCache;
+    
     @Autowired
     private RestTemplate restTemplate;
     
     @Value("${hana.securities.api.base-url:http://localhost:8093}")
     private String hanaSecuritiesApiUrl;
     
+    // 사용자 요청당 하나은행 잔액 동시 조회 수
+    @Value("${my-accounts.max-concurrency-per-user:4}")
+    private int maxConcurrencyPerUser;
+    
+    // 연동 계좌 잔액 전체 조회 제한 시간
+    @Value("${my-accounts.deadline-ms:3000}")
+    private long deadlineMillis;
+    
     /**
      * 사용자의 모든 계좌 정보 조회 (은행계좌 + 증권계좌)
      */
@@ -80,28 +98,8 @@ public class MyAccountService {
             List<LinkedBankAccount> linkedAccounts = linkedBankAccountMapper.findAccountsByUserId(userId);
             
             if (!linkedAccounts.isEmpty()) {
-                // 연동된 계좌가 있는 경우: 각 연동된 계좌의 실시간 정보 조회
-                for (LinkedBankAccount linkedAccount : linkedAccounts) {
-                    try {
-                        HanaBankAccountDto accountInfo = hanaBankClient.getAccountInfo(linkedAccount.getAccountNumber());
-                        if (accountInfo != null) {
-                            BankAccountDto bankAccount = new BankAccountDto();
-                            bankAccount.setAccountNumber(accountInfo.getAccountNumber());
-                            bankAccount.setAccountName(accountInfo.getAccountName());
-                            bankAccount.setAccountType(accountInfo.getAccountType());
-                            bankAccount.setBalance(accountInfo.getBalance());
-                            bankAccount.setBankCode(accountInfo.getBankCode());
-                            bankAccount.setBankName(accountInfo.getBankName());
-                            bankAccount.setCurrency(accountInfo.getCurrency());
-                            bankAccount.setStatus(accountInfo.getStatus());
-                            bankAccount.setLastTransactionDate(accountInfo.getLastTransactionDate());
-                            
-                            bankAccounts.add(bankAccount);
-                        }
-                    } catch (Exception e) {
-                        log.error("계좌 정보 조회 실패: {}, {}", linkedAccount.getAccountNumber(), e.getMessage());
-                    }
-                }
+                // 연동된 계좌가 있는 경우: 각 연동된 계좌의 실시간 정보 동시 조회
+                bankAccounts.addAll(fetchLinkedBankAccounts(linkedAccounts));
             } else {
                 // 연동된 계좌가 없는 경우: 하나은행에서 전체 계좌 조회
                 log.info("[ACCOUNT] 연동된 계좌 없음 - 하나은행에서 전체 계좌 조회: userId={}", userId);
@@ -113,19 +111,11 @@ public class MyAccountService {
                     userCi = user.getUserCi();
                 }
                 
+                long cacheVersion = balanceCache.version();
                 List<HanaBankAccountDto> allBankAccounts = hanaBankClient.getAllAccountsByUserCi(userCi);
                 for (HanaBankAccountDto account : allBankAccounts) {
-                    BankAccountDto bankAccount = new BankAccountDto();
-                    bankAccount.setAccountNumber(account.getAccountNumber());
-                    bankAccount.setAccountName(account.getAccountName());
-                    bankAccount.setAccountType(account.getAccountType());
-                    bankAccount.setBalance(account.getBalance());
-                    bankAccount.setBankCode(account.getBankCode());
-                    bankAccount.setBankName(account.getBankName());
-                    bankAccount.setCurrency(account.getCurrency());
-                    bankAccount.setStatus(account.getStatus());
-                    
-                    bankAccounts.add(bankAccount);
+                    balanceCache.put(account, cacheVersion);
+                    bankAccounts.add(toBankAccountDto(account, false));
                 }
             }
             
@@ -136,6 +126,127 @@ public class MyAccountService {
         return bankAccounts;
     }
     
+    /**
+     * 연동된 은행 계좌 잔액 동시 조회
+     * - 동시 조회 수는 maxConcurrencyPerUser 로 제한 (계좌를 그 수만큼의 순차 체인으로 분배)
+     * - 잔액 캐시 TTL 이내 계좌는 하나은행 호출 생략
+     * - deadlineMillis 안에 끝나지 않거나 실패한 계좌는 최근 캐시 값을 stale 로 반환
+     *   (캐시도 없으면 지연 계좌는 잔액 없이 stale 로, 실패 계좌는 기존과 같이 제외)
+     * - 캐시 버전은 호출 직전에 받아 두어 조회 중 이체로 제거된 계좌의 이전 잔액이 다시 저장되지 않도록 함
+     */
+    private List<BankAccountDto> fetchLinkedBankAccounts(List<LinkedBankAccount> linkedAccounts) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+        int lanes = Math.max(1, Math.min(maxConcurrencyPerUser, linkedAccounts.size()));
+
+        List<CompletableFuture<?>> laneTails = new ArrayList<>(
+                Collections.nCopies(lanes, CompletableFuture.completedFuture(null)));
+        List<CompletableFuture<HanaBankAccountDto>> futures = new ArrayList<>(linkedAccounts.size());
+
+        for (int i = 0; i < linkedAccounts.size(); i++) {
+            String accountNumber = linkedAccounts.get(i).getAccountNumber();
+
+            HanaBankAccountDto cached = balanceCache.getFresh(accountNumber);
+            if (cached != null) {
+                futures.add(CompletableFuture.completedFuture(cached));
+                continue;
+            }
+
+            int lane = i % lanes;
+            CompletableFuture<HanaBankAccountDto> future = laneTails.get(lane)
+                    .handle((result, error) -> null)
+                    .thenCompose(ignored -> System.nanoTime() - deadline >= 0
+                            ? CompletableFuture.<HanaBankAccountDto>failedFuture(
+                                    new TimeoutException("계좌 조회 제한 시간 초과: " + accountNumber))
+                            : fetchAndCache(accountNumber));
+            laneTails.set(lane, future);
+            futures.add(future);
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("[ACCOUNT] 계좌 조회 제한 시간({}ms) 초과 - 일부 계좌는 최근 값으로 응답", deadlineMillis);
+        } catch (ExecutionException e) {
+            // 계좌별 실패는 아래에서 개별 처리
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<BankAccountDto> bankAccounts = new ArrayList<>(linkedAccounts.size());
+        for (int i = 0; i < linkedAccounts.size(); i++) {
+            LinkedBankAccount linkedAccount = linkedAccounts.get(i);
+            CompletableFuture<HanaBankAccountDto> future = futures.get(i);
+
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                HanaBankAccountDto accountInfo = future.join();
+                if (accountInfo != null) {
+                    bankAccounts.add(toBankAccountDto(accountInfo, false));
+                }
+                continue;
+            }
+
+            HanaBankAccountDto lastKnown = balanceCache.getLastKnown(linkedAccount.getAccountNumber());
+            if (lastKnown != null) {
+                bankAccounts.add(toBankAccountDto(lastKnown, true));
+            } else if (!future.isDone() || isTimeout(future)) {
+                bankAccounts.add(toStaleBankAccountDto(linkedAccount));
+            } else {
+                log.error("계좌 정보 조회 실패: {}", linkedAccount.getAccountNumber());
+            }
+        }
+        return bankAccounts;
+    }
+
+    private CompletableFuture<HanaBankAccountDto> fetchAndCache(String accountNumber) {
+        long cacheVersion = balanceCache.version();
+        return hanaBankClient.getAccountInfoAsync(accountNumber)
+                .thenApply(accountInfo -> {
+                    balanceCache.put(accountInfo, cacheVersion);
+                    return accountInfo;
+                });
+    }
+
+    private boolean isTimeout(CompletableFuture<?> future) {
+        try {
+            future.join();
+            return false;
+        } catch (CompletionException e) {
+            return e.getCause() instanceof TimeoutException;
+        }
+    }
+
+    private BankAccountDto toBankAccountDto(HanaBankAccountDto account, boolean stale) {
+        BankAccountDto bankAccount = new BankAccountDto();
+        bankAccount.setAccountNumber(account.getAccountNumber());
+        bankAccount.setAccountName(account.getAccountName());
+        bankAccount.setAccountType(account.getAccountType());
+        bankAccount.setBalance(account.getBalance());
+        bankAccount.setBankCode(account.getBankCode());
+        bankAccount.setBankName(account.getBankName());
+        bankAccount.setCurrency(account.getCurrency());
+        bankAccount.setStatus(account.getStatus());
+        bankAccount.setLastTransactionDate(account.getLastTransactionDate());
+        bankAccount.setStale(stale);
+        return bankAccount;
+    }
+
+    /**
+     * 잔액을 아직 받지 못한 연동 계좌 (잔액 없음, stale)
+     */
+    private BankAccountDto toStaleBankAccountDto(LinkedBankAccount linkedAccount) {
+        BankAccountDto bankAccount = new BankAccountDto();
+        bankAccount.setAccountNumber(linkedAccount.getAccountNumber());
+        bankAccount.setAccountName(linkedAccount.getAccountName());
+        bankAccount.setAccountType(linkedAccount.getAccountType());
+        bankAccount.setBankCode("088");
+        bankAccount.setBankName("하나은행");
+        bankAccount.setCurrency("KRW");
+        bankAccount.setStatus(linkedAccount.getStatus());
+        bankAccount.setStale(true);
+        return bankAccount;
+    }
+
     /**
      * 연동된 증권계좌 조회
      */
@@ -192,17 +303,7 @@ public class MyAccountService {
             List<HanaBankAccountDto> bankAccounts = hanaBankClient.getAllAccountsByUserCi(userCi);
             
             for (HanaBankAccountDto account : bankAccounts) {
-                BankAccountDto bankAccount = new BankAccountDto();
-                bankAccount.setAccountNumber(account.getAccountNumber());
-                bankAccount.setAccountName(account.getAccountName());
-                bankAccount.setAccountType(account.getAccountType());
-                bankAccount.setBalance(account.getBalance());
-                bankAccount.setBankCode(account.getBankCode());
-                bankAccount.setBankName(account.getBankName());
-                bankAccount.setCurrency(account.getCurrency());
-                bankAccount.setStatus(account.getStatus());
-                
-                availableAccounts.add(bankAccount);
+                availableAccounts.add(toBankAccountDto(account, false));
             }
             
         } catch (Exception e) {
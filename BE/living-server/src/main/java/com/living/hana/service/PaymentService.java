@@ -26,6 +26,7 @@ public class PaymentService {
 
     private final PaymentMapper paymentMapper;
     private final ContractMapper contractMapper;
+    private final FinancialRollupService financialRollupService;
 
     /**
      * 모든 납부 내역 조회
@@ -162,8 +163,12 @@ public class PaymentService {
         try {
             log.info("[PAYMENT] 납부 정보 수정 시작: paymentId={}", payment.getId());
 
+            Payment before = paymentMapper.findById(payment.getId());
+
             payment.setUpdatedAt(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
             paymentMapper.update(payment);
+            financialRollupService.onPaymentChanged(before);
+            financialRollupService.onPaymentChanged(payment);
 
             log.info("[PAYMENT] 납부 정보 수정 완료: paymentId={}", payment.getId());
             return payment;
@@ -184,6 +189,7 @@ public class PaymentService {
             paymentMapper.updateStatus(id, "PAID", hanaBankTransactionId);
 
             Payment payment = paymentMapper.findById(id);
+            financialRollupService.onPaymentChanged(payment);
 
             log.info("[PAYMENT] 납부 완료 처리 완료: paymentId={}, transactionId={}", id, hanaBankTransactionId);
             return payment;
@@ -200,7 +206,10 @@ public class PaymentService {
         try {
             log.info("[PAYMENT] 납부 내역 삭제 시작: paymentId={}", id);
 
+            Payment payment = paymentMapper.findById(id);
+
             paymentMapper.deleteById(id);
+            financialRollupService.onPaymentChanged(payment);
 
             log.info("[PAYMENT] 납부 내역 삭제 완료: paymentId={}", id);
         } catch (Exception e) {
@@ -21,13 +21,18 @@ import org.springframework.transaction.annotation.Transactional;
 import java.sql.Date;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ReitProductService {
 
+    private static final int IN_CLAUSE_BATCH_SIZE = 1000;
+
     private final ReitProductMapper reitProductMapper;
     private final ReitBuildingMappingMapper reitBuildingMappingMapper;
     private final ReitDividendMapper reitDividendMapper;
@@ -162,29 +167,13 @@ public class ReitProductService {
     public List<ReitBuildingMappingResponse> findBuildingsByProduct(String productCode) {
         // REIT 상품의 포함 건물 조회
 
-        List<ReitBuildingMapping> mappings = reitBuildingMappingMapper.findByProductCode(productCode);
-        List<ReitBuildingMappingResponse> responses = new ArrayList<>();
-
-        for (ReitBuildingMapping mapping : mappings) {
-            Building building = buildingMapper.findById(mapping.getBuildingId());
-            responses.add(ReitBuildingMappingResponse.fromEntityWithBuilding(mapping, building));
-        }
-
-        return responses;
+        return reitBuildingMappingMapper.findResponsesByProductCode(productCode, false);
     }
 
     public List<ReitBuildingMappingResponse> findActiveBuildingsByProduct(String productCode) {
         // REIT 상품의 현재 포함 건물 조회
 
-        List<ReitBuildingMapping> mappings = reitBuildingMappingMapper.findActiveByProductCode(productCode);
-        List<ReitBuildingMappingResponse> responses = new ArrayList<>();
-
-        for (ReitBuildingMapping mapping : mappings) {
-            Building building = buildingMapper.findById(mapping.getBuildingId());
-            responses.add(ReitBuildingMappingResponse.fromEntityWithBuilding(mapping, building));
-        }
-
-        return responses;
+        return reitBuildingMappingMapper.findResponsesByProductCode(productCode, true);
     }
 
     @Transactional
@@ -353,26 +342,17 @@ public class ReitProductService {
             return new ArrayList<>();
         }
 
-        List<ReitProduct> personalizedReits = new ArrayList<>();
-
-        // 각 건물 ID에 대해 활성 REIT 매핑 조회
-        for (Long buildingId : buildingIds) {
-            List<ReitBuildingMapping> activeMappings = reitBuildingMappingMapper.findActiveByBuildingId(buildingId);
-
-            for (ReitBuildingMapping mapping : activeMappings) {
-                ReitProduct reit = reitProductMapper.findByProductCode(mapping.getProductCode());
-                if (reit != null) {
-                    // 중복 방지 체크
-                    boolean alreadyExists = personalizedReits.stream()
-                        .anyMatch(existing -> existing.getProductCode().equals(reit.getProductCode()));
+        // 활성 매핑이 있는 REIT 상품을 IN 목록 단위로 조회 (상품 코드 기준 중복 제거)
+        List<Long> distinctIds = buildingIds.stream().filter(Objects::nonNull).distinct().toList();
+        Map<String, ReitProduct> personalizedReits = new LinkedHashMap<>();
 
-                    if (!alreadyExists) {
-                        personalizedReits.add(reit);
-                    }
-                }
+        for (int from = 0; from < distinctIds.size(); from += IN_CLAUSE_BATCH_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + IN_CLAUSE_BATCH_SIZE, distinctIds.size()));
+            for (ReitProduct reit : reitProductMapper.findActiveByBuildingIds(chunk)) {
+                personalizedReits.putIfAbsent(reit.getProductCode(), reit);
             }
         }
 
-        return personalizedReits;
+        return new ArrayList<>(personalizedReits.values());
     }
 }
\ No newline at end of file
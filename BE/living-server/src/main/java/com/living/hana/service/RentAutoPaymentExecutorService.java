@@ -19,6 +19,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * 월세 자동송금 수동 실행 서비스
@@ -66,10 +68,13 @@ public class RentAutoPaymentExecutorService {
             return createSummary(0, 0, new ArrayList<>(), new ArrayList<>());
         }
 
-        // 2. 각 자동이체 실행
+        // 2. 이체 요청 생성 (계좌/USER_CI 검증)
         List<Map<String, Object>> successResults = new ArrayList<>();
         List<Map<String, Object>> failureResults = new ArrayList<>();
 
+        List<RentAutoPayment> transferPayments = new ArrayList<>();
+        List<HanaBankClient.ImmediateTransfer> transfers = new ArrayList<>();
+
         for (RentAutoPayment payment : scheduledPayments) {
             try {
                 log.info("월세 이체 실행: contractId={}, userId={}, amount={}",
@@ -104,8 +109,23 @@ public class RentAutoPaymentExecutorService {
                     .memo("월세 자동이체 - " + payment.getUserName() + " (" + payment.getBuildingName() + " " + payment.getUnitNumber() + ")")
                     .build();
 
-                // 하나은행 즉시 이체 API 호출
-                AutoTransferResponse response = hanaBankClient.executeImmediateTransfer(request, userCi);
+                transferPayments.add(payment);
+                transfers.add(new HanaBankClient.ImmediateTransfer(request, userCi));
+
+            } catch (Exception e) {
+                log.error("월세 이체 요청 생성 중 예외 발생: contractId={}, error={}", payment.getContractId(), e.getMessage(), e);
+                failureResults.add(createFailureResult(payment, e.getMessage()));
+            }
+        }
+
+        // 3. 하나은행 즉시 이체 API 호출 (입금 계좌가 같은 관리자 계좌이므로 하나은행에는 순서대로 전달됨)
+        List<CompletableFuture<AutoTransferResponse>> transferFutures = hanaBankClient.executeImmediateTransfers(transfers);
+
+        // 4. 결과 기록 (DB 작업은 현재 트랜잭션 스레드에서 순서대로 처리)
+        for (int i = 0; i < transferPayments.size(); i++) {
+            RentAutoPayment payment = transferPayments.get(i);
+            try {
+                AutoTransferResponse response = awaitTransfer(transferFutures.get(i), payment);
 
                 if (response != null && response.isSuccess()) {
                     // 성공: 결제 기록 저장
@@ -174,6 +194,19 @@ public class RentAutoPaymentExecutorService {
         return createSummary(successResults.size(), failureResults.size(), successResults, failureResults);
     }
 
+    /**
+     * 이체 결과 대기 (호출 실패 시 null - 기존 동기 호출과 동일하게 "응답 없음" 처리)
+     */
+    private AutoTransferResponse awaitTransfer(CompletableFuture<AutoTransferResponse> future, RentAutoPayment payment) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            log.error("즉시 이체 실행 실패: contractId={}, error={}", payment.getContractId(), cause.getMessage());
+            return null;
+        }
+    }
+
     /**
      * 실행 결과 요약 생성
      */
@@ -31,6 +31,7 @@ public class RentPaymentService {
 
     private final RentPaymentRecordMapper rentPaymentRecordMapper;
     private final PaymentMapper paymentMapper;
+    private final FinancialRollupService financialRollupService;
     private final ContractMapper contractMapper;
     private final UnitMapper unitMapper;
     private final UserService userService;
@@ -340,6 +341,7 @@ public class RentPaymentService {
                     .build();
 
             paymentMapper.insert(payment);
+            financialRollupService.onPaymentChanged(payment);
             log.info("PAYMENTS 테이블에 월세 기록 생성 완료: paymentId={}, transactionId={}",
                     payment.getId(), hanabankTransactionId);
 
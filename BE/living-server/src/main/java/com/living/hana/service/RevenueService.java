@@ -67,8 +67,7 @@ public class RevenueService {
             if (buildingId != null) {
                 if (startDate != null && endDate != null) {
                     totalAmount = revenueMapper.getTotalRevenueAmountByBuildingIdAndDateRange(buildingId, startDate, endDate);
-                    // 건물+기간별 count는 조건 조회로 처리
-                    totalCount = revenueMapper.findRevenuesByBuildingIdAndDateRange(buildingId, startDate, endDate).size();
+                    totalCount = revenueMapper.countRevenuesByBuildingIdAndDateRange(buildingId, startDate, endDate);
                 } else {
                     totalAmount = revenueMapper.getTotalRevenueAmountByBuildingId(buildingId);
                     totalCount = revenueMapper.countRevenuesByBuildingId(buildingId);
@@ -76,7 +75,7 @@ public class RevenueService {
             } else {
                 if (startDate != null && endDate != null) {
                     totalAmount = revenueMapper.getTotalRevenueAmountByDateRange(startDate, endDate);
-                    totalCount = revenueMapper.findRevenuesByDateRange(startDate, endDate).size();
+                    totalCount = revenueMapper.countRevenuesByDateRange(startDate, endDate);
                 } else {
                     totalAmount = revenueMapper.getTotalRevenueAmount();
                     totalCount = revenueMapper.countAllRevenues();
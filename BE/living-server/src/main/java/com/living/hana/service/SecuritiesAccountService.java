@@ -6,6 +6,7 @@ import com.living.hana.entity.LinkedSecuritiesAccount;
 import com.living.hana.entity.User;
 import com.living.hana.mapper.LinkedSecuritiesAccountMapper;
 import com.living.hana.mapper.UserMapper;
+import com.living.hana.security.PrincipalCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -28,6 +29,9 @@ public class SecuritiesAccountService {
     @Autowired
     private UserMapper userMapper;
     
+    @Autowired
+    private PrincipalCache principalCache;
+    
     @Autowired
     private RestTemplate restTemplate;
     
@@ -50,6 +54,7 @@ public class SecuritiesAccountService {
                 String userCi = generateUserCi(user.getId(), user.getEmail());
                 user.setUserCi(userCi);
                 userMapper.update(user);
+                principalCache.evictUser(user.getId());
             }
             
             // 3. 이미 연동된 계좌인지 확인
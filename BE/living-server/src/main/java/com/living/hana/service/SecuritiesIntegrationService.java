@@ -10,6 +10,7 @@ import org.springframework.web.client.RestTemplate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
@@ -21,6 +22,9 @@ public class SecuritiesIntegrationService {
     @Value("${hana.securities.api.base-url:http://192.168.217.249:8093}")
     private String securitiesApiBaseUrl;
 
+    // 종목별 마지막 정상 시세 (증권 서버 장애/서킷 오픈 시 stale 로 응답)
+    private final Map<String, Map<String, Object>> lastKnownPrices = new ConcurrentHashMap<>();
+
     /**
      * HanaSecurities에서 실시간 주식 가격 조회
      * @param stockCode 종목코드
@@ -44,16 +48,17 @@ public class SecuritiesIntegrationService {
                 if (Boolean.TRUE.equals(responseBody.get("success"))) {
                     @SuppressWarnings("unchecked")
                     Map<String, Object> data = (Map<String, Object>) responseBody.get("data");
+                    rememberPrice(stockCode, data);
                     return data;
                 } else {
-                    return createErrorResponse("가격 조회 실패: " + responseBody.get("message"));
+                    return lastKnownPriceOr(stockCode, createErrorResponse("가격 조회 실패: " + responseBody.get("message")));
                 }
             } else {
-                return createErrorResponse("API 응답 오류");
+                return lastKnownPriceOr(stockCode, createErrorResponse("API 응답 오류"));
             }
             
         } catch (Exception e) {
-            return createErrorResponse("실시간 가격 조회 중 오류 발생: " + e.getMessage());
+            return lastKnownPriceOr(stockCode, createErrorResponse("실시간 가격 조회 중 오류 발생: " + e.getMessage()));
         }
     }
 
@@ -83,6 +88,15 @@ public class SecuritiesIntegrationService {
                 if (Boolean.TRUE.equals(responseBody.get("success"))) {
                     @SuppressWarnings("unchecked")
                     Map<String, Object> data = (Map<String, Object>) responseBody.get("data");
+                    if (data != null) {
+                        for (String stockCode : stockCodes) {
+                            if (data.get(stockCode) instanceof Map<?, ?> price) {
+                                @SuppressWarnings("unchecked")
+                                Map<String, Object> typedPrice = (Map<String, Object>) price;
+                                rememberPrice(stockCode, typedPrice);
+                            }
+                        }
+                    }
                     return data;
                 } else {
                     return createMultipleErrorResponse(stockCodes);
@@ -230,11 +244,31 @@ public class SecuritiesIntegrationService {
     private Map<String, Object> createMultipleErrorResponse(List<String> stockCodes) {
         Map<String, Object> errorData = new HashMap<>();
         for (String stockCode : stockCodes) {
-            errorData.put(stockCode, createErrorResponse("가격 조회 실패"));
+            errorData.put(stockCode, lastKnownPriceOr(stockCode, createErrorResponse("가격 조회 실패")));
         }
         return errorData;
     }
 
+    private void rememberPrice(String stockCode, Map<String, Object> data) {
+        if (data != null) {
+            lastKnownPrices.put(stockCode, new HashMap<>(data));
+        }
+    }
+
+    /**
+     * 마지막 정상 시세가 있으면 stale 표시 후 반환, 없으면 에러 응답
+     */
+    private Map<String, Object> lastKnownPriceOr(String stockCode, Map<String, Object> errorResponse) {
+        Map<String, Object> lastKnown = lastKnownPrices.get(stockCode);
+        if (lastKnown == null) {
+            return errorResponse;
+        }
+        log.warn("증권 서버 시세 조회 실패 - 마지막 시세로 응답: stockCode={}", stockCode);
+        Map<String, Object> stale = new HashMap<>(lastKnown);
+        stale.put("stale", true);
+        return stale;
+    }
+
     private Map<String, Object> createPortfolioErrorResponse() {
         Map<String, Object> error = new HashMap<>();
         error.put("updates", new HashMap<>());
@@ -4,6 +4,9 @@ import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import com.living.hana.util.BoundedExecutors;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,33 +14,60 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class StorageService {
 
+    // 업로드 버퍼 크기 (GCS 재개 가능 업로드 청크 단위 256KiB)
+    static final int UPLOAD_BUFFER_SIZE = 256 * 1024;
+
     private final Storage storage;
 
     @Value("${gcp.storage.bucket-name}")
     private String bucketName;
 
+    @Value("${gcp.storage.upload-parallelism:4}")
+    private int uploadParallelism;
+
+    @Value("${gcp.storage.upload-max-attempts:3}")
+    private int uploadMaxAttempts;
+
+    @Value("${gcp.storage.upload-retry-backoff-ms:200}")
+    private long uploadRetryBackoffMs;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    // 이미지 업로드 전용 실행기 (동시 업로드 수 제한, 가상 스레드 모드에서도 동시 수는 그대로)
+    private ExecutorService uploadExecutor;
+
+    @PostConstruct
+    public void init() {
+        uploadExecutor = BoundedExecutors.newExecutor("gcs-upload", uploadParallelism, virtualThreads);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdown();
+    }
+
     /**
      * 이미지 파일을 GCP Cloud Storage에 업로드
      */
     public String uploadImage(MultipartFile file) {
         try {
-            String fileName = generateFileName(file.getOriginalFilename());
-            BlobId blobId = BlobId.of(bucketName, fileName);
-            BlobInfo blobInfo = BlobInfo.newBuilder(blobId)
-                    .setContentType(file.getContentType())
-                    .build();
-
-            Blob blob = storage.create(blobInfo, file.getBytes());
+            String fileName = generateFileName("buildings", file.getOriginalFilename());
+            Blob blob = streamUpload(file, fileName);
             String imageUrl = blob.getMediaLink();
             
             log.info("Image uploaded successfully: {} -> {}", fileName, imageUrl);
@@ -48,24 +78,101 @@ public class StorageService {
         }
     }
 
+    /**
+     * 일반 파일을 지정 폴더에 업로드하고 저장된 객체명 반환
+     */
+    public String uploadFile(MultipartFile file, String folder) {
+        try {
+            String fileName = generateFileName(folder, file.getOriginalFilename());
+            streamUpload(file, fileName);
+            return fileName;
+        } catch (IOException e) {
+            log.error("Error uploading file: {}", e.getMessage(), e);
+            throw new RuntimeException("파일 업로드에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 멀티파트 입력 스트림을 고정 크기 버퍼로 GCS 재개 가능 업로드에 전달
+     * (file.getBytes() 로 파일 전체를 힙에 올리지 않음)
+     */
+    private Blob streamUpload(MultipartFile file, String fileName) throws IOException {
+        BlobInfo blobInfo = BlobInfo.newBuilder(BlobId.of(bucketName, fileName))
+                .setContentType(file.getContentType())
+                .build();
+
+        try (InputStream inputStream = file.getInputStream()) {
+            return storage.createFrom(blobInfo, inputStream, UPLOAD_BUFFER_SIZE);
+        }
+    }
+
     /**
      * 여러 이미지 파일을 GCP Cloud Storage에 업로드
+     * - 업로드 전용 풀에서 동시에 업로드하고, 파일별로 재시도
+     * - 반환 순서는 요청 순서와 동일
+     * - 하나라도 최종 실패하면 이미 업로드된 파일을 삭제한 뒤 예외 발생
      */
     public List<String> uploadImages(List<MultipartFile> files) {
+        if (files == null || files.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (MultipartFile file : files) {
+            if (!file.isEmpty()) {
+                futures.add(CompletableFuture.supplyAsync(() -> uploadImageWithRetry(file), uploadExecutor));
+            }
+        }
+
         List<String> imageUrls = new ArrayList<>();
-        
-        if (files != null && !files.isEmpty()) {
-            for (MultipartFile file : files) {
-                if (!file.isEmpty()) {
-                    String imageUrl = uploadImage(file);
-                    imageUrls.add(imageUrl);
+        RuntimeException failure = null;
+        for (CompletableFuture<String> future : futures) {
+            try {
+                imageUrls.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException runtimeException
+                            ? runtimeException
+                            : new RuntimeException("이미지 업로드에 실패했습니다.", e.getCause());
                 }
             }
         }
-        
+
+        if (failure != null) {
+            log.error("Image batch upload failed, rolling back {} uploaded images", imageUrls.size());
+            deleteImages(imageUrls);
+            throw failure;
+        }
+
         return imageUrls;
     }
 
+    /**
+     * 단일 이미지 업로드 (일시적 오류 대비 재시도)
+     */
+    private String uploadImageWithRetry(MultipartFile file) {
+        int attempts = Math.max(1, uploadMaxAttempts);
+        RuntimeException lastError = null;
+        for (int attempt = 1; attempt <= attempts; attempt++) {
+            try {
+                return uploadImage(file);
+            } catch (RuntimeException e) {
+                lastError = e;
+                if (attempt < attempts) {
+                    log.warn("Image upload failed (attempt {}/{}): {} - {}",
+                            attempt, attempts, file.getOriginalFilename(), e.getMessage());
+                    try {
+                        Thread.sleep(uploadRetryBackoffMs * attempt);
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+            }
+        }
+        throw lastError;
+    }
+
     /**
      * 이미지 파일 삭제
      */
@@ -102,12 +209,12 @@ public class StorageService {
     /**
      * 고유한 파일명 생성
      */
-    private String generateFileName(String originalFileName) {
+    private String generateFileName(String folder, String originalFileName) {
         String extension = "";
         if (originalFileName != null && originalFileName.contains(".")) {
             extension = originalFileName.substring(originalFileName.lastIndexOf("."));
         }
-        return "buildings/" + UUID.randomUUID() + extension;
+        return folder + "/" + UUID.randomUUID() + extension;
     }
 
     /**
@@ -9,6 +9,8 @@ import com.living.hana.util.JsonUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
@@ -50,37 +52,47 @@ public class UnitService {
     }
 
     @Logging(operation = "호실 생성", category = "UNIT", maskSensitive = false)
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Unit createUnit(Unit unit, List<MultipartFile> images) {
-        return transactionTemplate.execute(status -> {
-            try {
-                // 이미지 업로드 및 호실 객체 준비
-                Unit preparedUnit = prepareUnitForCreation(unit, images);
+        // 이미지 업로드는 트랜잭션 밖에서 먼저 수행 (업로드 중 DB 커넥션 점유 방지)
+        List<String> imageUrls = uploadUnitImages(images);
 
-                // 데이터베이스에 저장
-                int insertResult = unitMapper.insert(preparedUnit);
+        try {
+            return transactionTemplate.execute(status -> createUnitRecord(status, unit, imageUrls));
+        } catch (RuntimeException e) {
+            storageService.deleteImages(imageUrls);
+            throw e;
+        }
+    }
 
-                if (insertResult > 0) {
-                    status.flush();
-                    return refetchCreatedUnit(preparedUnit);
-                } else {
-                    status.setRollbackOnly();
-                    throw new RuntimeException("호실 생성에 실패했습니다.");
-                }
-            } catch (Exception e) {
+    /**
+     * 호실 레코드 저장 (트랜잭션 내부)
+     */
+    private Unit createUnitRecord(TransactionStatus status, Unit unit, List<String> imageUrls) {
+        try {
+            // 호실 객체 준비
+            Unit preparedUnit = prepareUnitForCreation(unit, imageUrls);
+
+            // 데이터베이스에 저장
+            int insertResult = unitMapper.insert(preparedUnit);
+
+            if (insertResult > 0) {
+                // ID 는 INSERT 시 생성 키로 채워지고 나머지 컬럼은 모두 위에서 설정한 값
+                return preparedUnit;
+            } else {
                 status.setRollbackOnly();
-                throw e;
+                throw new RuntimeException("호실 생성에 실패했습니다.");
             }
-        });
+        } catch (Exception e) {
+            status.setRollbackOnly();
+            throw e;
+        }
     }
     
     /**
      * 호실 생성을 위한 데이터 준비
      */
-    private Unit prepareUnitForCreation(Unit unit, List<MultipartFile> images) {
-        // 이미지 업로드 처리
-        List<String> imageUrls = uploadUnitImages(images);
-        
+    private Unit prepareUnitForCreation(Unit unit, List<String> imageUrls) {
         // 중복 호실 번호 검증
         log.info("Checking for duplicate unit number: {} in building: {}", unit.getUnitNumber(), unit.getBuildingId());
         Unit existingUnit = unitMapper.findByBuildingIdAndUnitNumber(unit.getBuildingId(), unit.getUnitNumber());
@@ -137,32 +149,8 @@ public class UnitService {
         return imageUrls != null ? imageUrls : new ArrayList<>();
     }
     
-    /**
-     * 생성된 호실 정보 재조회
-     */
-    private Unit refetchCreatedUnit(Unit unit) {
-        try {
-            // Oracle 트랜잭션 커밋 대기
-            Thread.sleep(100);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
-        Unit createdUnit = unitMapper.findById(unit.getId());
-        if (createdUnit != null) {
-            return createdUnit;
-        } else {
-            log.warn("Unit created but failed to re-fetch: {}", unit.getUnitNumber());
-            // 재조회 실패 시 기본 호실 객체 반환
-            Unit fallbackUnit = new Unit();
-            fallbackUnit.setId(0L);
-            fallbackUnit.setUnitNumber(unit.getUnitNumber());
-            return fallbackUnit;
-        }
-    }
-
     @Logging(operation = "호실 정보 수정", category = "UNIT", maskSensitive = false)
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Unit updateUnit(Unit unit, List<String> existingImages, List<MultipartFile> newImages) {
         // 기존 호실 정보 조회
         Unit existingUnit = unitMapper.findById(unit.getId());
@@ -200,18 +188,12 @@ public class UnitService {
             imagesToKeep.addAll(existingImages);
         }
 
-        // 삭제할 이미지들 (GCP에서도 삭제)
+        // 삭제할 이미지들 (수정 성공 후 GCP에서 삭제)
         List<String> imagesToDelete = new ArrayList<>(currentImages);
         imagesToDelete.removeAll(imagesToKeep);
-        if (!imagesToDelete.isEmpty()) {
-            storageService.deleteImages(imagesToDelete);
-        }
 
-        // 새로 업로드할 이미지들
-        List<String> newImageUrls = new ArrayList<>();
-        if (newImages != null && !newImages.isEmpty()) {
-            newImageUrls = storageService.uploadImages(newImages);
-        }
+        // 새로 업로드할 이미지들 (트랜잭션 밖에서 업로드)
+        List<String> newImageUrls = uploadUnitImages(newImages);
 
         // 최종 이미지 목록 (유지할 기존 이미지 + 새로 업로드한 이미지)
         List<String> finalImages = new ArrayList<>();
@@ -222,13 +204,21 @@ public class UnitService {
         unit.setImages(JsonUtils.imageUrlsToJson(finalImages));
         unit.setUpdatedAt(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
 
-        int updateResult = unitMapper.update(unit);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (unitMapper.update(unit) <= 0) {
+                    throw new RuntimeException("호실 정보 수정에 실패했습니다.");
+                }
+            });
+        } catch (RuntimeException e) {
+            storageService.deleteImages(newImageUrls);
+            throw e;
+        }
 
-        if (updateResult > 0) {
-            return unit;
-        } else {
-            throw new RuntimeException("호실 정보 수정에 실패했습니다.");
+        if (!imagesToDelete.isEmpty()) {
+            storageService.deleteImages(imagesToDelete);
         }
+        return unit;
     }
 
     @Logging(operation = "호실 삭제", category = "UNIT", maskSensitive = false)
@@ -4,6 +4,7 @@ import com.living.hana.annotation.Logging;
 import com.living.hana.entity.User;
 import com.living.hana.exception.BusinessException;
 import com.living.hana.mapper.UserMapper;
+import com.living.hana.security.PrincipalCache;
 import com.living.hana.util.DateTimeUtils;
 import com.living.hana.util.EntityValidator;
 import com.living.hana.util.StringUtils;
@@ -29,6 +30,7 @@ public class UserService implements UserDetailsService {
     private final PasswordEncoder passwordEncoder;
     private final TransactionTemplate transactionTemplate;
     private final EntityValidator entityValidator;
+    private final PrincipalCache principalCache;
 
     @Override
     public UserDetails loadUserByUsername(String userCi) throws UsernameNotFoundException {
@@ -66,8 +68,8 @@ public class UserService implements UserDetailsService {
                 int insertResult = userMapper.insert(user);
 
                 if (insertResult > 0) {
-                    status.flush();
-                    return refetchCreatedUser(user.getEmail());
+                    // ID 는 INSERT 시 생성 키로 채워지고 나머지 컬럼은 모두 위에서 설정한 값
+                    return user;
                 } else {
                     status.setRollbackOnly();
                     throw new RuntimeException("사용자 생성에 실패했습니다.");
@@ -105,29 +107,6 @@ public class UserService implements UserDetailsService {
         }
     }
 
-    /**
-     * 생성된 사용자 정보 재조회
-     */
-    private User refetchCreatedUser(String email) {
-        try {
-            Thread.sleep(100);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
-        User createdUser = userMapper.findByEmail(email);
-        if (createdUser != null) {
-            return createdUser;
-        } else {
-            log.warn("User created but failed to re-fetch: {}", email);
-            // 재조회 실패 시 기본 사용자 객체 반환 (ID는 0으로 설정)
-            User fallbackUser = new User();
-            fallbackUser.setId(0L);
-            fallbackUser.setEmail(email);
-            return fallbackUser;
-        }
-    }
-
     @Logging(operation = "사용자 정보 수정", category = "USER", maskSensitive = true)
     @Transactional
     public void updateUser(User user) {
@@ -137,6 +116,7 @@ public class UserService implements UserDetailsService {
         if (updateResult == 0) {
             throw new BusinessException("사용자 정보 수정에 실패했습니다.");
         }
+        principalCache.evictUser(user.getId());
     }
     
     /**
@@ -166,49 +146,23 @@ public class UserService implements UserDetailsService {
     }
 
     /**
-     * 기존 사용자들의 userCi 업데이트
+     * 누락되었거나 잘못된 형태(이메일 등)의 userCi 일괄 보정
+     * - 보정 대상이 없으면 UPDATE 없이 종료
+     * - 대상이 있으면 단일 UPDATE 문으로 처리
      */
-    @Logging(operation = "UserCi 일괄 업데이트", category = "USER", maskSensitive = false)
+    @Logging(operation = "UserCi 일괄 보정", category = "USER", maskSensitive = false)
     @Transactional
-    public void updateMissingUserCi() {
-        List<User> allUsers = userMapper.findAll();
-        int updatedCount = 0;
-
-        for (User user : allUsers) {
-            if (user.getUserCi() == null || user.getUserCi().trim().isEmpty()) {
-                String userCi = generateUserCi(user.getName(), user.getEmail());
-                user.setUserCi(userCi);
-                user.setUpdatedAt(DateTimeUtils.getCurrentTimestamp());
-                userMapper.update(user);
-                updatedCount++;
-            }
+    public int repairUserCi() {
+        if (!userMapper.existsUserNeedingCiRepair()) {
+            return 0;
         }
-    }
 
-    /**
-     * 잘못된 형태의 userCi (이메일 등)를 올바른 형태로 수정
-     */
-    @Logging(operation = "UserCi 형식 수정", category = "USER", maskSensitive = false)
-    @Transactional
-    public void fixInvalidUserCi() {
-        List<User> allUsers = userMapper.findAll();
-        int fixedCount = 0;
-
-        for (User user : allUsers) {
-            String userCi = user.getUserCi();
-            // userCi가 이메일 형태이거나 CI로 시작하지 않는 경우
-            if (userCi != null &&
-                (userCi.contains("@") || !userCi.startsWith("CI"))) {
-
-                String newUserCi = generateUserCi(user.getName(), user.getEmail());
-                user.setUserCi(newUserCi);
-                user.setUpdatedAt(DateTimeUtils.getCurrentTimestamp());
-                userMapper.update(user);
-                fixedCount++;
-            }
-        }
+        int repairedCount = userMapper.repairUserCi(DateTimeUtils.getCurrentTimestamp());
+        principalCache.evictAllUsers();
+        log.info("UserCi 일괄 보정 완료: {}건", repairedCount);
+        return repairedCount;
     }
-    
+
     /**
      * 사용자 CI(Customer Identification) 생성
      * 실제 운영에서는 더 안전한 암호화 방식을 사용해야 함
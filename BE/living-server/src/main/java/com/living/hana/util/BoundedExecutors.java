@@ -0,0 +1,257 @@
+package com.living.hana.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 동시 실행 수가 제한된 서비스 전용 실행기
+ * - 기본: 이름이 붙은 데몬 플랫폼 스레드 고정 풀
+ * - spring.threads.virtual.enabled=true 이고 Java 21 이상: 작업마다 가상 스레드를 만들고 동시 실행 수는 Semaphore 로 제한
+ *   (가상 스레드는 풀링하지 않음, Java 21 미만이면 경고 후 플랫폼 풀 사용)
+ * - 소스 레벨이 17이므로 가상 스레드 API 는 리플렉션으로 호출
+ */
+@Slf4j
+public final class BoundedExecutors {
+
+    private static final Method OF_VIRTUAL = findOfVirtual();
+
+    private BoundedExecutors() {
+    }
+
+    /**
+     * 현재 JVM 에서 가상 스레드 사용 가능 여부
+     */
+    public static boolean virtualThreadsSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * 동시 실행 수가 maxConcurrency 로 제한된 실행기
+     *
+     * @param virtual 가상 스레드 모드 여부 (지원되지 않으면 플랫폼 스레드 풀로 대체)
+     */
+    public static ExecutorService newExecutor(String prefix, int maxConcurrency, boolean virtual) {
+        int limit = Math.max(1, maxConcurrency);
+        if (useVirtual(prefix, virtual)) {
+            return new VirtualPerTaskExecutor(prefix, limit);
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(limit, runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 동시 실행 수가 maxConcurrency 로 제한된 스케줄러
+     * - 가상 스레드 모드에서는 플랫폼 타이머 스레드 1개가 시각만 관리하고 작업 본문은 가상 스레드에서 실행
+     * - 주기 작업의 다음 실행은 본문이 끝난 뒤에 예약되므로 같은 작업이 겹쳐 실행되지 않음
+     */
+    public static ScheduledExecutorService newScheduler(String prefix, int maxConcurrency, boolean virtual) {
+        int limit = Math.max(1, maxConcurrency);
+        if (useVirtual(prefix, virtual)) {
+            return new VirtualTaskScheduler(prefix, new VirtualPerTaskExecutor(prefix, limit));
+        }
+        return Executors.newScheduledThreadPool(limit);
+    }
+
+    private static boolean useVirtual(String prefix, boolean virtual) {
+        if (virtual && !virtualThreadsSupported()) {
+            log.warn("가상 스레드를 지원하지 않는 JVM 입니다 (Java 21 이상 필요) - 플랫폼 스레드 사용: {}", prefix);
+            return false;
+        }
+        return virtual;
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor(String prefix) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = builderClass.getMethod("name", String.class, long.class)
+                    .invoke(OF_VIRTUAL.invoke(null), prefix + "-", 1L);
+            ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("가상 스레드 실행기 생성 실패: " + prefix, e);
+        }
+    }
+
+    private static Method findOfVirtual() {
+        // Java 19, 20 의 가상 스레드는 preview 기능이므로 제외
+        if (Runtime.version().feature() < 21) {
+            return null;
+        }
+        try {
+            return Thread.class.getMethod("ofVirtual");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 작업당 가상 스레드 + Semaphore 동시 실행 제한
+     * - 허가는 가상 스레드 안에서 기다리므로 대기 중인 작업이 플랫폼 스레드를 점유하지 않음
+     */
+    static final class VirtualPerTaskExecutor extends AbstractExecutorService {
+
+        private final ExecutorService delegate;
+        private final Semaphore permits;
+
+        VirtualPerTaskExecutor(String prefix, int maxConcurrency) {
+            this.delegate = newVirtualThreadPerTaskExecutor(prefix);
+            this.permits = new Semaphore(maxConcurrency);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            delegate.execute(() -> {
+                // 종료 중 인터럽트로 작업을 버리면 CompletableFuture 가 완료되지 않으므로 인터럽트와 무관하게 대기
+                permits.acquireUninterruptibly();
+                try {
+                    command.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+
+    /**
+     * 시각 관리는 플랫폼 타이머 스레드 1개, 작업 본문은 제한된 가상 스레드 실행기에서 실행하는 스케줄러
+     */
+    static final class VirtualTaskScheduler extends ScheduledThreadPoolExecutor {
+
+        private final ExecutorService workers;
+
+        VirtualTaskScheduler(String prefix, ExecutorService workers) {
+            super(1, runnable -> {
+                Thread thread = new Thread(runnable, prefix + "-timer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.workers = workers;
+        }
+
+        @Override
+        protected <V> RunnableScheduledFuture<V> decorateTask(Runnable runnable, RunnableScheduledFuture<V> task) {
+            return new HandOffTask<>(task, workers);
+        }
+
+        @Override
+        protected <V> RunnableScheduledFuture<V> decorateTask(Callable<V> callable, RunnableScheduledFuture<V> task) {
+            return new HandOffTask<>(task, workers);
+        }
+
+        @Override
+        protected void terminated() {
+            workers.shutdown();
+        }
+    }
+
+    /**
+     * 타이머 스레드에서는 본문을 가상 스레드로 넘기기만 하는 예약 작업
+     * - 주기 작업은 원래 작업의 run() 이 본문 실행 후 이 객체를 다시 큐에 넣음
+     */
+    private static final class HandOffTask<V> implements RunnableScheduledFuture<V> {
+
+        private final RunnableScheduledFuture<V> task;
+        private final ExecutorService workers;
+
+        private HandOffTask(RunnableScheduledFuture<V> task, ExecutorService workers) {
+            this.task = task;
+            this.workers = workers;
+        }
+
+        @Override
+        public void run() {
+            try {
+                workers.execute(task);
+            } catch (RejectedExecutionException e) {
+                task.cancel(false);
+            }
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return task.isPeriodic();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return task.getDelay(unit);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return task.compareTo(other instanceof HandOffTask<?> handOff ? handOff.task : other);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return task.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return task.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return task.isDone();
+        }
+
+        @Override
+        public V get() throws InterruptedException, ExecutionException {
+            return task.get();
+        }
+
+        @Override
+        public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            return task.get(timeout, unit);
+        }
+    }
+}
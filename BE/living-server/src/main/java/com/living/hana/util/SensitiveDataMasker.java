@@ -0,0 +1,133 @@
+package com.living.hana.util;
+
+/**
+ * 로그용 민감정보 마스킹 (정규식 없이 한 번의 순회로 처리)
+ * - JSON 의 "password"/"token"/"secret"/"authorization" 문자열 값 -> "***"
+ * - 16자리 연속 숫자(카드번호) -> 1234-****-****-5678
+ */
+public class SensitiveDataMasker {
+
+    private static final String[] JSON_SENSITIVE_KEYS = {"password", "token", "secret", "authorization"};
+    private static final int CARD_NUMBER_LENGTH = 16;
+
+    private SensitiveDataMasker() {
+        // Utility class - private constructor
+    }
+
+    /**
+     * JSON 문자열 마스킹
+     */
+    public static String maskJson(String data) {
+        if (data == null || data.isEmpty()) {
+            return data;
+        }
+
+        int length = data.length();
+        StringBuilder out = new StringBuilder(length + 16);
+        int i = 0;
+
+        while (i < length) {
+            if (data.charAt(i) != '"') {
+                int next = data.indexOf('"', i);
+                int end = next < 0 ? length : next;
+                appendWithCardMask(out, data, i, end);
+                i = end;
+                continue;
+            }
+
+            // 문자열 토큰 ("..." 전체)
+            int tokenEnd = findStringEnd(data, i);
+            appendWithCardMask(out, data, i, tokenEnd);
+            boolean sensitiveKey = isSensitiveKey(data, i + 1, tokenEnd - 1);
+            i = tokenEnd;
+
+            if (sensitiveKey) {
+                int colon = skipWhitespace(data, i);
+                if (colon < length && data.charAt(colon) == ':') {
+                    int valueStart = skipWhitespace(data, colon + 1);
+                    if (valueStart < length && data.charAt(valueStart) == '"') {
+                        out.append(data, i, valueStart).append("\"***\"");
+                        i = findStringEnd(data, valueStart);
+                    }
+                }
+            }
+        }
+
+        return out.toString();
+    }
+
+    /**
+     * 일반 문자열의 16자리 연속 숫자(카드번호) 마스킹 (16자리를 넘는 숫자열은 16자리 단위로 반복)
+     */
+    public static String maskCardNumbers(String data) {
+        if (data == null || data.length() < CARD_NUMBER_LENGTH) {
+            return data;
+        }
+        StringBuilder out = new StringBuilder(data.length() + 16);
+        appendWithCardMask(out, data, 0, data.length());
+        return out.toString();
+    }
+
+    /**
+     * 문자열 토큰의 끝(닫는 따옴표 다음 위치) 반환, 닫히지 않았으면 문자열 끝
+     */
+    private static int findStringEnd(String data, int openQuote) {
+        int i = openQuote + 1;
+        while (i < data.length()) {
+            char c = data.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == '"') {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        return data.length();
+    }
+
+    private static boolean isSensitiveKey(String data, int start, int end) {
+        int keyLength = end - start;
+        for (String key : JSON_SENSITIVE_KEYS) {
+            if (key.length() == keyLength && data.regionMatches(true, start, key, 0, keyLength)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int skipWhitespace(String data, int i) {
+        while (i < data.length() && Character.isWhitespace(data.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * [start, end) 구간을 복사하면서 16자리 연속 숫자는 카드번호 형식으로 마스킹
+     */
+    private static void appendWithCardMask(StringBuilder out, String data, int start, int end) {
+        int i = start;
+        while (i < end) {
+            if (!isAsciiDigit(data.charAt(i))) {
+                out.append(data.charAt(i++));
+                continue;
+            }
+
+            int runEnd = i;
+            while (runEnd < end && isAsciiDigit(data.charAt(runEnd))) {
+                runEnd++;
+            }
+            while (runEnd - i >= CARD_NUMBER_LENGTH) {
+                out.append(data, i, i + 4).append("-****-****-").append(data, i + 12, i + 16);
+                i += CARD_NUMBER_LENGTH;
+            }
+            out.append(data, i, runEnd);
+            i = runEnd;
+        }
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -7,8 +7,10 @@ import com.living.hana.entity.InvestmentProduct;
 import com.living.hana.service.InvestmentProductService;
 import com.living.hana.service.KoreaInvestmentApiService;
 import com.living.hana.service.SecuritiesIntegrationService;
+import com.living.hana.util.BoundedExecutors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
@@ -23,9 +25,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Component
 public class InvestmentWebSocketHandler extends TextWebSocketHandler {
@@ -39,17 +41,21 @@ public class InvestmentWebSocketHandler extends TextWebSocketHandler {
     private final InvestmentProductService investmentProductService;
     private final KoreaInvestmentApiService koreaInvestmentApiService;
     private final HanaSecuritiesWebSocketClient securitiesWebSocketClient;
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+    private final ScheduledExecutorService scheduler;
+    // 세션별 전송 락 (synchronized 는 전송 I/O 동안 가상 스레드를 캐리어 스레드에 고정시키므로 ReentrantLock 사용)
+    private final Map<String, ReentrantLock> sendLocks = new ConcurrentHashMap<>();
     private final Map<String, Double> currentPrices = new ConcurrentHashMap<>();
     private final Set<String> kisApiCallInProgress = ConcurrentHashMap.newKeySet();
     
     public InvestmentWebSocketHandler(InvestmentProductService investmentProductService, 
                                       KoreaInvestmentApiService koreaInvestmentApiService,
                                       SecuritiesIntegrationService securitiesIntegrationService,
-                                      HanaSecuritiesWebSocketClient securitiesWebSocketClient) {
+                                      HanaSecuritiesWebSocketClient securitiesWebSocketClient,
+                                      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
         this.investmentProductService = investmentProductService;
         this.koreaInvestmentApiService = koreaInvestmentApiService;
         this.securitiesWebSocketClient = securitiesWebSocketClient;
+        this.scheduler = BoundedExecutors.newScheduler("investment-ws-scheduler", 2, virtualThreads);
         initializePriceData();
         initializeSecuritiesWebSocketConnection();
         startRealtimeDataBroadcasting();
@@ -105,6 +111,7 @@ public class InvestmentWebSocketHandler extends TextWebSocketHandler {
     private void cleanupSession(String sessionId) {
         sessions.remove(sessionId);
         userSubscriptions.remove(sessionId);
+        sendLocks.remove(sessionId);
     }
     
     @Override
@@ -113,7 +120,7 @@ public class InvestmentWebSocketHandler extends TextWebSocketHandler {
             String payload = message.getPayload();
 
             if ("PING".equals(payload)) {
-                session.sendMessage(new TextMessage("PONG"));
+                sendMessage(session, "PONG");
                 return;
             }
 
@@ -402,12 +409,18 @@ public class InvestmentWebSocketHandler extends TextWebSocketHandler {
             "change", change,
             "changePercent", changePercent,
             "orderBook", orderBook,
-            "status", "REALTIME",
-            "timestamp", System.currentTimeMillis()
+            "status", kisData.isStale() ? "STALE" : "REALTIME",
+            "stale", kisData.isStale(),
+            "timestamp", priceTimestamp(kisData)
         );
     }
 
 
+    // 마지막 시세로 대체된 응답이면 실제 시세 시각 사용
+    private long priceTimestamp(KisStockPriceDto kisData) {
+        return kisData.isStale() && kisData.getFetchedAt() != null ? kisData.getFetchedAt() : System.currentTimeMillis();
+    }
+
     private void broadcastToSubscribers(String productId, String message) {
         String subscriptionKey = "PRODUCT_" + productId;
         List<String> deadSessions = new ArrayList<>();
@@ -557,10 +570,14 @@ public class InvestmentWebSocketHandler extends TextWebSocketHandler {
         }
         
         try {
-            synchronized (session) {
+            ReentrantLock sendLock = sendLocks.computeIfAbsent(sessionId, id -> new ReentrantLock());
+            sendLock.lock();
+            try {
                 if (session.isOpen()) {
                     session.sendMessage(new TextMessage(message));
                 }
+            } finally {
+                sendLock.unlock();
             }
         } catch (IOException e) {
             // 연결 관련 예외는 DEBUG로, 다른 예외는 WARN으로 처리
@@ -600,7 +617,8 @@ public class InvestmentWebSocketHandler extends TextWebSocketHandler {
                 ),
                 "marketTime", "",
                 "marketStatus", "TRADING",
-                "timestamp", System.currentTimeMillis()
+                "stale", kisData.isStale(),
+                "timestamp", priceTimestamp(kisData)
             );
 
             String messageToSend = createMessage("QUOTE_UPDATE", quoteData);
@@ -0,0 +1,69 @@
+-- ========================================
+-- 문자열 날짜 컬럼 DATE 정규화
+-- 집계 쿼리의 기간 조건을 원본 컬럼에 대한 반열림 구간으로 작성하기 위한 선행 작업
+-- 여러 번 실행해도 안전하도록 USER_TAB_COLUMNS 의 현재 타입을 확인한 뒤 변환
+-- ========================================
+
+-- 1) EXPENSES.EXPENSE_DATE : 문자열('YY/MM/DD' 또는 'YYYY-MM-DD')이면 DATE 로 변환
+DECLARE
+    v_type VARCHAR2(30);
+BEGIN
+    SELECT data_type INTO v_type FROM user_tab_columns
+    WHERE table_name = 'EXPENSES' AND column_name = 'EXPENSE_DATE';
+
+    IF v_type <> 'DATE' THEN
+        EXECUTE IMMEDIATE 'ALTER TABLE expenses ADD expense_date_tmp DATE';
+        EXECUTE IMMEDIATE q'[
+            UPDATE expenses
+            SET expense_date_tmp = CASE
+                WHEN expense_date LIKE '____-__-__%' THEN TO_DATE(SUBSTR(expense_date, 1, 10), 'YYYY-MM-DD')
+                ELSE TO_DATE(expense_date, 'YY/MM/DD')
+            END]';
+        EXECUTE IMMEDIATE 'ALTER TABLE expenses DROP COLUMN expense_date';
+        EXECUTE IMMEDIATE 'ALTER TABLE expenses RENAME COLUMN expense_date_tmp TO expense_date';
+    END IF;
+END;
+/
+
+-- 2) RENT_PAYMENT_RECORDS.PAYMENT_DATE : 문자열이면 DATE 로 변환
+DECLARE
+    v_type VARCHAR2(30);
+BEGIN
+    SELECT data_type INTO v_type FROM user_tab_columns
+    WHERE table_name = 'RENT_PAYMENT_RECORDS' AND column_name = 'PAYMENT_DATE';
+
+    IF v_type NOT IN ('DATE') AND v_type NOT LIKE 'TIMESTAMP%' THEN
+        EXECUTE IMMEDIATE 'ALTER TABLE rent_payment_records ADD payment_date_tmp DATE';
+        EXECUTE IMMEDIATE q'[
+            UPDATE rent_payment_records
+            SET payment_date_tmp = CASE
+                WHEN LENGTH(payment_date) = 10 THEN TO_DATE(payment_date, 'YYYY-MM-DD')
+                ELSE TO_DATE(payment_date, 'YYYY-MM-DD HH24:MI:SS')
+            END]';
+        EXECUTE IMMEDIATE 'ALTER TABLE rent_payment_records DROP COLUMN payment_date';
+        EXECUTE IMMEDIATE 'ALTER TABLE rent_payment_records RENAME COLUMN payment_date_tmp TO payment_date';
+    END IF;
+END;
+/
+
+-- 3) PAYMENTS.PAID_DATE : 애플리케이션이 'YYYY-MM-DD HH24:MI:SS' 문자열로 읽고 쓰므로 컬럼은 유지하고
+--    DATE 타입 가상 컬럼 PAID_AT 을 추가 (수익 집계 쿼리는 PAID_AT 으로 기간 조건을 검사)
+UPDATE payments
+SET paid_date = paid_date || ' 00:00:00'
+WHERE LENGTH(paid_date) = 10;
+COMMIT;
+
+DECLARE
+    v_count NUMBER;
+BEGIN
+    SELECT COUNT(*) INTO v_count FROM user_tab_columns
+    WHERE table_name = 'PAYMENTS' AND column_name = 'PAID_AT';
+
+    IF v_count = 0 THEN
+        EXECUTE IMMEDIATE q'[
+            ALTER TABLE payments ADD (
+                paid_at DATE GENERATED ALWAYS AS (TO_DATE(paid_date, 'YYYY-MM-DD HH24:MI:SS')) VIRTUAL
+            )]';
+    END IF;
+END;
+/
@@ -0,0 +1,22 @@
+-- ========================================
+-- 배당/수익 집계 기간 조건용 인덱스
+-- 기간 조건: col >= :startDate AND col < :endDate + 1 (sql/date_columns_migration.sql 적용 후)
+-- ========================================
+
+-- 건물별 임대수익 (ReitProductMapper.getBuildingRentalIncome / getBuildingIncomeSummaries)
+CREATE INDEX IDX_RENT_PAY_STATUS_DATE_UNIT
+    ON rent_payment_records (status, payment_date, unit_id);
+
+CREATE INDEX IDX_UNITS_BUILDING
+    ON units (building_id, id);
+
+-- 건물별 / 공통 지출 (ReitProductMapper.getBuildingExpenses / getCommonExpenses)
+CREATE INDEX IDX_EXPENSES_BUILDING_DATE
+    ON expenses (building_id, expense_date);
+
+-- 기간별 수익 (RevenueMapper)
+CREATE INDEX IDX_PAYMENTS_STATUS_PAID_AT
+    ON payments (status, paid_at);
+
+CREATE INDEX IDX_PAYMENTS_BLDG_STATUS_PAID_AT
+    ON payments (building_id, status, paid_at);
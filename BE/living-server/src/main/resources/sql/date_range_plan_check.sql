@@ -0,0 +1,50 @@
+-- ========================================
+-- 기간 조건 실행계획 비교 (함수 적용 vs 반열림 구간)
+-- 사용법: 마이그레이션/인덱스 적용 후 SQL*Plus 에서 실행
+--   기존 조건은 TABLE ACCESS FULL, 변경 조건은 INDEX RANGE SCAN 이 나와야 함
+-- ========================================
+
+-- 1) 임대수익
+EXPLAIN PLAN SET STATEMENT_ID = 'RENT_BEFORE' FOR
+SELECT NVL(SUM(rpr.amount), 0) FROM rent_payment_records rpr
+WHERE rpr.status = 'COMPLETED'
+  AND TRUNC(rpr.payment_date) BETWEEN TO_DATE('2025-01-01', 'YYYY-MM-DD') AND TO_DATE('2025-03-31', 'YYYY-MM-DD');
+
+EXPLAIN PLAN SET STATEMENT_ID = 'RENT_AFTER' FOR
+SELECT NVL(SUM(rpr.amount), 0) FROM rent_payment_records rpr
+WHERE rpr.status = 'COMPLETED'
+  AND rpr.payment_date >= TO_DATE('2025-01-01', 'YYYY-MM-DD')
+  AND rpr.payment_date < TO_DATE('2025-03-31', 'YYYY-MM-DD') + 1;
+
+-- 2) 지출
+EXPLAIN PLAN SET STATEMENT_ID = 'EXPENSE_BEFORE' FOR
+SELECT NVL(SUM(e.amount), 0) FROM expenses e
+WHERE e.building_id = 1
+  AND TO_DATE(e.expense_date, 'YY/MM/DD') BETWEEN TO_DATE('2025-01-01', 'YYYY-MM-DD') AND TO_DATE('2025-03-31', 'YYYY-MM-DD');
+
+EXPLAIN PLAN SET STATEMENT_ID = 'EXPENSE_AFTER' FOR
+SELECT NVL(SUM(e.amount), 0) FROM expenses e
+WHERE e.building_id = 1
+  AND e.expense_date >= TO_DATE('2025-01-01', 'YYYY-MM-DD')
+  AND e.expense_date < TO_DATE('2025-03-31', 'YYYY-MM-DD') + 1;
+
+-- 3) 수익
+EXPLAIN PLAN SET STATEMENT_ID = 'REVENUE_BEFORE' FOR
+SELECT NVL(SUM(p.amount), 0) FROM payments p
+WHERE p.status = 'COMPLETED'
+  AND TO_CHAR(TO_DATE(p.paid_date, 'YYYY-MM-DD HH24:MI:SS'), 'YYYY-MM-DD') BETWEEN '2025-01-01' AND '2025-03-31';
+
+EXPLAIN PLAN SET STATEMENT_ID = 'REVENUE_AFTER' FOR
+SELECT NVL(SUM(p.amount), 0) FROM payments p
+WHERE p.status = 'COMPLETED'
+  AND p.paid_at >= TO_DATE('2025-01-01', 'YYYY-MM-DD')
+  AND p.paid_at < TO_DATE('2025-03-31', 'YYYY-MM-DD') + 1;
+
+SELECT statement_id, operation, options, object_name
+FROM plan_table
+WHERE statement_id IN ('RENT_BEFORE', 'RENT_AFTER', 'EXPENSE_BEFORE', 'EXPENSE_AFTER', 'REVENUE_BEFORE', 'REVENUE_AFTER')
+  AND operation IN ('TABLE ACCESS', 'INDEX')
+ORDER BY statement_id, id;
+
+DELETE FROM plan_table
+WHERE statement_id IN ('RENT_BEFORE', 'RENT_AFTER', 'EXPENSE_BEFORE', 'EXPENSE_AFTER', 'REVENUE_BEFORE', 'REVENUE_AFTER');
@@ -0,0 +1,44 @@
+-- ========================================
+-- 월별 재무 집계 테이블 (건물 x 월 x 수익/지출 x 카테고리)
+-- 재무 대시보드는 이 테이블을 조회하고, 결제/지출 변경 시 해당 셀만 재계산
+-- 매일 새벽 FinancialRollupService.rebuildAll() 로 전체 재구축
+-- ========================================
+
+CREATE TABLE FINANCIAL_MONTHLY_ROLLUP (
+    BUILDING_ID   NUMBER        NOT NULL,   -- 0 = 건물 미지정
+    ROLLUP_MONTH  VARCHAR2(7)   NOT NULL,   -- YYYY-MM
+    FLOW_TYPE     VARCHAR2(10)  NOT NULL,   -- REVENUE / EXPENSE
+    CATEGORY      VARCHAR2(50)  NOT NULL,
+    TOTAL_AMOUNT  NUMBER(18, 2) DEFAULT 0 NOT NULL,
+    ITEM_COUNT    NUMBER        DEFAULT 0 NOT NULL,
+    UPDATED_AT    DATE          DEFAULT SYSDATE NOT NULL,
+    CONSTRAINT PK_FINANCIAL_MONTHLY_ROLLUP PRIMARY KEY (BUILDING_ID, ROLLUP_MONTH, FLOW_TYPE, CATEGORY)
+);
+
+-- 전체 건물 기간 조회
+CREATE INDEX IDX_FIN_ROLLUP_MONTH
+    ON FINANCIAL_MONTHLY_ROLLUP (ROLLUP_MONTH);
+
+-- 셀 재계산 직렬화용 잠금 행 (건물 x 월)
+-- 셀이 비어 있어도 잠글 행이 있어야 동시 재계산의 DELETE+INSERT 가 PK 위반 없이 순서대로 수행됨
+CREATE TABLE FINANCIAL_MONTHLY_ROLLUP_LOCK (
+    BUILDING_ID   NUMBER        NOT NULL,
+    ROLLUP_MONTH  VARCHAR2(7)   NOT NULL,
+    CONSTRAINT PK_FINANCIAL_MONTHLY_ROLLUP_LOCK PRIMARY KEY (BUILDING_ID, ROLLUP_MONTH)
+);
+
+-- 초기 적재
+INSERT INTO FINANCIAL_MONTHLY_ROLLUP (BUILDING_ID, ROLLUP_MONTH, FLOW_TYPE, CATEGORY, TOTAL_AMOUNT, ITEM_COUNT, UPDATED_AT)
+SELECT NVL(BUILDING_ID, 0), TO_CHAR(PAID_AT, 'YYYY-MM'), 'REVENUE', NVL(PAYMENT_CATEGORY, 'ETC'),
+       NVL(SUM(AMOUNT), 0), COUNT(*), SYSDATE
+FROM PAYMENTS
+WHERE STATUS = 'COMPLETED' AND PAID_AT IS NOT NULL
+GROUP BY NVL(BUILDING_ID, 0), TO_CHAR(PAID_AT, 'YYYY-MM'), NVL(PAYMENT_CATEGORY, 'ETC')
+UNION ALL
+SELECT NVL(BUILDING_ID, 0), TO_CHAR(EXPENSE_DATE, 'YYYY-MM'), 'EXPENSE', NVL(CATEGORY, 'ETC'),
+       NVL(SUM(AMOUNT), 0), COUNT(*), SYSDATE
+FROM EXPENSES
+WHERE EXPENSE_DATE IS NOT NULL
+GROUP BY NVL(BUILDING_ID, 0), TO_CHAR(EXPENSE_DATE, 'YYYY-MM'), NVL(CATEGORY, 'ETC');
+
+COMMIT;
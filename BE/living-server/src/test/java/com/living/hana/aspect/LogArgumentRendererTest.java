@@ -0,0 +1,79 @@
+package com.living.hana.aspect;
+
+import com.living.hana.dto.AccountLinkRequestDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 로깅 파라미터 문자열이 제한된 길이로 만들어지고 민감 필드가 마스킹되는지 검증
+ */
+class LogArgumentRendererTest {
+
+    @Test
+    void render_masksSensitiveFieldsByName() {
+        AccountLinkRequestDto request = new AccountLinkRequestDto();
+        request.setAccountNumber("110-123-456789");
+        request.setAccountPassword("1234");
+
+        String rendered = LogArgumentRenderer.render(new Object[]{request}, true);
+
+        assertTrue(rendered.contains("accountNumber=110-123-456789"));
+        assertTrue(rendered.contains("accountPassword=***"));
+        assertFalse(rendered.contains("1234,"));
+    }
+
+    @Test
+    void render_summarizesPrimitiveArraysAndLargeCollections() {
+        byte[] fileContent = new byte[5_000_000];
+        List<String> items = Collections.nCopies(500, "x");
+
+        String rendered = LogArgumentRenderer.render(new Object[]{fileContent, items}, true);
+
+        assertTrue(rendered.startsWith("[byte[5000000], [x, x"));
+        assertTrue(rendered.contains("(500 total)"));
+    }
+
+    @Test
+    void render_masksSensitiveMapKeysAndCardNumbers() {
+        String rendered = LogArgumentRenderer.render(Map.of("token", "abc", "card", "1234567812345678"), true);
+
+        assertTrue(rendered.contains("token=***"));
+        assertTrue(rendered.contains("card=1234-****-****-5678"));
+    }
+
+    @Test
+    void render_leavesValuesWhenMaskingDisabled() {
+        assertEquals("[user@example.com]", LogArgumentRenderer.render(new Object[]{"user@example.com"}, false));
+        assertEquals("[user***@***.com]", LogArgumentRenderer.render(new Object[]{"user@example.com"}, true));
+    }
+
+    @Test
+    void render_masksEveryCardNumberInString() {
+        String rendered = LogArgumentRenderer.render("from 1111222233334444 to 5555666677778888", true);
+
+        assertEquals("from 1111-****-****-4444 to 5555-****-****-8888", rendered);
+    }
+
+    @Test
+    void render_masksEmailsInsideSentences() {
+        String rendered = LogArgumentRenderer.render("notify kim@example.co.kr and lee.park@test.com now", true);
+
+        assertEquals("notify kim***@***.kr and lee.park***@***.com now", rendered);
+    }
+
+    @Test
+    void render_masksKeyValueFragmentsInForeignToString() {
+        String rendered = LogArgumentRenderer.render(
+                new Object[]{Optional.of("url?accessToken=abc.def&x=1"), Optional.of("password=p@ss, user=kim")}, true);
+
+        assertEquals("[Optional[url?accessToken=***], Optional[password=***, user=kim]]", rendered);
+    }
+}
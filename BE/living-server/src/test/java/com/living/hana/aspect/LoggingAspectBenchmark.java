@@ -0,0 +1,215 @@
+package com.living.hana.aspect;
+
+import ch.qos.logback.classic.Level;
+import com.living.hana.annotation.Logging;
+import com.living.hana.dto.AccountLinkRequestDto;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.reflect.SourceLocation;
+import org.aspectj.runtime.internal.AroundClosure;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Logging 어스펙트 비용 측정 (단위 테스트 아님, 기본 실행 제외)
+ * - 레벨 비활성 경로: 어노테이션 레벨이 꺼져 있을 때 proceed 외에 추가되는 비용
+ * - 파라미터 문자열 생성: 변경 전(Arrays.toString + 정규식 3회) / 변경 후(LogArgumentRenderer) 비교
+ * - 판정 없이 측정값만 로그로 출력
+ * 실행: ./gradlew benchmark --tests '*LoggingAspectBenchmark'
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class LoggingAspectBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingAspectBenchmark.class);
+
+    private static final int WARMUP_OPS = 200_000;
+    private static final int MEASURE_OPS = 2_000_000;
+    private static final int RENDER_OPS = 200_000;
+
+    @Test
+    void measureDisabledPathAndRendering() throws Throwable {
+        Target target = new Target();
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Target.class)).setLevel(Level.INFO);
+        Logging logging = Target.class.getDeclaredMethod("transfer", Object[].class).getAnnotation(Logging.class);
+        Object[] args = args();
+        StubJoinPoint joinPoint = new StubJoinPoint(target, args);
+        LoggingAspect aspect = new LoggingAspect();
+
+        double direct = nanosPerOp(MEASURE_OPS, () -> joinPoint.proceed());
+        double disabled = nanosPerOp(MEASURE_OPS, () -> aspect.logMethodExecution(joinPoint, logging));
+        double legacyRender = nanosPerOp(RENDER_OPS, () -> legacyRender(args));
+        double render = nanosPerOp(RENDER_OPS, () -> LogArgumentRenderer.render(args, true));
+
+        log.info("Logging 어스펙트 - 직접 호출: {} ns/op, 레벨 비활성 경로: {} ns/op (추가 {} ns)",
+                format(direct), format(disabled), format(disabled - direct));
+        log.info("파라미터 문자열 생성 - 변경 전(Arrays.toString + 정규식): {} ns/op, LogArgumentRenderer: {} ns/op",
+                format(legacyRender), format(render));
+    }
+
+    /**
+     * 변경 전 LoggingAspect.maskSensitiveData 재현 (UUID 추적 ID 포함)
+     */
+    private static String legacyRender(Object[] args) {
+        String traceId = UUID.randomUUID().toString().substring(0, 8);
+        return traceId + Arrays.toString(args)
+                .replaceAll("(password|pwd|secret|token|key|authorization)=[^,\\]\\s]*", "$1=***")
+                .replaceAll("(\\d{4})(\\d{4})(\\d{4})(\\d{4})", "$1-****-****-$4")
+                .replaceAll("([\\w._%+-]+)@([\\w.-]+\\.[a-zA-Z]{2,})", "$1***@***.$2");
+    }
+
+    private static Object[] args() {
+        AccountLinkRequestDto request = new AccountLinkRequestDto();
+        request.setAccountNumber("110-123-456789");
+        request.setAccountPassword("1234");
+        request.setUserName("kim");
+        request.setPhoneNumber("010-1234-5678");
+        request.setBirthDate("1999-01-01");
+        return new Object[]{request, "kim@example.com", Map.of("cardNo", "1234567812345678"), List.of(1L, 2L, 3L)};
+    }
+
+    private static double nanosPerOp(int ops, Op op) throws Throwable {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_OPS; i++) {
+            sink += System.identityHashCode(op.run());
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ops; i++) {
+            sink += System.identityHashCode(op.run());
+        }
+        double elapsed = System.nanoTime() - start;
+        if (sink == 42) {
+            log.trace("sink");
+        }
+        return elapsed / ops;
+    }
+
+    private static String format(double nanos) {
+        return String.format("%.1f", nanos);
+    }
+
+    @FunctionalInterface
+    private interface Op {
+        Object run() throws Throwable;
+    }
+
+    static class Target {
+        @Logging(operation = "이체", category = "BENCHMARK", level = "DEBUG", includeResult = true)
+        Object transfer(Object[] args) {
+            return args;
+        }
+    }
+
+    /**
+     * 호출 비용이 측정값을 가리지 않도록 목 객체 대신 사용하는 최소 조인 포인트
+     */
+    private static final class StubJoinPoint implements ProceedingJoinPoint {
+        private final Target target;
+        private final Object[] args;
+        private final Signature signature = new StubSignature();
+
+        private StubJoinPoint(Target target, Object[] args) {
+            this.target = target;
+            this.args = args;
+        }
+
+        @Override
+        public Object proceed() {
+            return target.transfer(args);
+        }
+
+        @Override
+        public Object proceed(Object[] newArgs) {
+            return target.transfer(newArgs);
+        }
+
+        @Override
+        public void set$AroundClosure(AroundClosure arc) {
+        }
+
+        @Override
+        public String toShortString() {
+            return "transfer";
+        }
+
+        @Override
+        public String toLongString() {
+            return "transfer";
+        }
+
+        @Override
+        public Object getThis() {
+            return target;
+        }
+
+        @Override
+        public Object getTarget() {
+            return target;
+        }
+
+        @Override
+        public Object[] getArgs() {
+            return args;
+        }
+
+        @Override
+        public Signature getSignature() {
+            return signature;
+        }
+
+        @Override
+        public SourceLocation getSourceLocation() {
+            return null;
+        }
+
+        @Override
+        public String getKind() {
+            return METHOD_EXECUTION;
+        }
+
+        @Override
+        public StaticPart getStaticPart() {
+            return null;
+        }
+    }
+
+    private static final class StubSignature implements Signature {
+        @Override
+        public String toShortString() {
+            return "transfer";
+        }
+
+        @Override
+        public String toLongString() {
+            return "transfer";
+        }
+
+        @Override
+        public String getName() {
+            return "transfer";
+        }
+
+        @Override
+        public int getModifiers() {
+            return 0;
+        }
+
+        @Override
+        public Class getDeclaringType() {
+            return Target.class;
+        }
+
+        @Override
+        public String getDeclaringTypeName() {
+            return Target.class.getName();
+        }
+    }
+}
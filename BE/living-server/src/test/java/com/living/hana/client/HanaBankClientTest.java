@@ -0,0 +1,147 @@
+package com.living.hana.client;
+
+import com.living.hana.dto.AutoTransferRequest;
+import com.living.hana.dto.AutoTransferResponse;
+import com.living.hana.dto.HanaBankAccountDto;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * 하나은행 응답이 타입 DTO로 바로 역직렬화되고, 일괄 호출이 요청 순서와 건별 실패를 유지하는지 검증
+ */
+class HanaBankClientTest {
+
+    private static final String BASE_URL = "http://hanabank.test";
+
+    private MockRestServiceServer server;
+    private HanaBankClient hanaBankClient;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).ignoreExpectOrder(true).build();
+
+        hanaBankClient = new HanaBankClient(restTemplate, new HanaBankBalanceCache(), TimeLimiterRegistry.ofDefaults());
+        ReflectionTestUtils.setField(hanaBankClient, "hanaBankUrl", BASE_URL);
+        ReflectionTestUtils.setField(hanaBankClient, "asyncParallelism", 4);
+        ReflectionTestUtils.setField(hanaBankClient, "lookupTimeoutMs", 5_000L);
+        hanaBankClient.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hanaBankClient.shutdown();
+    }
+
+    @Test
+    void getAccountInfos_keepsRequestOrderAndSkipsFailures() {
+        expectAccount("111", "12345.67");
+        server.expect(requestTo(BASE_URL + "/customer/accounts/info/222"))
+                .andRespond(withStatus(HttpStatus.INTERNAL_SERVER_ERROR));
+        expectAccount("333", "10");
+
+        List<HanaBankAccountDto> accounts = hanaBankClient.getAccountInfos(List.of("111", "222", "333")).join();
+
+        assertEquals(2, accounts.size());
+        assertEquals("111", accounts.get(0).getAccountNumber());
+        assertEquals(12345L, accounts.get(0).getBalance());
+        assertEquals("088", accounts.get(0).getBankCode());
+        assertEquals("333", accounts.get(1).getAccountNumber());
+        server.verify();
+    }
+
+    @Test
+    void executeImmediateTransfers_completesEachTransferIndependently() {
+        server.expect(requestTo(BASE_URL + "/api/auto-payments/immediate-transfer"))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(header("X-User-CI", "CI-OK"))
+                .andRespond(withSuccess("""
+                        {"success":true,"message":"ok","data":{"fromAccount":"A","amount":500000,
+                         "status":"SUCCESS","transactionId":"TX-1","success":true,"createdAt":"2025-01-01T10:00:00"}}
+                        """, MediaType.APPLICATION_JSON));
+        server.expect(requestTo(BASE_URL + "/api/auto-payments/immediate-transfer"))
+                .andExpect(header("X-User-CI", "CI-FAIL"))
+                .andRespond(withSuccess("{\"success\":false,\"message\":\"잔액 부족\",\"data\":{\"success\":false}}",
+                        MediaType.APPLICATION_JSON));
+
+        List<CompletableFuture<AutoTransferResponse>> futures = hanaBankClient.executeImmediateTransfers(List.of(
+                new HanaBankClient.ImmediateTransfer(transferRequest("A"), "CI-OK"),
+                new HanaBankClient.ImmediateTransfer(transferRequest("B"), "CI-FAIL")));
+
+        AutoTransferResponse response = futures.get(0).join();
+        assertTrue(response.isSuccess());
+        assertEquals("TX-1", response.getTransactionId());
+        assertEquals(new BigDecimal("500000"), response.getAmount());
+
+        CompletionException failure = assertThrows(CompletionException.class, () -> futures.get(1).join());
+        assertTrue(failure.getCause().getMessage().contains("잔액 부족"));
+        server.verify();
+    }
+
+    @Test
+    void executeImmediateTransfers_runsTransfersSharingAnAccountOneAfterAnother() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        server.expect(ExpectedCount.times(3), requestTo(BASE_URL + "/api/auto-payments/immediate-transfer"))
+                .andRespond(request -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    try {
+                        TimeUnit.MILLISECONDS.sleep(50);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    inFlight.decrementAndGet();
+                    return withSuccess("{\"success\":true,\"data\":{\"success\":true,\"transactionId\":\"TX\"}}",
+                            MediaType.APPLICATION_JSON).createResponse(request);
+                });
+
+        List<CompletableFuture<AutoTransferResponse>> futures = hanaBankClient.executeImmediateTransfers(List.of(
+                new HanaBankClient.ImmediateTransfer(transferRequest("A"), "CI-A"),
+                new HanaBankClient.ImmediateTransfer(transferRequest("B"), "CI-B"),
+                new HanaBankClient.ImmediateTransfer(transferRequest("C"), "CI-C")));
+
+        futures.forEach(future -> assertTrue(future.join().isSuccess()));
+        assertEquals(1, maxInFlight.get());
+        server.verify();
+    }
+
+    private void expectAccount(String accountNumber, String balance) {
+        server.expect(requestTo(BASE_URL + "/customer/accounts/info/" + accountNumber))
+                .andRespond(withSuccess("{\"success\":true,\"data\":{\"accountNumber\":\"" + accountNumber
+                        + "\",\"accountName\":\"입출금\",\"accountType\":\"CHECKING\",\"balance\":" + balance
+                        + ",\"status\":\"ACTIVE\",\"openDate\":\"2024-01-01\"}}", MediaType.APPLICATION_JSON));
+    }
+
+    private AutoTransferRequest transferRequest(String fromAccount) {
+        return AutoTransferRequest.builder()
+                .fromAccount(fromAccount)
+                .toAccount("1002949502923")
+                .amount(new BigDecimal("500000"))
+                .build();
+    }
+}
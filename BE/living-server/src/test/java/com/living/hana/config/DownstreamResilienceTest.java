@@ -0,0 +1,206 @@
+package com.living.hana.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 느린 하나은행 때문에 요청 스레드가 고갈되지 않는지 부하 상황으로 검증
+ * - 요청 스레드 20개 중 하나은행 호출은 Bulkhead(5) 만큼만 점유하고 나머지는 즉시 거절
+ * - 하나은행 응답이 막혀 있는 동안에도 증권 서버 호출은 모두 완료
+ * - 지연은 sleep 대신 래치로 제어하므로 실행 환경 속도와 무관
+ */
+class DownstreamResilienceTest {
+
+    private static final int REQUEST_THREADS = 20;
+    private static final int BANK_MAX_CONNECTIONS = 5;
+    private static final long AWAIT_SECONDS = 10;
+
+    private final CountDownLatch releaseBank = new CountDownLatch(1);
+    private final AtomicInteger bankRequestsReceived = new AtomicInteger();
+
+    private HttpServer blockedBank;
+    private HttpServer securities;
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
+    private ExecutorService requestThreads;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        blockedBank = stubServer(exchange -> {
+            bankRequestsReceived.incrementAndGet();
+            try {
+                releaseBank.await(AWAIT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respondOk(exchange);
+        });
+        securities = stubServer(DownstreamResilienceTest::respondOk);
+
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("hanabank.api.base-url", baseUrl(blockedBank))
+                .withProperty("http.client.downstream.hanabank.max-connections", String.valueOf(BANK_MAX_CONNECTIONS))
+                .withProperty("hana.securities.api.base-url", baseUrl(securities));
+
+        RestTemplateConfig config = new RestTemplateConfig(environment);
+        ReflectionTestUtils.setField(config, "maxTotal", 200);
+        ReflectionTestUtils.setField(config, "defaultMaxPerRoute", 20);
+        ReflectionTestUtils.setField(config, "defaultConnectTimeoutMs", 2000L);
+        ReflectionTestUtils.setField(config, "defaultReadTimeoutMs", 30000L);
+        ReflectionTestUtils.setField(config, "defaultAcquireTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(config, "keepAliveMs", 30000L);
+        ReflectionTestUtils.setField(config, "validateAfterInactivityMs", 2000L);
+        ReflectionTestUtils.setField(config, "failureRateThreshold", 50f);
+        ReflectionTestUtils.setField(config, "slowCallMs", 5000L);
+        ReflectionTestUtils.setField(config, "openStateMs", 10000L);
+        ReflectionTestUtils.setField(config, "bulkheadMaxWaitMs", 0L);
+        config.initDownstreamRoutes();
+
+        httpClient = config.interServiceHttpClient(config.httpClientConnectionManager());
+        restTemplate = config.restTemplate(httpClient, CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults());
+        requestThreads = Executors.newFixedThreadPool(REQUEST_THREADS);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        releaseBank.countDown();
+        requestThreads.shutdownNow();
+        httpClient.close();
+        blockedBank.stop(0);
+        securities.stop(0);
+    }
+
+    @Test
+    void blockedBankDoesNotStarveOtherDownstreams() throws Exception {
+        CountDownLatch rejected = new CountDownLatch(10);
+        List<Future<String>> bankCalls = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            bankCalls.add(requestThreads.submit(() -> {
+                try {
+                    return restTemplate.getForObject(baseUrl(blockedBank) + "/balance", String.class);
+                } catch (BulkheadFullException e) {
+                    rejected.countDown();
+                    throw e;
+                }
+            }));
+        }
+
+        // 5건은 하나은행에서 대기, 10건은 요청 스레드를 잡지 않고 즉시 거절
+        assertTrue(rejected.await(AWAIT_SECONDS, TimeUnit.SECONDS));
+        awaitCount(bankRequestsReceived, BANK_MAX_CONNECTIONS);
+
+        List<Future<String>> securitiesCalls = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            securitiesCalls.add(requestThreads.submit(() -> restTemplate.getForObject(baseUrl(securities) + "/price", String.class)));
+        }
+        for (Future<String> call : securitiesCalls) {
+            assertEquals("ok", call.get(AWAIT_SECONDS, TimeUnit.SECONDS));
+        }
+
+        // 증권 호출이 모두 끝날 때까지 하나은행 호출은 여전히 막혀 있음
+        assertEquals(BANK_MAX_CONNECTIONS, bankRequestsReceived.get());
+        assertEquals(BANK_MAX_CONNECTIONS, bankCalls.stream().filter(call -> !call.isDone()).count());
+
+        releaseBank.countDown();
+        long completed = 0;
+        for (Future<String> call : bankCalls) {
+            try {
+                if ("ok".equals(call.get(AWAIT_SECONDS, TimeUnit.SECONDS))) {
+                    completed++;
+                }
+            } catch (ExecutionException ignored) {
+                // 거절된 호출
+            }
+        }
+        assertEquals(BANK_MAX_CONNECTIONS, completed);
+    }
+
+    @Test
+    void bulkheadPermitIsHeldUntilResponseIsClosed() throws IOException {
+        Bulkhead bulkhead = Bulkhead.of("test", BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .build());
+        URI uri = URI.create("http://bank.test:8090/balance");
+        DownstreamResilienceInterceptor interceptor = new DownstreamResilienceInterceptor(Map.of(
+                RestTemplateConfig.routeKey(uri),
+                new DownstreamResilienceInterceptor.Guard(CircuitBreaker.ofDefaults("test"), bulkhead)));
+
+        ClientHttpResponse response = interceptor.intercept(new MockClientHttpRequest(HttpMethod.GET, uri), new byte[0],
+                (request, body) -> new MockClientHttpResponse("ok".getBytes(StandardCharsets.UTF_8), HttpStatus.OK));
+
+        // 헤더를 받은 뒤 본문을 읽는 동안에는 허가를 계속 점유
+        assertEquals(0, bulkhead.getMetrics().getAvailableConcurrentCalls());
+        assertFalse(bulkhead.tryAcquirePermission());
+
+        response.close();
+        response.close();
+        assertEquals(1, bulkhead.getMetrics().getAvailableConcurrentCalls());
+    }
+
+    private static void awaitCount(AtomicInteger counter, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(AWAIT_SECONDS);
+        while (counter.get() < expected && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertEquals(expected, counter.get());
+    }
+
+    private static void respondOk(HttpExchange exchange) throws IOException {
+        byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static HttpServer stubServer(HttpHandler handler) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", handler);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        return server;
+    }
+
+    private static String baseUrl(HttpServer server) {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+}
@@ -0,0 +1,42 @@
+package com.living.hana.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 수동 마이그레이션 누락을 기동 시 구체적인 스크립트 이름과 함께 알려주는지 검증
+ */
+class SchemaPrerequisiteCheckTest {
+
+    @Test
+    void findProblems_acceptsMigratedSchema() {
+        Map<String, String> columnTypes = Map.of(
+                "PAYMENTS.PAID_AT", "DATE",
+                "EXPENSES.EXPENSE_DATE", "DATE",
+                "RENT_PAYMENT_RECORDS.PAYMENT_DATE", "TIMESTAMP(6)",
+                "FINANCIAL_MONTHLY_ROLLUP.ROLLUP_MONTH", "VARCHAR2",
+                "FINANCIAL_MONTHLY_ROLLUP_LOCK.ROLLUP_MONTH", "VARCHAR2");
+
+        assertTrue(SchemaPrerequisiteCheck.findProblems(columnTypes).isEmpty());
+    }
+
+    @Test
+    void findProblems_namesMigrationForEachMissingPrerequisite() {
+        Map<String, String> columnTypes = Map.of(
+                "EXPENSES.EXPENSE_DATE", "VARCHAR2",
+                "RENT_PAYMENT_RECORDS.PAYMENT_DATE", "DATE");
+
+        List<String> problems = SchemaPrerequisiteCheck.findProblems(columnTypes);
+
+        assertEquals(4, problems.size());
+        assertTrue(problems.get(0).contains("PAYMENTS.PAID_AT") && problems.get(0).contains("sql/date_columns_migration.sql"));
+        assertTrue(problems.get(1).contains("EXPENSES.EXPENSE_DATE") && problems.get(1).contains("VARCHAR2"));
+        assertTrue(problems.get(2).contains("sql/financial_monthly_rollup.sql"));
+        assertTrue(problems.get(3).contains("FINANCIAL_MONTHLY_ROLLUP_LOCK"));
+    }
+}
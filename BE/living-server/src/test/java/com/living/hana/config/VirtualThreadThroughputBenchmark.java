@@ -0,0 +1,153 @@
+package com.living.hana.config;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 플랫폼 스레드 풀과 가상 스레드의 처리량 비교 (단위 테스트 아님, 기본 실행 제외)
+ * - 실제 RestTemplate 경로(커넥션 풀 + Bulkhead + CircuitBreaker)로 지연이 있는 하위 서비스 호출
+ * - 플랫폼: Tomcat 기본 최대값과 같은 200 스레드 고정 풀, 가상: 요청마다 가상 스레드 (동시 수 제한 없음)
+ * - 커넥션 풀과 Bulkhead 는 요청 수보다 크게 두어 스레드 모델 외의 상한이 끼어들지 않도록 함
+ * - 판정 없이 측정값만 로그로 출력
+ * 실행: ./gradlew benchmark -PjavaVersion=21 --tests '*VirtualThreadThroughputBenchmark'
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class VirtualThreadThroughputBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadThroughputBenchmark.class);
+
+    private static final int PLATFORM_THREADS = 200;
+    private static final int REQUESTS = 4000;
+    private static final int MAX_CONNECTIONS = REQUESTS + 1000;
+    private static final long DOWNSTREAM_LATENCY_MS = 50;
+
+    private HttpServer downstream;
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21, "가상 스레드는 Java 21 이상 필요");
+
+        // JDK HttpServer 는 기본적으로 유휴 연결을 200개까지만 유지하고 나머지를 닫으므로 커넥션 풀 크기에 맞춤
+        System.setProperty("sun.net.httpserver.maxIdleConnections", String.valueOf(MAX_CONNECTIONS));
+        downstream = HttpServer.create(new InetSocketAddress("localhost", 0), MAX_CONNECTIONS);
+        downstream.createContext("/", exchange -> {
+            try {
+                TimeUnit.MILLISECONDS.sleep(DOWNSTREAM_LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        // 하위 서비스 쪽 스레드가 병목이 되지 않도록 요청마다 가상 스레드로 응답
+        downstream.setExecutor(newVirtualThreadPerTaskExecutor());
+        downstream.start();
+
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("hanabank.api.base-url", baseUrl())
+                .withProperty("http.client.downstream.hanabank.max-connections", String.valueOf(MAX_CONNECTIONS));
+
+        RestTemplateConfig config = new RestTemplateConfig(environment);
+        ReflectionTestUtils.setField(config, "maxTotal", MAX_CONNECTIONS);
+        ReflectionTestUtils.setField(config, "defaultMaxPerRoute", 20);
+        ReflectionTestUtils.setField(config, "defaultConnectTimeoutMs", 2000L);
+        ReflectionTestUtils.setField(config, "defaultReadTimeoutMs", 30000L);
+        ReflectionTestUtils.setField(config, "defaultAcquireTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(config, "keepAliveMs", 30000L);
+        ReflectionTestUtils.setField(config, "validateAfterInactivityMs", 2000L);
+        ReflectionTestUtils.setField(config, "failureRateThreshold", 50f);
+        // CircuitBreaker 의 느린 호출 판정이 측정을 끊지 않도록 충분히 크게
+        ReflectionTestUtils.setField(config, "slowCallMs", 60000L);
+        ReflectionTestUtils.setField(config, "openStateMs", 10000L);
+        ReflectionTestUtils.setField(config, "bulkheadMaxWaitMs", 0L);
+        config.initDownstreamRoutes();
+
+        httpClient = config.interServiceHttpClient(config.httpClientConnectionManager());
+        restTemplate = config.restTemplate(httpClient, CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+        if (downstream != null) {
+            downstream.stop(0);
+        }
+    }
+
+    @Test
+    void comparePlatformPoolWithUncappedVirtualThreads() throws Exception {
+        // 커넥션 생성/JIT 영향을 줄이기 위한 예열
+        run(Executors.newFixedThreadPool(PLATFORM_THREADS));
+        run(newVirtualThreadPerTaskExecutor());
+
+        double platform = run(Executors.newFixedThreadPool(PLATFORM_THREADS));
+        double virtual = run(newVirtualThreadPerTaskExecutor());
+
+        log.info("하위 서비스 지연 {}ms, 요청 {}건, 커넥션/Bulkhead 한도 {} - 플랫폼 {} 스레드 풀: {} req/s, 가상 스레드(제한 없음): {} req/s",
+                DOWNSTREAM_LATENCY_MS, REQUESTS, MAX_CONNECTIONS, PLATFORM_THREADS, Math.round(platform), Math.round(virtual));
+    }
+
+    /**
+     * 모든 요청을 제출하고 완료까지의 초당 처리 건수 계산
+     */
+    private double run(ExecutorService requestThreads) throws Exception {
+        Callable<String> call = () -> restTemplate.getForObject(baseUrl() + "/balance", String.class);
+
+        try {
+            long start = System.nanoTime();
+            List<Future<String>> requests = new ArrayList<>(REQUESTS);
+            for (int i = 0; i < REQUESTS; i++) {
+                requests.add(requestThreads.submit(call));
+            }
+            for (Future<String> request : requests) {
+                request.get(60, TimeUnit.SECONDS);
+            }
+            return REQUESTS / ((System.nanoTime() - start) / 1_000_000_000.0);
+        } finally {
+            requestThreads.shutdownNow();
+        }
+    }
+
+    // 소스 레벨이 17이므로 Java 21 API 는 리플렉션으로 호출
+    private static ExecutorService newVirtualThreadPerTaskExecutor() throws ReflectiveOperationException {
+        return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    }
+
+    private String baseUrl() {
+        return "http://localhost:" + downstream.getAddress().getPort();
+    }
+}
@@ -0,0 +1,133 @@
+package com.living.hana.security;
+
+import com.living.hana.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청당 JWT 처리 비용 측정 (단위 테스트 아님, 기본 실행 제외)
+ * - 변경 전: 두 필터가 validate/subject/userType/userId 마다 파서를 새로 만들어 서명 검증 (요청당 6회)
+ * - 캐시 미스: 처음 보는 토큰마다 서명 검증 1회 + 토큰 해시 + 캐시 저장
+ * - 캐시 적중: 토큰 해시 + 맵 조회
+ * - 캐시 용량 초과: 활성 토큰 수가 jwt.claims-cache-size 를 넘어 캐시가 통째로 비워지는 상황
+ * - 요청 객체 생성 비용이 섞이지 않도록 요청당 한 번 호출되는 parseClaims 를 직접 측정
+ * - 판정 없이 측정값만 로그로 출력
+ * 실행: ./gradlew benchmark --tests '*JwtParsingBenchmark'
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class JwtParsingBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtParsingBenchmark.class);
+
+    private static final String SECRET = "x".repeat(64);
+    private static final int LEGACY_VERIFICATIONS_PER_REQUEST = 6;
+    private static final int CACHE_SIZE = 10_000;
+    private static final int WARMUP_REQUESTS = 20_000;
+    private static final int MEASURE_REQUESTS = 100_000;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private SecretKey legacyKey;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = newProvider(CACHE_SIZE);
+        legacyKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+    }
+
+    @Test
+    void measurePerRequestParsing() {
+        String token = jwtTokenProvider.generateToken(user(7L));
+
+        double legacy = nanosPerRequest(i -> legacyRequest(token));
+
+        // 매 요청이 처음 보는 토큰 (캐시 용량은 충분)
+        List<String> distinct = tokens(WARMUP_REQUESTS + MEASURE_REQUESTS);
+        JwtTokenProvider cold = newProvider(distinct.size());
+        double miss = nanosPerRequest(i -> cold.parseClaims(distinct.get(i)).subject().length());
+
+        double hit = nanosPerRequest(i -> jwtTokenProvider.parseClaims(token).subject().length());
+
+        // 활성 토큰이 캐시 용량보다 20% 많아 주기적으로 전체 비움이 발생
+        List<String> workingSet = distinct.subList(0, CACHE_SIZE + CACHE_SIZE / 5);
+        JwtTokenProvider churning = newProvider(CACHE_SIZE);
+        double overCapacity = nanosPerRequest(i -> churning.parseClaims(workingSet.get(i % workingSet.size())).subject().length());
+
+        log.info("요청당 JWT 처리 - 변경 전(검증 {}회): {} us, 캐시 미스: {} us, 캐시 적중: {} us, 캐시 용량 초과(토큰 {}개/용량 {}): {} us",
+                LEGACY_VERIFICATIONS_PER_REQUEST, micros(legacy), micros(miss), micros(hit),
+                workingSet.size(), CACHE_SIZE, micros(overCapacity));
+    }
+
+    /**
+     * 변경 전 필터 경로 재현: 호출마다 파서 생성 후 서명 검증
+     */
+    private int legacyRequest(String token) {
+        int sink = 0;
+        for (int i = 0; i < LEGACY_VERIFICATIONS_PER_REQUEST; i++) {
+            Claims claims = Jwts.parser().verifyWith(legacyKey).build().parseSignedClaims(token).getPayload();
+            sink += claims.getSubject().length();
+        }
+        return sink;
+    }
+
+    private static double nanosPerRequest(Request request) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            sink += request.run(i);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_REQUESTS; i++) {
+            sink += request.run(i);
+        }
+        double elapsed = System.nanoTime() - start;
+        if (sink == 42) {
+            log.trace("sink");
+        }
+        return elapsed / MEASURE_REQUESTS;
+    }
+
+    private List<String> tokens(int count) {
+        List<String> tokens = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            tokens.add(jwtTokenProvider.generateToken(user(id)));
+        }
+        return tokens;
+    }
+
+    private static JwtTokenProvider newProvider(int cacheSize) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(provider, "claimsCacheSize", cacheSize);
+        provider.init();
+        return provider;
+    }
+
+    private static User user(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUserCi("CI" + id);
+        return user;
+    }
+
+    private static String micros(double nanos) {
+        return String.format("%.2f", nanos / 1000.0);
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        int run(int i);
+    }
+}
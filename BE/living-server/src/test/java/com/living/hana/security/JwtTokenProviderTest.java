@@ -0,0 +1,70 @@
+package com.living.hana.security;
+
+import com.living.hana.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * JWT 클레임이 요청당 한 번만 검증되고, 반복 요청은 캐시된 클레임을 재사용하는지 검증
+ */
+class JwtTokenProviderTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret", "x".repeat(64));
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpiration", 60_000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "claimsCacheSize", 100);
+        jwtTokenProvider.init();
+    }
+
+    @Test
+    void parseClaims_reusesVerifiedClaimsForSameToken() {
+        String token = jwtTokenProvider.generateToken(user());
+
+        JwtClaims first = jwtTokenProvider.parseClaims(token);
+        JwtClaims second = jwtTokenProvider.parseClaims(token);
+
+        assertNotNull(first);
+        assertSame(first, second);
+        assertEquals("CI123", first.subject());
+        assertEquals("USER", first.userType());
+        assertEquals(7L, first.userId());
+    }
+
+    @Test
+    void parseClaims_rejectsTamperedToken() {
+        String token = jwtTokenProvider.generateToken(user());
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertNull(jwtTokenProvider.parseClaims(tampered));
+        assertNull(jwtTokenProvider.parseClaims(null));
+    }
+
+    @Test
+    void resolveClaims_parsesOncePerRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + jwtTokenProvider.generateToken(user()));
+
+        JwtClaims claims = jwtTokenProvider.resolveClaims(request);
+
+        assertSame(claims, request.getAttribute(JwtClaims.REQUEST_ATTRIBUTE));
+        assertSame(claims, jwtTokenProvider.resolveClaims(request));
+    }
+
+    private User user() {
+        User user = new User();
+        user.setId(7L);
+        user.setUserCi("CI123");
+        return user;
+    }
+}
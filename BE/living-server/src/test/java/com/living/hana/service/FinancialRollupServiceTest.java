@@ -0,0 +1,62 @@
+package com.living.hana.service;
+
+import com.living.hana.mapper.FinancialRollupMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.when;
+
+/**
+ * 셀 재계산이 셀 잠금 행을 잡은 뒤에만 DELETE+INSERT 하는지 검증 (동시 재계산 PK 위반 방지)
+ */
+@ExtendWith(MockitoExtension.class)
+class FinancialRollupServiceTest {
+
+    @Mock
+    private FinancialRollupMapper financialRollupMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FinancialRollupService financialRollupService;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        financialRollupService = new FinancialRollupService(financialRollupMapper, transactionManager);
+    }
+
+    @Test
+    void refresh_locksCellBeforeReplacingRows() {
+        financialRollupService.refreshAfterCommit(7L, "2025-03");
+
+        InOrder order = inOrder(financialRollupMapper, transactionManager);
+        order.verify(financialRollupMapper).mergeCellLock(7L, "2025-03");
+        order.verify(financialRollupMapper).lockCell(7L, "2025-03");
+        order.verify(financialRollupMapper).deleteCell(7L, "2025-03");
+        order.verify(financialRollupMapper).insertCell(7L, "2025-03-01", "2025-03-31");
+        order.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void refresh_locksExistingRowWhenConcurrentRefreshCreatedIt() {
+        when(financialRollupMapper.mergeCellLock(0L, "2025-02")).thenThrow(new DuplicateKeyException("ORA-00001"));
+
+        financialRollupService.refreshAfterCommit(null, "2025-02");
+
+        InOrder order = inOrder(financialRollupMapper, transactionManager);
+        order.verify(financialRollupMapper).lockCell(0L, "2025-02");
+        order.verify(financialRollupMapper).deleteCell(0L, "2025-02");
+        order.verify(financialRollupMapper).insertCell(null, "2025-02-01", "2025-02-28");
+        order.verify(transactionManager).commit(any());
+    }
+}
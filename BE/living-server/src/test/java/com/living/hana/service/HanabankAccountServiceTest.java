@@ -0,0 +1,65 @@
+package com.living.hana.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * limit 없이 조회한 페이지도 하나은행 기본 조회 건수 기준으로 마지막 페이지 여부를 판단하는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class HanabankAccountServiceTest {
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @InjectMocks
+    private HanabankAccountService hanabankAccountService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(hanabankAccountService, "hanabankDevUrl", "http://bank.test");
+    }
+
+    @Test
+    void resolveTotalCount_queriesCountWhenDefaultPageIsFull() {
+        when(restTemplate.getForEntity(eq("http://bank.test/customer/accounts/110-1/transactions/count"), eq(Map.class)))
+                .thenReturn(ResponseEntity.ok(Map.of("success", true, "data", 135)));
+
+        int total = hanabankAccountService.resolveTotalCount("110-1", null,
+                HanabankAccountService.HANABANK_DEFAULT_TRANSACTIONS_LIMIT, null,
+                HanabankAccountService.HANABANK_DEFAULT_TRANSACTIONS_LIMIT, null);
+
+        assertEquals(135, total);
+    }
+
+    @Test
+    void resolveTotalCount_usesPageSizeWhenDefaultPageIsShort() {
+        int total = hanabankAccountService.resolveTotalCount("110-1", "RENT", 7, null,
+                HanabankAccountService.HANABANK_DEFAULT_CATEGORY_LIMIT, 40);
+
+        assertEquals(47, total);
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void resolveTotalCount_fallsBackToPageEndWhenCountFails() {
+        when(restTemplate.getForEntity(anyString(), eq(Map.class))).thenThrow(new IllegalStateException("down"));
+
+        assertEquals(30, hanabankAccountService.resolveTotalCount("110-1", null, 10, 10, 20, 20));
+    }
+}
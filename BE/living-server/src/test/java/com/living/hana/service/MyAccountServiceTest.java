@@ -0,0 +1,170 @@
+package com.living.hana.service;
+
+import com.living.hana.client.HanaBankBalanceCache;
+import com.living.hana.client.HanaBankClient;
+import com.living.hana.dto.HanaBankAccountDto;
+import com.living.hana.dto.MyAccountsResponseDto;
+import com.living.hana.dto.MyAccountsResponseDto.BankAccountDto;
+import com.living.hana.entity.LinkedBankAccount;
+import com.living.hana.mapper.LinkedBankAccountMapper;
+import com.living.hana.mapper.LinkedSecuritiesAccountMapper;
+import com.living.hana.mapper.UserMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 연동 계좌 잔액이 동시 조회 수 제한 안에서 병렬로 조회되고,
+ * 제한 시간을 넘긴 계좌는 최근 값(stale)으로 응답되는지 검증
+ * (조회 도중 이체로 제거된 계좌의 이전 잔액은 캐시에 다시 저장되지 않는지 포함)
+ */
+@ExtendWith(MockitoExtension.class)
+class MyAccountServiceTest {
+
+    private static final long USER_ID = 1L;
+
+    @Mock
+    private UserMapper userMapper;
+
+    @Mock
+    private LinkedSecuritiesAccountMapper linkedAccountMapper;
+
+    @Mock
+    private LinkedBankAccountMapper linkedBankAccountMapper;
+
+    @Mock
+    private HanaBankClient hanaBankClient;
+
+    @Spy
+    private HanaBankBalanceCache balanceCache = new HanaBankBalanceCache();
+
+    @InjectMocks
+    private MyAccountService myAccountService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(balanceCache, "ttlMillis", 10_000L);
+        ReflectionTestUtils.setField(balanceCache, "staleTtlMillis", 300_000L);
+        ReflectionTestUtils.setField(balanceCache, "maxSize", 100);
+        ReflectionTestUtils.setField(myAccountService, "maxConcurrencyPerUser", 2);
+        ReflectionTestUtils.setField(myAccountService, "deadlineMillis", 2_000L);
+    }
+
+    @Test
+    void getMyAccounts_fetchesBalancesConcurrentlyWithinCap() {
+        List<String> accountNumbers = List.of("A1", "A2", "A3", "A4", "A5");
+        when(linkedBankAccountMapper.findAccountsByUserId(USER_ID)).thenReturn(linked(accountNumbers));
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(hanaBankClient.getAccountInfoAsync(anyString())).thenAnswer(invocation -> {
+            String accountNumber = invocation.getArgument(0);
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(() -> {
+                inFlight.decrementAndGet();
+                return account(accountNumber, 1000L);
+            }, CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+        });
+
+        MyAccountsResponseDto response = myAccountService.getMyAccounts(USER_ID);
+
+        List<BankAccountDto> bankAccounts = response.getBankAccounts();
+        assertEquals(accountNumbers, bankAccounts.stream().map(BankAccountDto::getAccountNumber).toList());
+        assertTrue(bankAccounts.stream().noneMatch(BankAccountDto::isStale));
+        assertEquals(2, maxInFlight.get());
+    }
+
+    @Test
+    void getMyAccounts_returnsStaleResultsWhenDeadlineExceeded() {
+        ReflectionTestUtils.setField(myAccountService, "deadlineMillis", 200L);
+        ReflectionTestUtils.setField(balanceCache, "ttlMillis", 0L);
+        balanceCache.put(account("SLOW_CACHED", 5000L), balanceCache.version());
+
+        when(linkedBankAccountMapper.findAccountsByUserId(USER_ID))
+                .thenReturn(linked(List.of("FAST", "SLOW_CACHED", "SLOW_NEW")));
+        when(hanaBankClient.getAccountInfoAsync("FAST"))
+                .thenReturn(CompletableFuture.completedFuture(account("FAST", 1000L)));
+        when(hanaBankClient.getAccountInfoAsync("SLOW_CACHED")).thenReturn(new CompletableFuture<>());
+        when(hanaBankClient.getAccountInfoAsync("SLOW_NEW")).thenReturn(new CompletableFuture<>());
+
+        List<BankAccountDto> bankAccounts = myAccountService.getMyAccounts(USER_ID).getBankAccounts();
+
+        assertEquals(3, bankAccounts.size());
+        assertFalse(bankAccounts.get(0).isStale());
+        assertEquals(1000L, bankAccounts.get(0).getBalance());
+        assertTrue(bankAccounts.get(1).isStale());
+        assertEquals(5000L, bankAccounts.get(1).getBalance());
+        assertTrue(bankAccounts.get(2).isStale());
+        assertNull(bankAccounts.get(2).getBalance());
+    }
+
+    @Test
+    void getMyAccounts_reusesFreshCachedBalances() {
+        balanceCache.put(account("CACHED", 7000L), balanceCache.version());
+        when(linkedBankAccountMapper.findAccountsByUserId(USER_ID)).thenReturn(linked(List.of("CACHED")));
+
+        List<BankAccountDto> bankAccounts = myAccountService.getMyAccounts(USER_ID).getBankAccounts();
+
+        assertEquals(7000L, bankAccounts.get(0).getBalance());
+        verify(hanaBankClient, never()).getAccountInfoAsync(anyString());
+    }
+
+    @Test
+    void getMyAccounts_doesNotCacheBalanceFetchedBeforeTransfer() {
+        when(linkedBankAccountMapper.findAccountsByUserId(USER_ID)).thenReturn(linked(List.of("A1")));
+        when(hanaBankClient.getAccountInfoAsync("A1"))
+                .thenAnswer(invocation -> {
+                    // 하나은행이 이체 전 잔액을 돌려주는 사이에 이체가 완료되어 캐시가 제거됨
+                    balanceCache.evict("A1");
+                    return CompletableFuture.completedFuture(account("A1", 1000L));
+                })
+                .thenReturn(CompletableFuture.completedFuture(account("A1", 400L)));
+
+        assertEquals(1000L, myAccountService.getMyAccounts(USER_ID).getBankAccounts().get(0).getBalance());
+        assertNull(balanceCache.getFresh("A1"));
+        assertNull(balanceCache.getLastKnown("A1"));
+
+        // 이체 이후 시작한 조회 결과는 정상적으로 저장
+        assertEquals(400L, myAccountService.getMyAccounts(USER_ID).getBankAccounts().get(0).getBalance());
+        assertEquals(400L, balanceCache.getFresh("A1").getBalance());
+        verify(hanaBankClient, times(2)).getAccountInfoAsync("A1");
+    }
+
+    private List<LinkedBankAccount> linked(List<String> accountNumbers) {
+        return accountNumbers.stream().map(accountNumber -> {
+            LinkedBankAccount linkedAccount = new LinkedBankAccount();
+            linkedAccount.setAccountNumber(accountNumber);
+            linkedAccount.setStatus("ACTIVE");
+            return linkedAccount;
+        }).toList();
+    }
+
+    private HanaBankAccountDto account(String accountNumber, long balance) {
+        return HanaBankAccountDto.builder()
+                .accountNumber(accountNumber)
+                .balance(balance)
+                .bankCode("088")
+                .status("ACTIVE")
+                .build();
+    }
+}
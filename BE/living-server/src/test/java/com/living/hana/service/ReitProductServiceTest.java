@@ -0,0 +1,92 @@
+package com.living.hana.service;
+
+import com.living.hana.dto.ReitBuildingMappingResponse;
+import com.living.hana.entity.ReitProduct;
+import com.living.hana.mapper.BuildingMapper;
+import com.living.hana.mapper.ReitBuildingMappingMapper;
+import com.living.hana.mapper.ReitDividendMapper;
+import com.living.hana.mapper.ReitProductMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 리츠-건물 매핑 조회가 매핑 건수와 무관하게 고정된 횟수의 쿼리로 처리되는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class ReitProductServiceTest {
+
+    @Mock
+    private ReitProductMapper reitProductMapper;
+
+    @Mock
+    private ReitBuildingMappingMapper reitBuildingMappingMapper;
+
+    @Mock
+    private ReitDividendMapper reitDividendMapper;
+
+    @Mock
+    private BuildingMapper buildingMapper;
+
+    @InjectMocks
+    private ReitProductService reitProductService;
+
+    @Test
+    void findBuildingsByProduct_usesSingleJoinQuery() {
+        when(reitBuildingMappingMapper.findResponsesByProductCode("REIT001", false)).thenReturn(List.of(
+                ReitBuildingMappingResponse.builder().mappingId(1L).buildingId(10L).buildingName("A").build(),
+                ReitBuildingMappingResponse.builder().mappingId(2L).buildingId(20L).buildingName("B").build(),
+                ReitBuildingMappingResponse.builder().mappingId(3L).buildingId(30L).buildingName("C").build()));
+
+        List<ReitBuildingMappingResponse> result = reitProductService.findBuildingsByProduct("REIT001");
+
+        assertEquals(3, result.size());
+        verify(reitBuildingMappingMapper, times(1)).findResponsesByProductCode("REIT001", false);
+        verifyNoMoreInteractions(reitBuildingMappingMapper);
+        verifyNoInteractions(buildingMapper);
+    }
+
+    @Test
+    void findReitsByBuildingIds_usesOneQueryPerBatchAndDeduplicates() {
+        ReitProduct shared = product("REIT001");
+        when(reitProductMapper.findActiveByBuildingIds(anyList()))
+                .thenReturn(List.of(shared, product("REIT002")))
+                .thenReturn(List.of(shared, product("REIT003")))
+                .thenReturn(List.of(product("REIT004")));
+
+        List<Long> buildingIds = LongStream.rangeClosed(1, 2500).boxed().toList();
+        List<ReitProduct> result = reitProductService.findReitsByBuildingIds(buildingIds);
+
+        // 2500건 -> IN 목록 1000건 단위 3회, 상품 코드 기준 중복 제거
+        verify(reitProductMapper, times(3)).findActiveByBuildingIds(anyList());
+        verifyNoMoreInteractions(reitProductMapper);
+        verifyNoInteractions(reitBuildingMappingMapper);
+        assertEquals(List.of("REIT001", "REIT002", "REIT003", "REIT004"),
+                result.stream().map(ReitProduct::getProductCode).toList());
+    }
+
+    @Test
+    void findReitsByBuildingIds_emptyInputRunsNoQuery() {
+        assertEquals(0, reitProductService.findReitsByBuildingIds(List.of()).size());
+        verifyNoInteractions(reitProductMapper, reitBuildingMappingMapper);
+    }
+
+    private ReitProduct product(String productCode) {
+        ReitProduct product = new ReitProduct();
+        product.setProductCode(productCode);
+        return product;
+    }
+}
@@ -0,0 +1,161 @@
+package com.living.hana.service;
+
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 업로드가 파일 전체를 힙에 올리지 않고 MultipartFile 의 스트림을 고정 버퍼 크기로 GCS 에 넘기는지 검증
+ * - 스텁: 인자 전달만 확인
+ * - 파일시스템 대역: createFrom 이 실제 GCS 클라이언트처럼 버퍼 크기 단위로 스트림을 비워 파일에 기록
+ */
+@ExtendWith(MockitoExtension.class)
+class StorageServiceTest {
+
+    @Mock
+    private Storage storage;
+
+    @InjectMocks
+    private StorageService storageService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(storageService, "bucketName", "test-bucket");
+    }
+
+    @Test
+    void uploadFile_passesInputStreamThroughWithFixedBuffer() throws Exception {
+        InputStream content = new GeneratedInputStream(4 * 1024);
+        MultipartFile file = mock(MultipartFile.class);
+        when(file.getOriginalFilename()).thenReturn("contract.pdf");
+        when(file.getContentType()).thenReturn("application/pdf");
+        when(file.getInputStream()).thenReturn(content);
+        when(storage.createFrom(any(BlobInfo.class), any(InputStream.class), anyInt())).thenReturn(mock(Blob.class));
+
+        String fileName = storageService.uploadFile(file, "contracts");
+
+        ArgumentCaptor<BlobInfo> blobInfo = ArgumentCaptor.forClass(BlobInfo.class);
+        verify(storage).createFrom(blobInfo.capture(), same(content), eq(StorageService.UPLOAD_BUFFER_SIZE));
+        verify(file, never()).getBytes();
+        assertTrue(fileName.startsWith("contracts/") && fileName.endsWith(".pdf"));
+        assertEquals(fileName, blobInfo.getValue().getName());
+        assertEquals("application/pdf", blobInfo.getValue().getContentType());
+    }
+
+    @Test
+    void uploadFile_streamsLargeFileInBufferSizedChunks(@TempDir Path bucketDir) throws Exception {
+        long size = 64L * 1024 * 1024;  // 버퍼의 256배
+        GeneratedInputStream content = new GeneratedInputStream(size);
+        MultipartFile file = mock(MultipartFile.class);
+        when(file.getOriginalFilename()).thenReturn("video.mp4");
+        when(file.getContentType()).thenReturn("video/mp4");
+        when(file.getInputStream()).thenReturn(content);
+        when(storage.createFrom(any(BlobInfo.class), any(InputStream.class), anyInt()))
+                .thenAnswer(invocation -> fileSystemCreateFrom(bucketDir,
+                        invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+
+        String fileName = storageService.uploadFile(file, "videos");
+
+        Path stored = bucketDir.resolve(fileName.replace('/', '_'));
+        assertEquals(size, Files.size(stored));
+        assertEquals(checksumOf(new GeneratedInputStream(size)), checksumOf(Files.newInputStream(stored)));
+        // 한 번에 읽어 들인(=힙에 머문) 최대 크기가 업로드 버퍼를 넘지 않음
+        assertTrue(content.maxReadSize > 0 && content.maxReadSize <= StorageService.UPLOAD_BUFFER_SIZE);
+        assertTrue(content.closed);
+        verify(file, never()).getBytes();
+    }
+
+    /**
+     * 파일시스템 대역 createFrom: 재개 가능 업로드처럼 chunkSize 버퍼 하나로 스트림을 끝까지 읽어 기록
+     */
+    private static Blob fileSystemCreateFrom(Path bucketDir, BlobInfo blobInfo, InputStream content, int chunkSize) throws Exception {
+        byte[] chunk = new byte[chunkSize];
+        try (OutputStream out = Files.newOutputStream(bucketDir.resolve(blobInfo.getName().replace('/', '_')))) {
+            int read;
+            while ((read = content.read(chunk, 0, chunk.length)) != -1) {
+                out.write(chunk, 0, read);
+            }
+        }
+        return mock(Blob.class);
+    }
+
+    private static long checksumOf(InputStream in) throws Exception {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (in) {
+            int read;
+            while ((read = in.read(buffer, 0, buffer.length)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * 메모리에 내용을 보관하지 않고 지정 크기만큼 바이트를 생성하는 스트림 (한 번에 요청된 최대 읽기 크기 기록)
+     */
+    private static class GeneratedInputStream extends InputStream {
+        private long remaining;
+        private int maxReadSize;
+        private boolean closed;
+
+        private GeneratedInputStream(long size) {
+            this.remaining = size;
+        }
+
+        @Override
+        public int read() {
+            if (remaining <= 0) {
+                return -1;
+            }
+            remaining--;
+            return (int) (remaining & 0xFF);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (remaining <= 0) {
+                return -1;
+            }
+            maxReadSize = Math.max(maxReadSize, len);
+            int count = (int) Math.min(len, remaining);
+            for (int i = 0; i < count; i++) {
+                b[off + i] = (byte) (remaining - i);
+            }
+            remaining -= count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
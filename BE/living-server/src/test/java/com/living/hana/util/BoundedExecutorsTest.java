@@ -0,0 +1,118 @@
+package com.living.hana.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 플랫폼 풀/가상 스레드 모드 모두 동시 실행 수 한도를 지키는지 검증
+ * (가상 스레드 모드 검증은 Java 21 이상 JVM 에서만 실행)
+ */
+class BoundedExecutorsTest {
+
+    private static final int LIMIT = 3;
+    private static final int TASKS = 30;
+
+    @Test
+    void newExecutor_platformPoolCapsConcurrency() throws Exception {
+        assertEquals(LIMIT, maxInFlight(BoundedExecutors.newExecutor("test-platform", LIMIT, false)));
+    }
+
+    @Test
+    void newExecutor_virtualModeCapsConcurrencyWithThreadPerTask() throws Exception {
+        assumeTrue(BoundedExecutors.virtualThreadsSupported(), "가상 스레드는 Java 21 이상 필요");
+
+        ExecutorService executor = BoundedExecutors.newExecutor("test-virtual", LIMIT, true);
+        assertTrue(isVirtual(executor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS)));
+        assertEquals(LIMIT, maxInFlight(executor));
+    }
+
+    @Test
+    void newExecutor_fallsBackToPlatformThreadsWithoutVirtualSupport() throws Exception {
+        assumeTrue(!BoundedExecutors.virtualThreadsSupported());
+
+        ExecutorService executor = BoundedExecutors.newExecutor("test-fallback", LIMIT, true);
+        Thread worker = executor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+        assertTrue(worker.getName().startsWith("test-fallback-"));
+        assertEquals(LIMIT, maxInFlight(executor));
+    }
+
+    @Test
+    void newScheduler_virtualModeRunsPeriodicTasksWithoutOverlap() throws Exception {
+        assumeTrue(BoundedExecutors.virtualThreadsSupported(), "가상 스레드는 Java 21 이상 필요");
+
+        ScheduledExecutorService scheduler = BoundedExecutors.newScheduler("test-scheduler", 2, true);
+        try {
+            assertTrue(isVirtual(scheduler.schedule(Thread::currentThread, 10, TimeUnit.MILLISECONDS).get(5, TimeUnit.SECONDS)));
+
+            // 본문(30ms)이 주기(5ms)보다 길어도 같은 작업은 한 번에 하나만 실행
+            AtomicInteger inFlight = new AtomicInteger();
+            AtomicInteger maxInFlight = new AtomicInteger();
+            CountDownLatch runs = new CountDownLatch(5);
+            ScheduledFuture<?> periodic = scheduler.scheduleAtFixedRate(() -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                sleep(30);
+                inFlight.decrementAndGet();
+                runs.countDown();
+            }, 0, 5, TimeUnit.MILLISECONDS);
+
+            assertTrue(runs.await(5, TimeUnit.SECONDS));
+            periodic.cancel(false);
+            assertEquals(1, maxInFlight.get());
+        } finally {
+            scheduler.shutdown();
+        }
+        assertTrue(scheduler.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * 짧게 대기하는 작업을 한 번에 제출하고 동시에 실행된 최대 작업 수 반환
+     */
+    private static int maxInFlight(ExecutorService executor) throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < TASKS; i++) {
+                futures.add(executor.submit(() -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    sleep(20);
+                    inFlight.decrementAndGet();
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertFalse(maxInFlight.get() > LIMIT);
+        return maxInFlight.get();
+    }
+
+    private static boolean isVirtual(Thread thread) throws ReflectiveOperationException {
+        return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.living.hana.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 정규식 없이 한 번의 순회로 처리하는 JSON 마스킹이 키/값/카드번호를 올바르게 처리하는지 검증
+ */
+class SensitiveDataMaskerTest {
+
+    @Test
+    void maskJson_masksEachSensitiveKeyIgnoringCaseAndWhitespace() {
+        String json = "{\"password\":\"abc\",\"Token\" : \"t\",\"secret\":\"s\",\"AUTHORIZATION\":\"Bearer x\",\"name\":\"kim\"}";
+
+        assertEquals("{\"password\":\"***\",\"Token\" : \"***\",\"secret\":\"***\",\"AUTHORIZATION\":\"***\",\"name\":\"kim\"}",
+                SensitiveDataMasker.maskJson(json));
+    }
+
+    @Test
+    void maskJson_onlyMatchesExactKeyNames() {
+        String json = "{\"accessToken\":\"abc\",\"passwordHint\":\"pet\"}";
+
+        assertEquals(json, SensitiveDataMasker.maskJson(json));
+    }
+
+    @Test
+    void maskJson_handlesEscapedQuotes() {
+        assertEquals("{\"password\":\"***\",\"name\":\"kim\"}",
+                SensitiveDataMasker.maskJson("{\"password\":\"a\\\"b\\\\\",\"name\":\"kim\"}"));
+
+        // 문자열 값 안에 들어 있는 키 모양 텍스트는 키로 보지 않음
+        String nested = "{\"note\":\"say \\\"password\\\":\\\"x\\\" here\"}";
+        assertEquals(nested, SensitiveDataMasker.maskJson(nested));
+    }
+
+    @Test
+    void maskJson_leavesNonStringValuesUntouched() {
+        String json = "{\"password\":1234,\"token\":null,\"secret\":true,\"authorization\":{\"type\":\"basic\"}}";
+
+        assertEquals(json, SensitiveDataMasker.maskJson(json));
+    }
+
+    @Test
+    void maskJson_toleratesTruncatedAndMalformedInput() {
+        assertNull(SensitiveDataMasker.maskJson(null));
+        assertEquals("", SensitiveDataMasker.maskJson(""));
+        assertEquals("{\"password\":\"***\"", SensitiveDataMasker.maskJson("{\"password\":\"abc"));
+        assertEquals("{\"password\":\"***\"", SensitiveDataMasker.maskJson("{\"password\":\"ab\\"));
+        assertEquals("{\"passw", SensitiveDataMasker.maskJson("{\"passw"));
+        assertEquals("{\"password\"", SensitiveDataMasker.maskJson("{\"password\""));
+        assertEquals("{\"password\": ", SensitiveDataMasker.maskJson("{\"password\": "));
+        assertEquals("password: \"abc\"", SensitiveDataMasker.maskJson("password: \"abc\""));
+    }
+
+    @Test
+    void maskJson_masksSixteenDigitRunsInsideAndOutsideStrings() {
+        assertEquals("{\"cardNo\":\"1234-****-****-5678\"}", SensitiveDataMasker.maskJson("{\"cardNo\":\"1234567812345678\"}"));
+        assertEquals("card 1234-****-****-5678 end", SensitiveDataMasker.maskJson("card 1234567812345678 end"));
+        assertEquals("123456781234567", SensitiveDataMasker.maskJson("123456781234567"));
+    }
+
+    @Test
+    void maskJson_masksDigitRunsLongerThanSixteenInSixteenDigitBlocks() {
+        assertEquals("1234-****-****-34567890", SensitiveDataMasker.maskJson("12345678901234567890"));
+        assertEquals("1234-****-****-56781234-****-****-5678",
+                SensitiveDataMasker.maskJson("12345678123456781234567812345678"));
+    }
+}